@@ -0,0 +1,53 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The class BenchmarkMain is used to run the benchmarks with the JMH GC profiler always
+ * enabled, meaning every result reports the bytes allocated per operation along with its
+ * throughput or time. Any JMH command line options are accepted, for example a pattern
+ * selecting the benchmarks to run:
+ * <pre>
+ * java -jar target/benchmarks.jar ParseBenchmark RequestBenchmark
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class BenchmarkMain {
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor as the class only contains static methods.
+	 */
+	private BenchmarkMain() {
+	}
+	
+	/*---- Method ----*/
+	/**
+	 * This method runs the benchmarks selected by the JMH command line options.
+	 * 
+	 * @param args JMH command line options.
+	 * @throws CommandLineOptionException if the options could not be parsed.
+	 * @throws RunnerException if a benchmark could not be run.
+	 * @throws IOException if the benchmarks could not be listed.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions options = new CommandLineOptions(args);
+		
+		// Let JMH handle requests for help or listings.
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams() || options.shouldListProfilers() || options.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		
+		new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+	}
+}
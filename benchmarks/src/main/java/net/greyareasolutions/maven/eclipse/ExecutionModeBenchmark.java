@@ -0,0 +1,159 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The class ExecutionModeBenchmark is used to compare each {@link ExecutionMode} of
+ * {@link MultiHtmlScanner}. A local server is started which answers every request after a
+ * fixed latency, meaning the benchmark measures how well each mode overlaps waiting requests
+ * rather than the speed of the network.
+ * 
+ * The benchmark should be run on Java 21 or later so that {@link ExecutionMode#VIRTUAL} uses
+ * virtual threads, an example can be seen below:
+ * <pre>
+ * java -jar target/benchmarks.jar ExecutionModeBenchmark -prof gc
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+	/*---- Parameters ----*/
+	/**
+	 * Parameter which stores the name of the mode being measured.
+	 */
+	@Param({"PLATFORM", "ASYNC", "VIRTUAL"})
+	public String mode;
+	
+	/**
+	 * Parameter which stores the amount of sub URIs requested per invocation.
+	 */
+	@Param({"2000"})
+	public int requests;
+	
+	/**
+	 * Parameter which stores the limit of requests in flight for the async and virtual modes.
+	 */
+	@Param({"256"})
+	public int concurrency;
+	
+	/**
+	 * Parameter which stores the time the server waits before answering each request.
+	 */
+	@Param({"20"})
+	public int latencyMillis;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the local server answering the requests.
+	 */
+	private HttpServer server;
+	
+	/**
+	 * Field which stores the executor used by the local server.
+	 */
+	private ExecutorService serverExecutor;
+	
+	/**
+	 * Field which stores the options pointing at the local server.
+	 */
+	private HttpOptions options;
+	
+	/**
+	 * Field which stores the sub URIs requested per invocation.
+	 */
+	private ArrayList<String> subUris;
+	
+	/*---- Methods ----*/
+	/**
+	 * Starts the local server and creates the sub URIs.
+	 * 
+	 * @throws IOException if the server could not be started.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		// Create a small page containing each type of finding.
+		byte[] page = "<html><head><meta name=\"x\" content=\"y\"></head><body><!-- comment --><input type=\"hidden\" value=\"1\"></body></html>".getBytes(StandardCharsets.UTF_8);
+		
+		// Start a server on any free port, each request waits for the latency before answering.
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+		this.server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(this.latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(200, page.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(page);
+			}
+		});
+		this.serverExecutor = Executors.newCachedThreadPool();
+		this.server.setExecutor(this.serverExecutor);
+		this.server.start();
+		
+		// Point the options at the local server.
+		this.options = new HttpOptions(URI.create("http://127.0.0.1:" + this.server.getAddress().getPort() + "/"));
+		
+		// Create a distinct sub URI for each request.
+		this.subUris = new ArrayList<>();
+		for (int i = 0; i < this.requests; i++) {
+			this.subUris.add("page/" + i);
+		}
+	}
+	
+	/**
+	 * Stops the local server.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+	
+	/**
+	 * Sends every sub URI request using the mode being measured.
+	 * 
+	 * @return the responses, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public HashMap<URI, String> generateResponses() {
+		MultiHtmlScanner multiHtmlScanner = new MultiHtmlScanner(this.options, this.subUris);
+		multiHtmlScanner.setExecutionMode(ExecutionMode.valueOf(this.mode));
+		multiHtmlScanner.setConcurrency(this.concurrency);
+		multiHtmlScanner.generateResponses();
+		return multiHtmlScanner.getResponses();
+	}
+}
@@ -0,0 +1,134 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The class ExtractionBenchmark is used to compare the single pass {@link FindingsExtractor}
+ * against the previous approach, in which the document was walked once for comments and
+ * then again by a selector for each other requested type.
+ * 
+ * The document is parsed once per trial, meaning only the extraction is measured.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtractionBenchmark {
+	/*---- Parameters ----*/
+	/**
+	 * Parameter which stores the approximate size of the page.
+	 */
+	@Param({"16384", "1048576", "8388608"})
+	public int pageBytes;
+	
+	/**
+	 * Parameter which stores the requested flags, separated by commas.
+	 */
+	@Param({"-c", "-hi", "-m", "-c,-hi", "-c,-hi,-m"})
+	public String flags;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the parsed page.
+	 */
+	private Document html;
+	
+	/**
+	 * Field which stores the requested types.
+	 */
+	private EnumSet<FindingType> types;
+	
+	/**
+	 * Field which stores the extractor being measured.
+	 */
+	private FindingsExtractor extractor;
+	
+	/*---- Methods ----*/
+	/**
+	 * Parses the page and creates the extractor.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.html = Jsoup.parse(PageGenerator.generate(this.pageBytes));
+		this.types = EnumSet.noneOf(FindingType.class);
+		for (String flag : this.flags.split(",")) {
+			for (FindingType type : FindingType.values()) {
+				if (type.getFlag().equals(flag)) {
+					this.types.add(type);
+				}
+			}
+		}
+		this.extractor = new FindingsExtractor(this.types);
+	}
+	
+	/**
+	 * Extracts every requested type with a single visitor pass.
+	 * 
+	 * @return the findings, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public Findings singlePass() {
+		return this.extractor.extract(this.html);
+	}
+	
+	/**
+	 * Extracts every requested type with a separate walk of the document for each type.
+	 * 
+	 * @return the findings, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public Findings multiPass() {
+		Findings findings = new Findings();
+		
+		// Walk every element's child nodes for comments.
+		if (this.types.contains(FindingType.COMMENT)) {
+			for (Element element : this.html.getAllElements()) {
+				for (Node child : element.childNodes()) {
+					if (child.nodeName().equals("#comment")) {
+						findings.add(FindingType.COMMENT, ((Comment) child).getData().strip());
+					}
+				}
+			}
+		}
+		
+		// Walk the document again for hidden elements.
+		if (this.types.contains(FindingType.HIDDEN_INPUT)) {
+			for (Element hiddenInput : this.html.select("[type=hidden]")) {
+				findings.add(FindingType.HIDDEN_INPUT, hiddenInput.toString());
+			}
+		}
+		
+		// Walk the document again for meta elements.
+		if (this.types.contains(FindingType.META)) {
+			for (Element metaElement : this.html.select("meta")) {
+				findings.add(FindingType.META, metaElement.toString());
+			}
+		}
+		return findings;
+	}
+}
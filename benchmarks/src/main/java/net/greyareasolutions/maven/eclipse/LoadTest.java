@@ -0,0 +1,317 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The class LoadTest is used to drive the full scanner pipeline against a {@link StubServer}
+ * on the local machine, so that execution modes and concurrency settings can be compared
+ * reproducibly without a network. Each combination of mode and concurrency sends the same
+ * sub URIs through a {@link MultiHtmlScanner}, extracting the findings of every page, after
+ * which the following are printed:
+ * <ul>
+ * <li>requests per second;</li>
+ * <li>the 50th and 99th percentile latency of each request, including any retries;</li>
+ * <li>the highest amount of heap used, sampled every 10 milliseconds;</li>
+ * <li>the highest amount of live threads.</li>
+ * </ul>
+ * 
+ * An example can be seen below, run without arguments to list every option:
+ * <pre>
+ * java -cp target/benchmarks.jar net.greyareasolutions.maven.eclipse.LoadTest -requests 100000 -modes platform,async,virtual -concurrency 64,256
+ * </pre>
+ * 
+ * A warm-up run is sent before each measured run, so that the measured run is not slowed by
+ * the JIT compiler.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class LoadTest {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores how often, in milliseconds, the heap is sampled.
+	 */
+	private static final long SAMPLE_INTERVAL = 10;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor as the class only contains static methods.
+	 */
+	private LoadTest() {
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method starts the server, then measures each combination of mode and concurrency.
+	 * 
+	 * @param args options of the load test.
+	 * @throws IOException if the server could not be started.
+	 * @throws InterruptedException if interrupted whilst sampling the heap.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		// Default options.
+		int requests = 10_000;
+		int warmup = 1_000;
+		String modes = "platform,async,virtual";
+		String concurrencies = Integer.toString(MultiHtmlScanner.DEFAULT_CONCURRENCY);
+		int pageBytes = 64 * 1024;
+		int commentEvery = 10;
+		int hiddenEvery = 25;
+		int metas = 8;
+		double latency = 20;
+		double spread = 0.5;
+		double errorRate = 0.01;
+		long seed = 1;
+		int retries = 0;
+		boolean stream = false;
+		
+		// Parse the options, each being followed by its value apart from -stream.
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case "-requests": requests = Integer.parseInt(args[++i]); break;
+					case "-warmup": warmup = Integer.parseInt(args[++i]); break;
+					case "-modes": modes = args[++i]; break;
+					case "-concurrency": concurrencies = args[++i]; break;
+					case "-pageBytes": pageBytes = Integer.parseInt(args[++i]); break;
+					case "-commentEvery": commentEvery = Integer.parseInt(args[++i]); break;
+					case "-hiddenEvery": hiddenEvery = Integer.parseInt(args[++i]); break;
+					case "-metas": metas = Integer.parseInt(args[++i]); break;
+					case "-latency": latency = Double.parseDouble(args[++i]); break;
+					case "-spread": spread = Double.parseDouble(args[++i]); break;
+					case "-errorRate": errorRate = Double.parseDouble(args[++i]); break;
+					case "-seed": seed = Long.parseLong(args[++i]); break;
+					case "-retries": retries = Integer.parseInt(args[++i]); break;
+					case "-stream": stream = true; break;
+					default: usage(); return;
+				}
+			}
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+			usage();
+			return;
+		}
+		
+		String page = PageGenerator.generate(pageBytes, commentEvery, hiddenEvery, metas);
+		try (StubServer server = new StubServer(page, latency, spread, errorRate, seed)) {
+			System.out.printf("Serving %d byte pages from %s, median latency %.1f ms, spread %.2f, error rate %.3f%n%n", page.length(), server.getUri(), latency, spread, errorRate);
+			System.out.printf("%-8s %11s %9s %8s %10s %10s %10s %12s %8s%n", "mode", "concurrency", "requests", "errors", "req/s", "p50 ms", "p99 ms", "heap max MB", "threads");
+			
+			for (String mode : modes.split(",")) {
+				for (String concurrency : concurrencies.split(",")) {
+					ExecutionMode executionMode = ExecutionMode.fromString(mode.strip());
+					if (executionMode == null) {
+						System.out.println("Invalid mode " + mode + "! Expected platform, async, or virtual.");
+						return;
+					}
+					
+					// Warm up with sub URIs different to the measured run.
+					run(server.getUri(), executionMode, Integer.parseInt(concurrency.strip()), subUris("warmup/", warmup), retries, stream);
+					
+					// Measure the run.
+					Report report = run(server.getUri(), executionMode, Integer.parseInt(concurrency.strip()), subUris("page/", requests), retries, stream);
+					System.out.printf("%-8s %11s %9d %8d %10.0f %10.2f %10.2f %12.1f %8d%n", executionMode.name().toLowerCase(), concurrency.strip(), report.requests, report.errors,
+							report.requests / (report.nanos / 1e9), report.p50 / 1e6, report.p99 / 1e6, report.heapBytes / (1024.0 * 1024.0), report.threads);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * This method sends every sub URI through a new engine, measuring the run.
+	 * 
+	 * @param root root URI of the server.
+	 * @param mode mode used to send the requests.
+	 * @param concurrency limit of requests in flight.
+	 * @param subUris sub URIs requested.
+	 * @param retries amount of times a failed request is retried.
+	 * @param stream whether responses are parsed whilst being read.
+	 * @return the measurements of the run.
+	 * @throws InterruptedException if interrupted whilst sampling the heap.
+	 */
+	private static Report run(URI root, ExecutionMode mode, int concurrency, List<String> subUris, int retries, boolean stream) throws InterruptedException {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Report report = new Report();
+		LatencyTracker latencies = new LatencyTracker(subUris.size());
+		AtomicLong errors = new AtomicLong();
+		
+		// Start from a collected heap, and sample it until the run has finished.
+		System.gc();
+		AtomicLong heapBytes = new AtomicLong();
+		Thread sampler = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				heapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+				try {
+					Thread.sleep(SAMPLE_INTERVAL);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}, "HeapSampler");
+		sampler.setDaemon(true);
+		threads.resetPeakThreadCount();
+		sampler.start();
+		
+		long start = System.nanoTime();
+		try (TimedEngine engine = new TimedEngine(new HttpOptions(root), latencies)) {
+			engine.setExtractor(new FindingsExtractor(EnumSet.allOf(FindingType.class)));
+			engine.setStreaming(stream);
+			engine.setRetryPolicy(new RetryPolicy(retries + 1));
+			
+			MultiHtmlScanner scanner = new MultiHtmlScanner(engine, subUris);
+			scanner.setExecutionMode(mode);
+			scanner.setConcurrency(concurrency);
+			scanner.generateResponses(result -> {
+				if (!result.isSuccessful() || result.getStatusCode() >= 400) {
+					errors.incrementAndGet();
+				}
+			});
+		}
+		report.nanos = System.nanoTime() - start;
+		
+		sampler.interrupt();
+		sampler.join();
+		report.requests = latencies.getCount();
+		report.errors = errors.get();
+		report.p50 = latencies.percentile(0.50);
+		report.p99 = latencies.percentile(0.99);
+		report.heapBytes = heapBytes.get();
+		report.threads = threads.getPeakThreadCount();
+		return report;
+	}
+	
+	/**
+	 * This method creates distinct sub URIs.
+	 * 
+	 * @param prefix prefix of each sub URI.
+	 * @param amount amount of sub URIs.
+	 * @return the sub URIs.
+	 */
+	private static List<String> subUris(String prefix, int amount) {
+		List<String> subUris = new ArrayList<>(amount);
+		for (int i = 0; i < amount; i++) {
+			subUris.add(prefix + i);
+		}
+		return subUris;
+	}
+	
+	/**
+	 * This method prints every option of the load test.
+	 */
+	private static void usage() {
+		System.out.println("This load test takes the following options:");
+		System.out.println("\t-requests: The amount of requests measured for each mode and concurrency, default is 10000.");
+		System.out.println("\t-warmup: The amount of requests sent before each measured run, default is 1000.");
+		System.out.println("\t-modes: The modes measured, separated by commas, default is platform,async,virtual.");
+		System.out.println("\t-concurrency: The limits of requests in flight measured, separated by commas, default is 256.");
+		System.out.println("\t-pageBytes: The approximate size of each page, default is 65536.");
+		System.out.println("\t-commentEvery: A comment is added to every nth block of each page, default is 10, 0 for none.");
+		System.out.println("\t-hiddenEvery: A hidden input is added to every nth block of each page, default is 25, 0 for none.");
+		System.out.println("\t-metas: The amount of meta elements of each page, default is 8.");
+		System.out.println("\t-latency: The median latency of each response in milliseconds, default is 20.");
+		System.out.println("\t-spread: The spread of the log-normal latencies, default is 0.5, 0 for a fixed latency.");
+		System.out.println("\t-errorRate: The share of responses answered with a 500 status, default is 0.01.");
+		System.out.println("\t-seed: The seed of the latencies and errors, default is 1.");
+		System.out.println("\t-retries: The amount of times a failed request is retried, default is 0.");
+		System.out.println("\t-stream: Used to parse each response whilst it is being read.");
+	}
+	
+	/*---- Private Classes ----*/
+	/**
+	 * This class is used to measure the latency of each request sent through the engine,
+	 * from the engine being asked for the URI until its result is returned.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private static class TimedEngine extends HtmlScannerEngine {
+		/*---- Field ----*/
+		/**
+		 * Field which stores the latency of every request.
+		 */
+		private final LatencyTracker latencies;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise the engine.
+		 * 
+		 * @param options options of each request.
+		 * @param latencies tracker recording the latency of every request.
+		 */
+		TimedEngine(HttpOptions options, LatencyTracker latencies) {
+			super(options);
+			this.latencies = latencies;
+		}
+		
+		/*---- Overridden Methods ----*/
+		@Override
+		public ScanResult scan(URI uri) {
+			long start = System.nanoTime();
+			ScanResult result = super.scan(uri);
+			this.latencies.record(System.nanoTime() - start);
+			return result;
+		}
+		
+		@Override
+		public CompletableFuture<ScanResult> scanAsync(URI uri) {
+			long start = System.nanoTime();
+			return super.scanAsync(uri).whenComplete((result, throwable) -> this.latencies.record(System.nanoTime() - start));
+		}
+	}
+	
+	/**
+	 * This class is used to store the measurements of a single run.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private static class Report {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the amount of requests which finished.
+		 */
+		private long requests;
+		
+		/**
+		 * Field which stores the amount of requests which failed or returned an error status.
+		 */
+		private long errors;
+		
+		/**
+		 * Field which stores the duration of the run, in nanoseconds.
+		 */
+		private long nanos;
+		
+		/**
+		 * Field which stores the 50th percentile latency, in nanoseconds.
+		 */
+		private long p50;
+		
+		/**
+		 * Field which stores the 99th percentile latency, in nanoseconds.
+		 */
+		private long p99;
+		
+		/**
+		 * Field which stores the highest amount of heap used, in bytes.
+		 */
+		private long heapBytes;
+		
+		/**
+		 * Field which stores the highest amount of live threads.
+		 */
+		private int threads;
+	}
+}
@@ -0,0 +1,71 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class PageGenerator is used to create synthetic HTML pages for the benchmarks. Pages
+ * are built from repeated blocks of ordinary markup, with comments, hidden inputs, and meta
+ * elements mixed in at the requested density.
+ * 
+ * The same arguments always create the same page, so that results are reproducible.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class PageGenerator {
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor as the class only contains static methods.
+	 */
+	private PageGenerator() {
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Creates a page of approximately the requested size.
+	 * 
+	 * @param targetBytes approximate size of the page.
+	 * @param commentEvery a comment is added to every nth block, 0 for no comments.
+	 * @param hiddenEvery a hidden input is added to every nth block, 0 for no hidden inputs.
+	 * @param metaCount amount of meta elements added to the head.
+	 * @return the HTML of the page.
+	 */
+	public static String generate(int targetBytes, int commentEvery, int hiddenEvery, int metaCount) {
+		StringBuilder html = new StringBuilder(targetBytes + 1024);
+		
+		// Create the head, containing the meta elements.
+		html.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<title>Synthetic page</title>\n");
+		for (int i = 0; i < metaCount; i++) {
+			html.append("<meta name=\"meta-").append(i).append("\" content=\"value ").append(i).append("\">\n");
+		}
+		html.append("<link rel=\"stylesheet\" href=\"/static/site.css\">\n</head>\n<body>\n");
+		
+		// Add blocks until the target size is reached.
+		int block = 0;
+		while (html.length() < targetBytes) {
+			html.append("<div class=\"row\" id=\"row-").append(block).append("\">\n");
+			if (commentEvery > 0 && block % commentEvery == 0) {
+				html.append("  <!-- TODO: remove debug block ").append(block).append(" -->\n");
+			}
+			html.append("  <p>Paragraph ").append(block).append(" with <a href=\"/page/").append(block).append("\">a link</a> and <b>bold</b> text.</p>\n");
+			if (hiddenEvery > 0 && block % hiddenEvery == 0) {
+				html.append("  <form action=\"/submit/").append(block).append("\"><input type=\"hidden\" name=\"csrf\" value=\"token-").append(block).append("\"><input type=\"text\" name=\"q\"></form>\n");
+			}
+			html.append("  <ul><li>One</li><li>Two</li><li>Three</li></ul>\n</div>\n");
+			block++;
+		}
+		
+		// Close the page.
+		html.append("<script src=\"/static/site.js\"></script>\n</body>\n</html>\n");
+		return html.toString();
+	}
+	
+	/**
+	 * Creates a page of approximately the requested size with a typical density of findings.
+	 * 
+	 * @param targetBytes approximate size of the page.
+	 * @return the HTML of the page.
+	 */
+	public static String generate(int targetBytes) {
+		return generate(targetBytes, 10, 25, 8);
+	}
+}
@@ -0,0 +1,86 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The class ParseBenchmark is used to measure <b>Jsoup.parse</b>, which every response not
+ * read as a stream passes through before its findings are extracted. A corpus of small,
+ * typical, and huge pages is used, as the cost of parsing grows with the size of the page.
+ * 
+ * The page is generated once per trial, meaning only the parsing is measured.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+	/*---- Parameters ----*/
+	/**
+	 * Parameter which stores the page of the corpus, either small, typical, or huge.
+	 */
+	@Param({"small", "typical", "huge"})
+	public String page;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the HTML of the page.
+	 */
+	private String html;
+	
+	/*---- Methods ----*/
+	/**
+	 * Generates the page.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.html = corpus(this.page);
+	}
+	
+	/**
+	 * Parses the page.
+	 * 
+	 * @return the document, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public Document parse() {
+		return Jsoup.parse(this.html, "http://localhost/");
+	}
+	
+	/**
+	 * Generates a page of the corpus.
+	 * 
+	 * @param page name of the page, either small (2KB), typical (64KB), or huge (8MB).
+	 * @return the HTML of the page.
+	 */
+	static String corpus(String page) {
+		switch (page) {
+			case "small":
+				return PageGenerator.generate(2 * 1024, 4, 8, 2);
+			case "huge":
+				return PageGenerator.generate(8 * 1024 * 1024);
+			default:
+				return PageGenerator.generate(64 * 1024);
+		}
+	}
+}
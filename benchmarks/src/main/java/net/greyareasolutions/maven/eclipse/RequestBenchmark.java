@@ -0,0 +1,126 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The class RequestBenchmark is used to measure the work done for every request before it
+ * is sent, namely building the request through
+ * {@link HtmlScannerEngine#generateRequest(URI)}, which the single page {@link HtmlScanner}
+ * also uses, appending each sub URI to the root URI through {@link RequestTemplate#resolve(String)},
+ * along with parsing the cookie supplied via the <b>-cookie</b> flag.
+ * 
+ * No request is sent, meaning the benchmark does not require a network.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBenchmark {
+	/*---- Parameters ----*/
+	/**
+	 * Parameter which stores the amount of headers supplied via the <b>-header</b> flag.
+	 */
+	@Param({"0", "4", "16"})
+	public int headers;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the engine building each request.
+	 */
+	private HtmlScannerEngine engine;
+	
+	/**
+	 * Field which stores the URI of each request.
+	 */
+	private URI uri;
+	
+	/**
+	 * Field which stores the sub URI appended by each call.
+	 */
+	private String subUri;
+	
+	/**
+	 * Field which stores the cookie parsed by each call.
+	 */
+	private String cookie;
+	
+	/*---- Methods ----*/
+	/**
+	 * Creates the engine with the requested amount of headers.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.uri = URI.create("http://localhost/login/login.php");
+		this.subUri = "login/login.php";
+		this.cookie = "PHPSESSID=8f2c1e0b7d4a9e6c3b5f1a2d4e6c8b0a";
+		
+		HttpOptions options = new HttpOptions(URI.create("http://localhost/"));
+		for (int i = 0; i < this.headers; i++) {
+			options.addHeader("X-Header-" + i, "value-" + i);
+		}
+		this.engine = new HtmlScannerEngine(options);
+	}
+	
+	/**
+	 * Closes the engine.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.engine.close();
+	}
+	
+	/**
+	 * Builds a request to the URI.
+	 * 
+	 * @return the request, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public HttpRequest generateRequest() {
+		return this.engine.generateRequest(this.uri);
+	}
+	
+	/**
+	 * Appends the sub URI to the root URI.
+	 * 
+	 * @return the URI, returned so that the work is not eliminated.
+	 * @throws URISyntaxException if the URI is not valid, which does not occur.
+	 */
+	@Benchmark
+	public URI resolve() throws URISyntaxException {
+		return this.engine.getTemplate().resolve(this.subUri);
+	}
+	
+	/**
+	 * Parses the cookie.
+	 * 
+	 * @return the cookie, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public HttpCookie generateCookie() {
+		return HtmlScannerEngine.generateCookie(this.cookie);
+	}
+}
@@ -0,0 +1,174 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The class StubServer is used to serve synthetic pages from the local machine, so that the
+ * scanner can be measured without a network. Every path returns the same page, created by
+ * {@link PageGenerator} with the requested size and density of findings.
+ * 
+ * Each response is delayed by a latency drawn from a log-normal distribution with the
+ * requested median, a spread of 0 giving every response the same latency. A share of the
+ * responses, set by the error rate, are answered with a <b>500</b> status instead. Delayed
+ * responses are answered by a scheduler rather than by a sleeping thread, meaning the server
+ * never runs out of threads however many requests are waiting.
+ * 
+ * The latency and outcome of each response only depend on the seed and the path, meaning
+ * runs using the same sub URIs are reproducible.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class StubServer implements AutoCloseable {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the page returned by every successful response.
+	 */
+	private final byte[] page;
+	
+	/**
+	 * Field which stores the median latency of each response, in milliseconds.
+	 */
+	private final double medianMillis;
+	
+	/**
+	 * Field which stores the spread of the latencies, the standard deviation of their natural logarithm.
+	 */
+	private final double spread;
+	
+	/**
+	 * Field which stores the share of responses answered with an error.
+	 */
+	private final double errorRate;
+	
+	/**
+	 * Field which stores the seed of the latencies and errors.
+	 */
+	private final long seed;
+	
+	/**
+	 * Field which stores the server.
+	 */
+	private final HttpServer server;
+	
+	/**
+	 * Field which stores the executor handling each request.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * Field which stores the scheduler answering delayed responses.
+	 */
+	private final ScheduledExecutorService scheduler;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class, and start the
+	 * server on any free port of the loopback address.
+	 * 
+	 * @param page page returned by every successful response.
+	 * @param medianMillis median latency of each response, in milliseconds.
+	 * @param spread spread of the latencies, 0 for a fixed latency.
+	 * @param errorRate share of responses answered with an error, between 0 and 1.
+	 * @param seed seed of the latencies and errors.
+	 * @throws IOException if the server could not be started.
+	 */
+	public StubServer(String page, double medianMillis, double spread, double errorRate, long seed) throws IOException {
+		this.page = page.getBytes(StandardCharsets.UTF_8);
+		this.medianMillis = medianMillis;
+		this.spread = spread;
+		this.errorRate = errorRate;
+		this.seed = seed;
+		this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+		this.scheduler = Executors.newScheduledThreadPool(2);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 8192);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(this.executor);
+		this.server.start();
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method schedules the response to a request.
+	 * 
+	 * @param exchange request and response.
+	 */
+	private void handle(HttpExchange exchange) {
+		// Draw the latency and outcome of the response from the path.
+		SplittableRandom random = new SplittableRandom(this.seed ^ exchange.getRequestURI().getPath().hashCode() * 0x9e3779b97f4a7c15L);
+		boolean error = random.nextDouble() < this.errorRate;
+		long latencyMicros = (long) (this.medianMillis * 1000 * Math.exp(this.spread * gaussian(random)));
+		
+		if (latencyMicros <= 0) {
+			this.respond(exchange, error);
+		} else {
+			this.scheduler.schedule(() -> this.executor.execute(() -> this.respond(exchange, error)), latencyMicros, TimeUnit.MICROSECONDS);
+		}
+	}
+	
+	/**
+	 * This method answers a request with the page, or with an error.
+	 * 
+	 * @param exchange request and response.
+	 * @param error whether the request is answered with an error.
+	 */
+	private void respond(HttpExchange exchange, boolean error) {
+		try (OutputStream body = exchange.getResponseBody()) {
+			if (error) {
+				exchange.sendResponseHeaders(500, -1);
+			} else {
+				exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+				exchange.sendResponseHeaders(200, this.page.length);
+				body.write(this.page);
+			}
+		} catch (IOException e) {
+			// The client has gone away, nothing else can be done.
+			exchange.close();
+		}
+	}
+	
+	/**
+	 * This method draws a value from the standard normal distribution.
+	 * 
+	 * @param random source of randomness.
+	 * @return the value.
+	 */
+	private static double gaussian(SplittableRandom random) {
+		// Use the Box-Muller transform, as SplittableRandom has no nextGaussian on Java 17.
+		double u = 1 - random.nextDouble();
+		double v = random.nextDouble();
+		return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+	}
+	
+	/**
+	 * Returns the root URI of the server.
+	 * 
+	 * @return the root URI, ending with a slash.
+	 */
+	public URI getUri() {
+		return URI.create("http://127.0.0.1:" + this.server.getAddress().getPort() + "/");
+	}
+	
+	/**
+	 * Stops the server.
+	 */
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.scheduler.shutdownNow();
+		this.executor.shutdownNow();
+	}
+}
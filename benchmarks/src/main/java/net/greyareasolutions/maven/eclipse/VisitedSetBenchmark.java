@@ -0,0 +1,128 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The class VisitedSetBenchmark is used to compare {@link VisitedSet}, with and without its
+ * Bloom filter, against the on-heap set of strings it replaced. Each set is first filled
+ * with the requested amount of URIs, after which adding a URI which has already been seen,
+ * and adding a URI which is new, are measured separately, as a crawl mostly sees links it
+ * has already visited whereas a wordlist is mostly made up of new URIs.
+ * 
+ * The memory used by each set, and the false positive rates, are measured by
+ * {@link VisitedSetFootprint}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class VisitedSetBenchmark {
+	/*---- Parameters ----*/
+	/**
+	 * Parameter which stores the amount of URIs added before measuring.
+	 */
+	@Param({"100000", "10000000"})
+	public int size;
+	
+	/**
+	 * Parameter which stores the set being measured, either heap, compact, or bloom.
+	 */
+	@Param({"heap", "compact", "bloom"})
+	public String set;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the on-heap set, null unless it is being measured.
+	 */
+	private Set<String> heapSet;
+	
+	/**
+	 * Field which stores the compact set, null unless it is being measured.
+	 */
+	private VisitedSet visitedSet;
+	
+	/**
+	 * Field which stores the URIs which have been added.
+	 */
+	private String[] seen;
+	
+	/**
+	 * Field which stores the index of the next URI which has been added.
+	 */
+	private int nextSeen;
+	
+	/**
+	 * Field which stores the index of the next new URI.
+	 */
+	private long nextNew;
+	
+	/*---- Methods ----*/
+	/**
+	 * Creates the set, filling it with URIs.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		this.heapSet = this.set.equals("heap") ? ConcurrentHashMap.newKeySet() : null;
+		this.visitedSet = this.set.equals("heap") ? null : new VisitedSet(this.size, this.set.equals("bloom"));
+		
+		// Keep the most recent URIs added, so that duplicates can be offered.
+		this.seen = new String[Integer.highestOneBit(Math.min(this.size, 1 << 16))];
+		for (int i = 0; i < this.size; i++) {
+			String uri = VisitedSetFootprint.uri(i);
+			this.add(uri);
+			this.seen[i & (this.seen.length - 1)] = uri;
+		}
+		this.nextNew = this.size;
+	}
+	
+	/**
+	 * Adds a URI which has already been seen.
+	 * 
+	 * @return whether the URI was new, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public boolean addSeen() {
+		return this.add(this.seen[this.nextSeen++ & (this.seen.length - 1)]);
+	}
+	
+	/**
+	 * Adds a URI which has not been seen.
+	 * 
+	 * @return whether the URI was new, returned so that the work is not eliminated.
+	 */
+	@Benchmark
+	public boolean addNew() {
+		return this.add(VisitedSetFootprint.uri(this.nextNew++));
+	}
+	
+	/**
+	 * Adds a URI to the set being measured.
+	 * 
+	 * @param uri URI to add.
+	 * @return true if the URI was new.
+	 */
+	private boolean add(String uri) {
+		return this.heapSet != null ? this.heapSet.add(uri) : this.visitedSet.add(uri);
+	}
+}
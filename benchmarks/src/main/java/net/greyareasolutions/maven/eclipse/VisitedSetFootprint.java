@@ -0,0 +1,110 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class VisitedSetFootprint is used to measure the memory used by {@link VisitedSet},
+ * with and without its Bloom filter, and by the on-heap set of strings it replaced, along
+ * with the false positive rates of the compact sets. Run it with the amount of URIs to add:
+ * <pre>
+ * java -Xmx8g -cp target/benchmarks.jar net.greyareasolutions.maven.eclipse.VisitedSetFootprint 10000000
+ * </pre>
+ * 
+ * A false positive is a URI which was never added being reported as seen. The same amount
+ * of URIs which were never added are checked after filling each set.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class VisitedSetFootprint {
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor as the class only contains static methods.
+	 */
+	private VisitedSetFootprint() {
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Fills each set, then prints the memory used per URI and the false positive rate.
+	 * 
+	 * @param args the amount of URIs to add, 1,000,000 if not supplied.
+	 */
+	public static void main(String[] args) {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		System.out.printf("%-8s %12s %14s %16s %14s%n", "set", "URIs", "bytes/URI", "false positives", "rate");
+		
+		for (String set : new String[] {"heap", "compact", "bloom"}) {
+			long before = usedMemory();
+			Set<String> heapSet = set.equals("heap") ? ConcurrentHashMap.newKeySet() : null;
+			VisitedSet visitedSet = set.equals("heap") ? null : new VisitedSet(size, set.equals("bloom"));
+			
+			// Fill the set.
+			for (int i = 0; i < size; i++) {
+				if (heapSet != null) {
+					heapSet.add(uri(i));
+				} else {
+					visitedSet.add(uri(i));
+				}
+			}
+			long used = usedMemory() - before;
+			
+			// Count the URIs which were never added but are reported as seen.
+			long falsePositives = 0;
+			for (long i = size; i < 2L * size; i++) {
+				if (heapSet != null ? heapSet.contains(uri(i)) : visitedSet.contains(uri(i))) {
+					falsePositives++;
+				}
+			}
+			System.out.printf("%-8s %12d %14.1f %16d %14.2e%n", set, size, (double) used / size, falsePositives, (double) falsePositives / size);
+			
+			// Keep the set reachable until it has been measured.
+			if (heapSet != null ? heapSet.isEmpty() : visitedSet.size() == 0) {
+				System.out.println("Nothing was added!");
+			}
+		}
+		
+		// Count how often the Bloom filter alone wrongly reports a URI as possibly seen.
+		BloomFilter filter = new BloomFilter(size, VisitedSet.BLOOM_FALSE_POSITIVE_RATE);
+		for (int i = 0; i < size; i++) {
+			filter.put(VisitedSet.hashOf(uri(i)));
+		}
+		long falsePositives = 0;
+		for (long i = size; i < 2L * size; i++) {
+			if (filter.mightContain(VisitedSet.hashOf(uri(i)))) {
+				falsePositives++;
+			}
+		}
+		System.out.printf("%-8s %12d %14.1f %16d %14.2e%n", "filter", size, (double) filter.getSizeInBytes() / size, falsePositives, (double) falsePositives / size);
+	}
+	
+	/**
+	 * Returns a synthetic URI, each index giving a different URI.
+	 * 
+	 * @param index index of the URI.
+	 * @return a URI resembling those found whilst crawling.
+	 */
+	public static String uri(long index) {
+		return "https://www.example.com/section-" + (index % 97) + "/page/" + index + "?ref=" + (index % 13);
+	}
+	
+	/**
+	 * Returns the memory in use, both on the heap and by direct buffers, after a garbage collection.
+	 * 
+	 * @return the used memory in bytes.
+	 */
+	private static long usedMemory() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		long direct = 0;
+		for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+			direct += pool.getMemoryUsed();
+		}
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory() + direct;
+	}
+}
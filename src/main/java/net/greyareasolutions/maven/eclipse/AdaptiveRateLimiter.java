@@ -0,0 +1,140 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * The class AdaptiveRateLimiter is used to pace the requests sent by {@link HtmlScannerEngine}
+ * to each host. Every host receives its own {@link HostLimiter}, meaning a slow or throttling
+ * host does not hold back requests to any other host.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(256)) {
+ *     engine.setLimiter(limiter);
+ *     ...
+ * }
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class AdaptiveRateLimiter implements AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default rate each host starts at, in requests per second.
+	 */
+	public static final double DEFAULT_INITIAL_RATE = 5;
+	
+	/**
+	 * Constant which stores the default highest rate of each host, in requests per second.
+	 */
+	public static final double DEFAULT_MAX_RATE = 1000;
+	
+	/**
+	 * Constant which stores the default amount of requests allowed in flight to each host to start with.
+	 */
+	public static final int DEFAULT_INITIAL_LIMIT = 2;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the rate each host starts at, in requests per second.
+	 */
+	private final double initialRate;
+	
+	/**
+	 * Field which stores the highest rate of each host, in requests per second.
+	 */
+	private final double maxRate;
+	
+	/**
+	 * Field which stores the amount of requests allowed in flight to each host to start with.
+	 */
+	private final int initialLimit;
+	
+	/**
+	 * Field which stores the highest amount of requests allowed in flight to each host.
+	 */
+	private final int maxLimit;
+	
+	/**
+	 * Field which stores the limiter of each host.
+	 */
+	private final Map<String, HostLimiter> hosts = new ConcurrentHashMap<>();
+	
+	/**
+	 * Field which stores the executor used by every host's limiter to wait for the next token.
+	 */
+	private final ScheduledExecutorService scheduler;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param initialRate rate each host starts at, in requests per second.
+	 * @param maxRate highest rate of each host, in requests per second.
+	 * @param initialLimit amount of requests allowed in flight to each host to start with.
+	 * @param maxLimit highest amount of requests allowed in flight to each host.
+	 */
+	public AdaptiveRateLimiter(double initialRate, double maxRate, int initialLimit, int maxLimit) {
+		this.initialRate = initialRate;
+		this.maxRate = maxRate;
+		this.initialLimit = initialLimit;
+		this.maxLimit = maxLimit;
+		
+		// A single daemon thread is enough, it only completes permits once a token is available.
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "html-scanner-limiter");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	/**
+	 * Constructor which sets a default initial rate, highest rate, and initial limit. This
+	 * constructor passes the remaining parameters to the top-level constructor.
+	 * 
+	 * @param maxLimit highest amount of requests allowed in flight to each host.
+	 */
+	public AdaptiveRateLimiter(int maxLimit) {
+		// Call the top-level constructor, setting default rates.
+		this(DEFAULT_INITIAL_RATE, DEFAULT_MAX_RATE, DEFAULT_INITIAL_LIMIT, maxLimit);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the limiter of the host of a URI, creating it on first use. Hosts are told apart
+	 * by their scheme, host, and port.
+	 * 
+	 * @param uri URI of the target.
+	 * @return the limiter of the URI's host.
+	 */
+	public HostLimiter forHost(URI uri) {
+		String host = (uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort()).toLowerCase(Locale.ROOT);
+		return this.hosts.computeIfAbsent(host, key -> new HostLimiter(this.initialRate, this.maxRate, this.initialLimit, this.maxLimit, this.scheduler));
+	}
+	
+	/**
+	 * Stops the executor used to wait for tokens, once closed the limiter should no longer be used.
+	 */
+	@Override
+	public void close() {
+		this.scheduler.shutdownNow();
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the limiter of each host seen so far.
+	 * 
+	 * @return an unmodifiable view of the class's hosts field, keyed by scheme, host, and port.
+	 */
+	public Map<String, HostLimiter> getHosts() {
+		return Collections.unmodifiableMap(this.hosts);
+	}
+}
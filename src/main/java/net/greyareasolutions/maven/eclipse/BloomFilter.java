@@ -0,0 +1,152 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class BloomFilter is used to tell whether a 64-bit hash has definitely not been added,
+ * using far less memory than storing the hashes themselves. A hash which has been added is
+ * always reported as possibly present, whereas a hash which has not been added is wrongly
+ * reported as possibly present at the false positive rate the filter was sized for.
+ * 
+ * The filter is blocked, meaning every bit of a hash is set within a single block of 512
+ * bits, the size of a typical cache line. Checking a hash therefore costs a single cache
+ * miss rather than one per bit, at the cost of a slightly higher false positive rate than
+ * a standard filter of the same size.
+ * 
+ * The class is not thread-safe, see {@link VisitedSet} for its use behind a lock.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class BloomFilter {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the amount of longs within each block.
+	 */
+	private static final int BLOCK_LONGS = 8;
+	
+	/**
+	 * Constant which stores the amount of bits within each block.
+	 */
+	private static final int BLOCK_BITS = BLOCK_LONGS * Long.SIZE;
+	
+	/**
+	 * Constant which stores the most bits set for each hash.
+	 */
+	private static final int MAX_HASHES = 16;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the bits of every block.
+	 */
+	private final long[] bits;
+	
+	/**
+	 * Field which stores the amount of blocks.
+	 */
+	private final int blocks;
+	
+	/**
+	 * Field which stores the amount of bits set for each hash.
+	 */
+	private final int hashes;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class. The amount
+	 * of bits, and bits set for each hash, are chosen so that the false positive rate is met
+	 * once the expected amount of hashes have been added.
+	 * 
+	 * @param expectedInsertions amount of hashes expected to be added.
+	 * @param falsePositiveRate false positive rate once every expected hash has been added, for example 0.01.
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		double rate = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+		long expected = Math.max(1, expectedInsertions);
+		
+		// The optimal amount of bits, rounded up to a whole amount of blocks.
+		double bitsPerHash = -Math.log(rate) / (Math.log(2) * Math.log(2));
+		long blockCount = (long) Math.ceil(expected * bitsPerHash / BLOCK_BITS);
+		this.blocks = (int) Math.min(Integer.MAX_VALUE / BLOCK_LONGS, Math.max(1, blockCount));
+		this.bits = new long[this.blocks * BLOCK_LONGS];
+		
+		// The optimal amount of bits set for each hash.
+		this.hashes = (int) Math.min(MAX_HASHES, Math.max(1, Math.round(bitsPerHash * Math.log(2))));
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Adds a hash to the filter.
+	 * 
+	 * @param hash hash to add, its bits should already be well mixed.
+	 * @return true if the hash had definitely not been added before, otherwise false.
+	 */
+	public boolean put(long hash) {
+		int block = this.blockOf(hash);
+		boolean changed = false;
+		
+		// Set each bit within the block.
+		int position = (int) hash;
+		int step = (int) Fingerprint.mix(hash) | 1;
+		for (int i = 0; i < this.hashes; i++) {
+			int bit = position >>> 23;
+			int index = block + (bit >>> 6);
+			long mask = 1L << bit;
+			changed |= (this.bits[index] & mask) == 0;
+			this.bits[index] |= mask;
+			position += step;
+		}
+		return changed;
+	}
+	
+	/**
+	 * Returns whether a hash may have been added to the filter.
+	 * 
+	 * @param hash hash to check, its bits should already be well mixed.
+	 * @return false if the hash has definitely not been added, true if it may have been.
+	 */
+	public boolean mightContain(long hash) {
+		int block = this.blockOf(hash);
+		
+		// Check each bit within the block.
+		int position = (int) hash;
+		int step = (int) Fingerprint.mix(hash) | 1;
+		for (int i = 0; i < this.hashes; i++) {
+			int bit = position >>> 23;
+			if ((this.bits[block + (bit >>> 6)] & (1L << bit)) == 0) {
+				return false;
+			}
+			position += step;
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first long of the block used by a hash.
+	 * 
+	 * @param hash hash to find the block of.
+	 * @return the index within the bits field.
+	 */
+	private int blockOf(long hash) {
+		// Map the upper 32 bits onto the blocks without a division.
+		return (int) (((hash >>> 32) * this.blocks) >>> 32) * BLOCK_LONGS;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the amount of bits set for each hash.
+	 * 
+	 * @return the class's hashes field.
+	 */
+	public int getHashes() {
+		return this.hashes;
+	}
+	
+	/**
+	 * Returns the amount of memory used by the filter's bits.
+	 * 
+	 * @return the size of the bits field in bytes.
+	 */
+	public long getSizeInBytes() {
+		return (long) this.bits.length * Long.BYTES;
+	}
+}
@@ -0,0 +1,144 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class BodyReadEvent is a Java Flight Recorder event recording the body of a response
+ * being read, from its headers arriving until the last byte has been received. The event
+ * is recorded by a body handler wrapped via {@link #record(BodyHandler, RequestEvent)}, which
+ * also fills in the status, version, and bytes of the request's {@link RequestEvent}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@Name("net.greyareasolutions.maven.eclipse.BodyRead")
+@Label("Body Read")
+@Category({"HtmlScanner", "HTTP"})
+@Description("The body of a response being read, from its headers arriving until the last byte")
+@StackTrace(false)
+final class BodyReadEvent extends Event {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the URI of the request.
+	 */
+	@Label("URI")
+	String uri;
+	
+	/**
+	 * Field which stores the amount of bytes received, before any decompression.
+	 */
+	@Label("Bytes")
+	@DataAmount
+	long bytes;
+	
+	/*---- Method ----*/
+	/**
+	 * Wraps a body handler so that the response is recorded, if the events are being recorded.
+	 * 
+	 * @param <T> type of the body.
+	 * @param handler handler of the body.
+	 * @param request event of the request, receiving the status, version, and bytes of the response.
+	 * @return a handler recording the response, or the same handler if nothing is recorded.
+	 */
+	static <T> BodyHandler<T> record(BodyHandler<T> handler, RequestEvent request) {
+		if (!request.isEnabled()) {
+			return handler;
+		}
+		
+		return responseInfo -> {
+			request.status = responseInfo.statusCode();
+			request.version = responseInfo.version().name();
+			return new RecordedSubscriber<>(handler.apply(responseInfo), request);
+		};
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * This class is used to record the bytes of a body as they are received, before handing
+	 * each part to another subscriber.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 * @param <T> type of the body.
+	 */
+	private static class RecordedSubscriber<T> implements BodySubscriber<T> {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the subscriber each part of the body is handed to.
+		 */
+		private final BodySubscriber<T> subscriber;
+		
+		/**
+		 * Field which stores the event of the request.
+		 */
+		private final RequestEvent request;
+		
+		/**
+		 * Field which stores the event of the body being read.
+		 */
+		private final BodyReadEvent event = new BodyReadEvent();
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class, beginning
+		 * the event once the headers have arrived.
+		 * 
+		 * @param subscriber subscriber each part of the body is handed to.
+		 * @param request event of the request.
+		 */
+		RecordedSubscriber(BodySubscriber<T> subscriber, RequestEvent request) {
+			this.subscriber = subscriber;
+			this.request = request;
+			this.event.uri = request.uri;
+			this.event.begin();
+		}
+		
+		/*---- Overridden Methods ----*/
+		@Override
+		public CompletionStage<T> getBody() {
+			return this.subscriber.getBody();
+		}
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscriber.onSubscribe(subscription);
+		}
+		
+		@Override
+		public void onNext(List<ByteBuffer> item) {
+			// Parts of the body are handed over one at a time, so the counts need no locking.
+			for (ByteBuffer buffer : item) {
+				this.event.bytes += buffer.remaining();
+			}
+			this.request.bytes = this.event.bytes;
+			this.subscriber.onNext(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable) {
+			this.event.commit();
+			this.subscriber.onError(throwable);
+		}
+		
+		@Override
+		public void onComplete() {
+			this.event.commit();
+			this.subscriber.onComplete();
+		}
+	}
+}
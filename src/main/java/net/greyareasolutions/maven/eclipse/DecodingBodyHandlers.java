@@ -0,0 +1,181 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The class DecodingBodyHandlers is used to create body handlers which decompress the body
+ * of a response according to its <b>Content-Encoding</b> header. The gzip and deflate encodings
+ * are supported, a body with any other encoding is returned as it was received.
+ * 
+ * {@link java.net.http.HttpClient} does not decompress responses itself, these handlers are
+ * therefore used by {@link HtmlScannerEngine} whenever compression has been requested.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class DecodingBodyHandlers {
+	/*---- Constant ----*/
+	/**
+	 * Constant which stores the value of the <b>Accept-Encoding</b> header for the supported encodings.
+	 */
+	public static final String ACCEPT_ENCODING = "gzip, deflate";
+	
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor, the class only provides static methods.
+	 */
+	private DecodingBodyHandlers() {
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns a handler which decompresses the body and decodes it as a string using the
+	 * charset of the response. The compressed body is held in memory until it has been read,
+	 * meaning decompression never blocks.
+	 * 
+	 * @return a handler of decompressed string bodies.
+	 */
+	public static BodyHandler<String> ofString() {
+		return responseInfo -> BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> {
+			try (InputStream body = decode(new ByteArrayInputStream(bytes), responseInfo.headers())) {
+				// Decompress the entire body and decode it.
+				return new String(body.readAllBytes(), HtmlScannerEngine.charsetOf(responseInfo.headers()));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Returns a handler which decompresses the body whilst it is being read. The decompressing
+	 * stream is only created on the first read, as creating it reads the header of the body.
+	 * 
+	 * @return a handler of decompressing input streams.
+	 */
+	public static BodyHandler<InputStream> ofInputStream() {
+		return responseInfo -> BodySubscribers.mapping(BodySubscribers.ofInputStream(), body -> new DecodingInputStream(body, responseInfo.headers()));
+	}
+	
+	/**
+	 * Wraps a body in a stream which decompresses it according to the <b>Content-Encoding</b> header.
+	 * 
+	 * @param body compressed body.
+	 * @param headers headers of the response.
+	 * @return a decompressing stream, or the body itself if it is empty or not compressed by a supported encoding.
+	 * @throws IOException if the header of the compressed body could not be read.
+	 */
+	static InputStream decode(InputStream body, HttpHeaders headers) throws IOException {
+		String encoding = headers.firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+		if (!encoding.equals("gzip") && !encoding.equals("x-gzip") && !encoding.equals("deflate")) {
+			return body;
+		}
+		
+		// Read the first two bytes, an empty body (such as that of a 204 or 304) has nothing to decompress.
+		PushbackInputStream pushback = new PushbackInputStream(body, 2);
+		byte[] header = pushback.readNBytes(2);
+		pushback.unread(header);
+		if (header.length == 0) {
+			return pushback;
+		}
+		
+		if (encoding.equals("deflate")) {
+			// Some servers send raw deflate data rather than the zlib format, check the first two bytes.
+			boolean zlib = header.length == 2 && (header[0] & 0x0F) == 8 && ((header[0] & 0xFF) << 8 | (header[1] & 0xFF)) % 31 == 0;
+			return new InflaterInputStream(pushback, new Inflater(!zlib));
+		}
+		return new GZIPInputStream(pushback);
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * The class DecodingInputStream is used to decompress a body once it is first read, the
+	 * body handler must not block and so cannot read the header of the body itself.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private static class DecodingInputStream extends InputStream {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the body as it was received.
+		 */
+		private final InputStream body;
+		
+		/**
+		 * Field which stores the headers of the response.
+		 */
+		private final HttpHeaders headers;
+		
+		/**
+		 * Field which stores the decompressed body, null until it is first read.
+		 */
+		private InputStream decoded;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param body body as it was received.
+		 * @param headers headers of the response.
+		 */
+		public DecodingInputStream(InputStream body, HttpHeaders headers) {
+			this.body = body;
+			this.headers = headers;
+		}
+		
+		/*---- Method ----*/
+		/**
+		 * Returns the decompressed body, creating it on the first call.
+		 * 
+		 * @return the class's decoded field.
+		 * @throws IOException if the header of the compressed body could not be read.
+		 */
+		private InputStream decoded() throws IOException {
+			if (this.decoded == null) {
+				this.decoded = decode(this.body, this.headers);
+			}
+			return this.decoded;
+		}
+		
+		/*---- Overridden Methods ----*/
+		/**
+		 * Reads a single decompressed byte.
+		 */
+		@Override
+		public int read() throws IOException {
+			return this.decoded().read();
+		}
+		
+		/**
+		 * Reads up to the specified amount of decompressed bytes.
+		 */
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return this.decoded().read(buffer, offset, length);
+		}
+		
+		/**
+		 * Closes the body, cancelling the rest of the download if it has not been fully read.
+		 */
+		@Override
+		public void close() throws IOException {
+			if (this.decoded != null) {
+				this.decoded.close();
+			}
+			this.body.close();
+		}
+	}
+}
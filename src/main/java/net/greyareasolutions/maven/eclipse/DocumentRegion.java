@@ -0,0 +1,65 @@
+package net.greyareasolutions.maven.eclipse;
+
+import org.jsoup.nodes.Element;
+
+/**
+ * The class DocumentRegion is an enumeration which stores each region of a document that a
+ * {@link FindingType} can be found in. Regions are ordered from the smallest to the largest,
+ * with each region containing the regions before it.
+ * 
+ * Once the region needed by every requested type has been closed, the rest of the document
+ * does not need to be read.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public enum DocumentRegion {
+	/*---- Enums ----*/
+	/**
+	 * The head of the document, closed once the head element has been completed.
+	 */
+	HEAD("head"),
+	
+	/**
+	 * The entire document, which is never closed before the document has been read.
+	 */
+	DOCUMENT(null);
+	
+	/*---- Field ----*/
+	/**
+	 * Field which stores the name of the element which closes the region, null if the region is never closed early.
+	 */
+	private final String closingElement;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise a document region.
+	 * 
+	 * @param closingElement name of the element which closes the region, or null if the region is never closed early.
+	 */
+	DocumentRegion(String closingElement) {
+		this.closingElement = closingElement;
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns whether the completion of the specified element closes the region.
+	 * 
+	 * @param element element completed by the parse.
+	 * @return true if nothing after the element is within the region, otherwise false.
+	 */
+	public boolean isClosedBy(Element element) {
+		return this.closingElement != null && this.closingElement.equals(element.normalName());
+	}
+	
+	/**
+	 * Returns the largest of the two regions.
+	 * 
+	 * @param other region to compare against.
+	 * @return the region which contains the other.
+	 */
+	public DocumentRegion union(DocumentRegion other) {
+		return this.compareTo(other) >= 0 ? this : other;
+	}
+}
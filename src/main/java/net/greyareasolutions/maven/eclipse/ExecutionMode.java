@@ -0,0 +1,47 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class ExecutionMode is an enumeration which stores the ways in which {@link MultiHtmlScanner}
+ * is able to send its requests. The mode can be selected on the command line via the <b>-mode</b> flag.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public enum ExecutionMode {
+	/*---- Enums ----*/
+	/**
+	 * Each request is sent on its own platform thread of a fixed thread pool, with a limit on the amount of requests in flight.
+	 */
+	PLATFORM,
+	
+	/**
+	 * Requests are sent without blocking via <b>sendAsync</b>, with a limit on the amount of requests in flight.
+	 */
+	ASYNC,
+	
+	/**
+	 * Each request is sent on its own virtual thread, with a limit on the amount of requests in flight.
+	 * Virtual threads require Java 21 or later, on older runtimes platform threads are used instead.
+	 */
+	VIRTUAL;
+	
+	/*---- Method ----*/
+	/**
+	 * Returns the mode matching the specified name, ignoring case.
+	 * 
+	 * @param name name of the mode, for example <b>async</b>.
+	 * @return the mode matching the name, or null if no mode matches.
+	 */
+	public static ExecutionMode fromString(String name) {
+		// Iterate through each mode and compare the names.
+		for (ExecutionMode mode : ExecutionMode.values()) {
+			if (mode.name().equalsIgnoreCase(name)) {
+				return mode;
+			}
+		}
+		
+		// No mode matches the name.
+		return null;
+	}
+}
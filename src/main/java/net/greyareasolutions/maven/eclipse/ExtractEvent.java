@@ -0,0 +1,42 @@
+package net.greyareasolutions.maven.eclipse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class ExtractEvent is a Java Flight Recorder event recording a single extractor walking
+ * a parsed document, either {@link FindingsExtractor} or {@link LinkExtractor}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@Name("net.greyareasolutions.maven.eclipse.Extract")
+@Label("Extract")
+@Category("HtmlScanner")
+@Description("An extractor walking a parsed document")
+@StackTrace(false)
+final class ExtractEvent extends Event {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the URI of the document.
+	 */
+	@Label("URI")
+	String uri;
+	
+	/**
+	 * Field which stores the name of the extractor, either findings or links.
+	 */
+	@Label("Extractor")
+	String extractor;
+	
+	/**
+	 * Field which stores the amount of findings or links found.
+	 */
+	@Label("Found")
+	int found;
+}
@@ -0,0 +1,87 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class FindingType is an enumeration which stores each type of finding that can be
+ * extracted from the HTML of a response. Each type corresponds to a flag of {@link HtmlScannerMain},
+ * and is found within a {@link DocumentRegion}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public enum FindingType {
+	/*---- Enums ----*/
+	/**
+	 * Comments, selected via the <b>-c</b> flag.
+	 */
+	COMMENT("-c", "comments", DocumentRegion.DOCUMENT),
+	
+	/**
+	 * Elements which have a hidden type, selected via the <b>-hi</b> flag.
+	 */
+	HIDDEN_INPUT("-hi", "hiddenInputs", DocumentRegion.DOCUMENT),
+	
+	/**
+	 * Meta elements, selected via the <b>-m</b> flag. Meta elements belong in the head, any
+	 * placed within the body are not found by a scan which stops at the head.
+	 */
+	META("-m", "metas", DocumentRegion.HEAD);
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the flag used to select the type.
+	 */
+	private final String flag;
+	
+	/**
+	 * Field which stores the name of the type used by machine-readable output.
+	 */
+	private final String key;
+	
+	/**
+	 * Field which stores the region of the document the type is found in.
+	 */
+	private final DocumentRegion region;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise a finding type.
+	 * 
+	 * @param flag flag used to select the type.
+	 * @param key name of the type used by machine-readable output.
+	 * @param region region of the document the type is found in.
+	 */
+	FindingType(String flag, String key, DocumentRegion region) {
+		this.flag = flag;
+		this.key = key;
+		this.region = region;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the flag used to select the type.
+	 * 
+	 * @return the class's flag field.
+	 */
+	public String getFlag() {
+		return this.flag;
+	}
+	
+	/**
+	 * Returns the name of the type used by machine-readable output, for example <i>hiddenInputs</i>.
+	 * 
+	 * @return the class's key field.
+	 */
+	public String getKey() {
+		return this.key;
+	}
+	
+	/**
+	 * Returns the region of the document the type is found in.
+	 * 
+	 * @return the class's region field.
+	 */
+	public DocumentRegion getRegion() {
+		return this.region;
+	}
+}
@@ -0,0 +1,92 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class Findings is used to store everything extracted from the HTML of a single response,
+ * grouped by {@link FindingType}. Each finding is stored as a string so that the findings can be
+ * kept after the parsed document has been discarded:
+ * <ul>
+ * <li>{@link FindingType#COMMENT} - the stripped text of the comment.</li>
+ * <li>{@link FindingType#HIDDEN_INPUT} - the HTML of the element.</li>
+ * <li>{@link FindingType#META} - the HTML of the element.</li>
+ * </ul>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class Findings {
+	/*---- Field ----*/
+	/**
+	 * Field which stores the findings of each type, in the order they appear in the HTML.
+	 */
+	private final Map<FindingType, List<String>> findings;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise an empty list for each type of finding.
+	 */
+	public Findings() {
+		this.findings = new EnumMap<>(FindingType.class);
+		
+		// Create a list for each type so that getters never return null.
+		for (FindingType type : FindingType.values()) {
+			this.findings.put(type, new ArrayList<>());
+		}
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method adds a single finding.
+	 * 
+	 * @param type type of the finding.
+	 * @param finding string representation of the finding.
+	 */
+	public void add(FindingType type, String finding) {
+		this.findings.get(type).add(finding);
+	}
+	
+	/**
+	 * Returns whether no findings of any type are stored.
+	 * 
+	 * @return true if there are no findings, otherwise false.
+	 */
+	public boolean isEmpty() {
+		// Check each type for a finding.
+		for (List<String> typeFindings : this.findings.values()) {
+			if (!typeFindings.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns the amount of findings stored.
+	 * 
+	 * @return the amount of findings of every type.
+	 */
+	public int size() {
+		int size = 0;
+		for (List<String> typeFindings : this.findings.values()) {
+			size += typeFindings.size();
+		}
+		return size;
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the findings of the specified type.
+	 * 
+	 * @param type type of the findings.
+	 * @return an unmodifiable list of the findings, in the order they appear in the HTML.
+	 */
+	public List<String> get(FindingType type) {
+		return Collections.unmodifiableList(this.findings.get(type));
+	}
+}
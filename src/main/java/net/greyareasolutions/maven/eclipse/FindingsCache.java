@@ -0,0 +1,349 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * The class FindingsCache is used to store the findings of each scanned URI on disk, along
+ * with the <b>ETag</b> and <b>Last-Modified</b> validators of the response they were extracted
+ * from. A later scan of the same URI sends a conditional request, and if the target responds
+ * with <b>304 Not Modified</b> the cached findings are reused without the page being parsed.
+ * 
+ * Each entry is stored in its own file, named by a hash of the URI and the requested types
+ * of findings. Once the total size of the entries exceeds the maximum size, the least recently
+ * used entries are deleted.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * HtmlScannerEngine engine = new HtmlScannerEngine(httpOptions);
+ * engine.setExtractor(extractor);
+ * engine.setCache(new FindingsCache(Path.of("cache")));
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class FindingsCache {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default maximum size of the cache in bytes.
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+	
+	/**
+	 * Constant which stores the version of the entry format, entries of any other version are ignored.
+	 */
+	private static final int VERSION = 1;
+	
+	/**
+	 * Constant which stores the file extension of each entry.
+	 */
+	private static final String EXTENSION = ".entry";
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the directory that entries are stored in.
+	 */
+	private final Path directory;
+	
+	/**
+	 * Field which stores the maximum size of the cache in bytes.
+	 */
+	private final long maxBytes;
+	
+	/**
+	 * Field which stores the current size of the cache in bytes.
+	 */
+	private final AtomicLong size = new AtomicLong();
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class. The directory
+	 * is created if it does not already exist.
+	 * 
+	 * @param directory directory that entries are stored in.
+	 * @param maxBytes maximum size of the cache in bytes.
+	 * @throws IOException if the directory could not be created or read.
+	 */
+	public FindingsCache(Path directory, long maxBytes) throws IOException {
+		this.directory = Files.createDirectories(directory);
+		this.maxBytes = maxBytes;
+		
+		// Find the size of the entries stored by previous runs.
+		try (Stream<Path> entries = Files.list(this.directory)) {
+			for (Path entry : (Iterable<Path>) entries::iterator) {
+				if (entry.toString().endsWith(EXTENSION)) {
+					this.size.addAndGet(Files.size(entry));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Constructor which sets a default maximum size. This constructor passes the remaining
+	 * parameters to the top-level constructor.
+	 * 
+	 * @param directory directory that entries are stored in.
+	 * @throws IOException if the directory could not be created or read.
+	 */
+	public FindingsCache(Path directory) throws IOException {
+		// Call the top-level constructor, setting a default maximum size.
+		this(directory, DEFAULT_MAX_BYTES);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the cached entry of a URI, marking it as recently used.
+	 * 
+	 * @param uri URI which was scanned.
+	 * @param types types of findings which were extracted.
+	 * @return the entry, or null if the URI has not been cached with the same types.
+	 */
+	public Entry get(URI uri, Set<FindingType> types) {
+		Path path = this.pathOf(uri, types);
+		
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			// Ignore entries written in another format.
+			if (in.readInt() != VERSION) {
+				return null;
+			}
+			
+			// Read the validators.
+			String etag = FindingsCodec.readString(in);
+			String lastModified = FindingsCodec.readString(in);
+			
+			// Read the findings of each type.
+			Findings findings = FindingsCodec.readFindings(in);
+			
+			// Mark the entry as recently used so that it is evicted last.
+			Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+			return new Entry(etag, lastModified, findings);
+		} catch (IOException e) {
+			// The URI has not been cached, or the entry is unreadable and will be replaced by the next response.
+			return null;
+		}
+	}
+	
+	/**
+	 * Stores the findings of a response. Nothing is stored if the response has no validators,
+	 * as a conditional request could not be sent for it.
+	 * 
+	 * @param uri URI which was scanned.
+	 * @param types types of findings which were extracted.
+	 * @param etag ETag header of the response, or null if not present.
+	 * @param lastModified Last-Modified header of the response, or null if not present.
+	 * @param findings findings extracted from the response.
+	 */
+	public void put(URI uri, Set<FindingType> types, String etag, String lastModified, Findings findings) {
+		// Check to see if the response can be revalidated.
+		if (etag == null && lastModified == null) {
+			return;
+		}
+		
+		Path path = this.pathOf(uri, types);
+		
+		try {
+			// Write to a temporary file first, so that a concurrent read never sees a partial entry.
+			Path temporary = Files.createTempFile(this.directory, "entry", ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+				out.writeInt(VERSION);
+				FindingsCodec.writeString(out, etag);
+				FindingsCodec.writeString(out, lastModified);
+				
+				// Write the findings of each type.
+				FindingsCodec.writeFindings(out, findings);
+			}
+			
+			// Replace any previous entry, keeping track of the change in size.
+			long previous = Files.exists(path) ? Files.size(path) : 0;
+			long written = Files.size(temporary);
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			
+			// Remove the least recently used entries if the cache has grown too large.
+			if (this.size.addAndGet(written - previous) > this.maxBytes) {
+				this.evict();
+			}
+		} catch (IOException e) {
+			// Notify of the failure, the findings are still returned but will not be reused.
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/**
+	 * Deletes the least recently used entries until the cache is within its maximum size.
+	 * 
+	 * @throws IOException if the directory could not be read.
+	 */
+	private synchronized void evict() throws IOException {
+		// Another thread may have already evicted.
+		if (this.size.get() <= this.maxBytes) {
+			return;
+		}
+		
+		// Find every entry, ordered from least to most recently used.
+		List<Path> entries = new ArrayList<>();
+		try (Stream<Path> paths = Files.list(this.directory)) {
+			paths.filter(path -> path.toString().endsWith(EXTENSION)).forEach(entries::add);
+		}
+		entries.sort(Comparator.comparing(FindingsCache::lastUsed));
+		
+		// Delete entries until the cache is small enough.
+		for (Path entry : entries) {
+			if (this.size.get() <= this.maxBytes) {
+				break;
+			}
+			try {
+				long entrySize = Files.size(entry);
+				if (Files.deleteIfExists(entry)) {
+					this.size.addAndGet(-entrySize);
+				}
+			} catch (NoSuchFileException e) {
+				// The entry has already been replaced.
+			}
+		}
+	}
+	
+	/**
+	 * Returns the path of the entry of a URI.
+	 * 
+	 * @param uri URI which was scanned.
+	 * @param types types of findings which were extracted.
+	 * @return the path of the entry within the cache's directory.
+	 */
+	private Path pathOf(URI uri, Set<FindingType> types) {
+		// Entries are keyed by the URI and the types, as the findings depend on both.
+		StringBuilder key = new StringBuilder(uri.toString());
+		for (FindingType type : types) {
+			key.append(' ').append(type.getFlag());
+		}
+		
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+			return this.directory.resolve(HexFormat.of().formatHex(hash) + EXTENSION);
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Returns when an entry was last used.
+	 * 
+	 * @param entry path of the entry.
+	 * @return the last modified time of the entry, or the epoch if it no longer exists.
+	 */
+	private static FileTime lastUsed(Path entry) {
+		try {
+			return Files.getLastModifiedTime(entry);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the directory that entries are stored in.
+	 * 
+	 * @return the class's directory field.
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+	
+	/**
+	 * Returns the current size of the cache in bytes.
+	 * 
+	 * @return the size of every entry.
+	 */
+	public long getSize() {
+		return this.size.get();
+	}
+	
+	/*---- Public Class ----*/
+	/**
+	 * The class Entry is used to store the validators and findings of a cached response.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	public static class Entry {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the ETag of the response, null if not present.
+		 */
+		private final String etag;
+		
+		/**
+		 * Field which stores the Last-Modified date of the response, null if not present.
+		 */
+		private final String lastModified;
+		
+		/**
+		 * Field which stores the findings extracted from the response.
+		 */
+		private final Findings findings;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param etag ETag of the response, or null if not present.
+		 * @param lastModified Last-Modified date of the response, or null if not present.
+		 * @param findings findings extracted from the response.
+		 */
+		public Entry(String etag, String lastModified, Findings findings) {
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.findings = findings;
+		}
+		
+		/*---- Getters ----*/
+		/**
+		 * Returns the ETag of the response.
+		 * 
+		 * @return the class's etag field, null if not present.
+		 */
+		public String getETag() {
+			return this.etag;
+		}
+		
+		/**
+		 * Returns the Last-Modified date of the response.
+		 * 
+		 * @return the class's lastModified field, null if not present.
+		 */
+		public String getLastModified() {
+			return this.lastModified;
+		}
+		
+		/**
+		 * Returns the findings extracted from the response.
+		 * 
+		 * @return the class's findings field.
+		 */
+		public Findings getFindings() {
+			return this.findings;
+		}
+	}
+}
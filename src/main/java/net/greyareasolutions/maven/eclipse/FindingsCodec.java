@@ -0,0 +1,125 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The class FindingsCodec is used to read and write {@link Findings} in the binary form shared
+ * by the files of {@link FindingsCache}, {@link ScanJournal}, and {@link ScanBaseline}, so that
+ * the three formats always store findings the same way.
+ * 
+ * Strings are written as their length followed by their UTF-8 bytes, as findings may be larger
+ * than {@link DataOutputStream#writeUTF(String)} allows, with a length of -1 marking null. The
+ * findings of each type are written as their amount followed by each finding, in the order of
+ * {@link FindingType#values()}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+final class FindingsCodec {
+	/*---- Constructor ----*/
+	/**
+	 * Private constructor, the class only provides static methods.
+	 */
+	private FindingsCodec() {
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the key of a scan, a file is only used by a scan with the same key.
+	 * 
+	 * @param root root URI of the scan.
+	 * @param types types of findings extracted by the scan.
+	 * @return the root URI followed by the flag of each type.
+	 */
+	static String keyOf(URI root, Set<FindingType> types) {
+		StringBuilder key = new StringBuilder(root.toString());
+		for (FindingType type : types) {
+			key.append(' ').append(type.getFlag());
+		}
+		return key.toString();
+	}
+	
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+	 * 
+	 * @param in stream of the file.
+	 * @return the string, or null if no string was written.
+	 * @throws IOException if the file could not be read, or ended part way through the string.
+	 */
+	static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		
+		// A torn length is checked before anything is read.
+		if (length < 0) {
+			throw new EOFException();
+		}
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException();
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Writes a string which may be null.
+	 * 
+	 * @param out stream of the file.
+	 * @param value string to write, or null.
+	 * @throws IOException if the file could not be written.
+	 */
+	static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Reads the findings written by {@link #writeFindings(DataOutputStream, Findings)}.
+	 * 
+	 * @param in stream of the file.
+	 * @return the findings.
+	 * @throws IOException if the file could not be read.
+	 */
+	static Findings readFindings(DataInputStream in) throws IOException {
+		Findings findings = new Findings();
+		for (FindingType type : FindingType.values()) {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				findings.add(type, readString(in));
+			}
+		}
+		return findings;
+	}
+	
+	/**
+	 * Writes the findings of each type.
+	 * 
+	 * @param out stream of the file.
+	 * @param findings findings to write.
+	 * @throws IOException if the file could not be written.
+	 */
+	static void writeFindings(DataOutputStream out, Findings findings) throws IOException {
+		for (FindingType type : FindingType.values()) {
+			List<String> typeFindings = findings.get(type);
+			out.writeInt(typeFindings.size());
+			for (String finding : typeFindings) {
+				writeString(out, finding);
+			}
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.NodeTraversor;
+
+/**
+ * The class FindingsExtractor is used to extract the requested types of findings from
+ * a parsed document. Every requested type is collected by a single {@link FindingsVisitor}
+ * pass, meaning the cost of requesting more types stays close to constant.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * FindingsExtractor extractor = new FindingsExtractor(EnumSet.of(FindingType.COMMENT, FindingType.META));
+ * Findings findings = extractor.extract(Jsoup.parse(html));
+ * </pre>
+ * Findings can also be extracted whilst the HTML is still being read via {@link #extract(Reader, String)},
+ * in which case each element is discarded once it has been checked, meaning the full document
+ * is never held in memory.
+ * 
+ * The extractor does not hold any state between calls and is therefore thread-safe.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class FindingsExtractor {
+	/*---- Constant ----*/
+	/**
+	 * Elements which the parser may reopen after completing them, for example a comment after
+	 * the closing body tag is added to the body. These are never discarded by a streaming parse.
+	 */
+	private static final Set<String> REOPENED = Set.of("html", "head", "body");
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the types of findings which are extracted.
+	 */
+	private final Set<FindingType> types;
+	
+	/**
+	 * Field which stores the region of the document which contains every requested type.
+	 */
+	private final DocumentRegion region;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param types types of findings which are extracted.
+	 */
+	public FindingsExtractor(Set<FindingType> types) {
+		// Copy the types so that later changes to the set are not seen.
+		this.types = types.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(types));
+		
+		// Find the smallest region which contains every requested type.
+		DocumentRegion region = DocumentRegion.HEAD;
+		for (FindingType type : this.types) {
+			region = region.union(type.getRegion());
+		}
+		this.region = region;
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method walks the document once, collecting every requested type of finding.
+	 * 
+	 * @param html parsed HTML of a response.
+	 * @return the findings of the document, in the order they appear in the HTML.
+	 */
+	public Findings extract(Document html) {
+		// Create a visitor which adds to empty findings.
+		FindingsVisitor visitor = new FindingsVisitor(this.types, new Findings());
+		
+		// Visit every node of the document a single time.
+		ExtractEvent event = new ExtractEvent();
+		event.begin();
+		NodeTraversor.traverse(visitor, html);
+		if (event.shouldCommit()) {
+			event.uri = html.location();
+			event.extractor = "findings";
+			event.found = visitor.getFindings().size();
+			event.commit();
+		}
+		return visitor.getFindings();
+	}
+	
+	/**
+	 * This method parses the HTML whilst it is being read, collecting every requested type of
+	 * finding from each element as soon as the element is complete. Once checked, the element
+	 * is removed from the document, meaning memory is bounded by the depth of the document
+	 * rather than its size.
+	 * 
+	 * Reading stops as soon as the region containing every requested type has been closed,
+	 * for example at the end of the head when only meta elements are requested.
+	 * 
+	 * @param html reader of the HTML, closed once the HTML has been parsed or the region has been closed.
+	 * @param baseUri URI the HTML was obtained from.
+	 * @return the findings of the HTML, in the order they appear in the HTML.
+	 * @throws IOException if the HTML could not be read.
+	 */
+	public Findings extract(Reader html, String baseUri) throws IOException {
+		// Call the overloaded method, no other work needs each element.
+		return this.extract(html, baseUri, null);
+	}
+	
+	/**
+	 * This method parses the HTML whilst it is being read as with {@link #extract(Reader, String)},
+	 * additionally handing each element to the listener once it is complete and before it is
+	 * discarded. As the listener needs every element, the entire HTML is read even if the
+	 * requested types of findings are only found within part of the document.
+	 * 
+	 * @param html reader of the HTML, closed once the HTML has been parsed or the region has been closed.
+	 * @param baseUri URI the HTML was obtained from.
+	 * @param listener listener which receives each complete element, or null if none is needed.
+	 * @return the findings of the HTML, in the order they appear in the HTML.
+	 * @throws IOException if the HTML could not be read.
+	 */
+	public Findings extract(Reader html, String baseUri, Consumer<Element> listener) throws IOException {
+		// Create a visitor which adds to empty findings.
+		FindingsVisitor visitor = new FindingsVisitor(this.types, new Findings());
+		
+		// Elements which the parser may reopen are kept, and must only be checked once.
+		Set<Element> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		// Parsing and extracting cannot be told apart, they are recorded together.
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		
+		try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, baseUri)) {
+			Iterator<Element> elements = parser.iterator();
+			
+			// Iterate through each element as soon as it is complete.
+			while (elements.hasNext()) {
+				Element element = elements.next();
+				
+				// Check the comments preceding the root element before those within it.
+				if (kept.isEmpty()) {
+					kept.add(parser.document());
+					Element root = parser.document().firstElementChild();
+					if (root != null) {
+						checkPrecedingNodes(root, visitor);
+					}
+				}
+				
+				// Check and discard the comments and text preceding the element, so that they are found in order.
+				checkPrecedingNodes(element, visitor);
+				
+				// Check the element, only the first time it is completed if it may be reopened.
+				boolean reopened = REOPENED.contains(element.normalName());
+				if (!reopened || kept.add(element)) {
+					visitor.head(element, 0);
+					if (listener != null) {
+						listener.accept(element);
+					}
+				}
+				
+				// Check and discard the remaining comments and text, every child element has already been completed.
+				for (Node child : new ArrayList<>(element.childNodes())) {
+					if (!(child instanceof Element)) {
+						visitor.head(child, 0);
+						child.remove();
+					}
+				}
+				
+				// Stop reading once nothing further can be found.
+				if (listener == null && this.region.isClosedBy(element)) {
+					break;
+				}
+				
+				// Discard the element, its findings have been collected.
+				if (!reopened) {
+					elements.remove();
+				}
+			}
+		} catch (UncheckedIOException e) {
+			// The parser wraps errors of the reader.
+			throw e.getCause();
+		}
+		
+		if (event.shouldCommit()) {
+			event.uri = baseUri;
+			event.characters = -1;
+			event.streamed = true;
+			event.commit();
+		}
+		return visitor.getFindings();
+	}
+	
+	/**
+	 * This method checks the comments and text between an element and its previous element
+	 * sibling, discarding each once checked. The previous element sibling is always completed
+	 * before the element itself.
+	 * 
+	 * @param element element completed by the parse.
+	 * @param visitor visitor collecting the findings.
+	 */
+	private static void checkPrecedingNodes(Element element, FindingsVisitor visitor) {
+		// Find the first node after the previous element.
+		Node node = element;
+		while (node.previousSibling() != null && !(node.previousSibling() instanceof Element)) {
+			node = node.previousSibling();
+		}
+		
+		// Check each node in order, discarding it once checked.
+		while (node != element) {
+			Node next = node.nextSibling();
+			visitor.head(node, 0);
+			node.remove();
+			node = next;
+		}
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the types of findings which are extracted.
+	 * 
+	 * @return an unmodifiable set of the class's types field.
+	 */
+	public Set<FindingType> getTypes() {
+		return this.types;
+	}
+	
+	/**
+	 * Returns the region of the document which contains every requested type.
+	 * 
+	 * @return the class's region field.
+	 */
+	public DocumentRegion getRegion() {
+		return this.region;
+	}
+}
@@ -0,0 +1,101 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.Set;
+
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeVisitor;
+
+/**
+ * The class FindingsVisitor is used to collect every requested {@link FindingType} whilst
+ * visiting the nodes of a document. As each node is checked for every type at once, the
+ * document only needs to be walked a single time no matter how many types are requested.
+ * 
+ * The visitor is typically run by {@link FindingsExtractor}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class FindingsVisitor implements NodeVisitor {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores whether comments are collected.
+	 */
+	private final boolean comments;
+	
+	/**
+	 * Field which stores whether elements with a hidden type are collected.
+	 */
+	private final boolean hiddenInputs;
+	
+	/**
+	 * Field which stores whether meta elements are collected.
+	 */
+	private final boolean metas;
+	
+	/**
+	 * Field which stores the collected findings.
+	 */
+	private final Findings findings;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param types types of findings which should be collected.
+	 * @param findings findings which the collected findings are added to.
+	 */
+	public FindingsVisitor(Set<FindingType> types, Findings findings) {
+		// Look up each type once, rather than for every node.
+		this.comments = types.contains(FindingType.COMMENT);
+		this.hiddenInputs = types.contains(FindingType.HIDDEN_INPUT);
+		this.metas = types.contains(FindingType.META);
+		this.findings = findings;
+	}
+	
+	/*---- Overridden Methods ----*/
+	/**
+	 * Checks a node for each requested type when it is first visited.
+	 */
+	@Override
+	public void head(Node node, int depth) {
+		// Check to see if the node is a comment.
+		if (node instanceof Comment) {
+			if (this.comments) {
+				this.findings.add(FindingType.COMMENT, ((Comment) node).getData().strip());
+			}
+		} else if (node instanceof Element) {
+			Element element = (Element) node;
+			
+			// Check to see if the element is a meta element.
+			if (this.metas && element.normalName().equals("meta")) {
+				this.findings.add(FindingType.META, element.outerHtml());
+			}
+			
+			// Check to see if the element has a hidden type, matching the [type=hidden] selector.
+			if (this.hiddenInputs && element.attr("type").trim().equalsIgnoreCase("hidden")) {
+				this.findings.add(FindingType.HIDDEN_INPUT, element.outerHtml());
+			}
+		}
+	}
+	
+	/**
+	 * Nothing is collected when a node is left.
+	 */
+	@Override
+	public void tail(Node node, int depth) {
+		// Every finding is collected in head().
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the collected findings.
+	 * 
+	 * @return the class's findings field.
+	 */
+	public Findings getFindings() {
+		return this.findings;
+	}
+}
@@ -0,0 +1,192 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The class Fingerprint is used to calculate a fast, non-cryptographic, 64-bit hash of the
+ * body of a response. The 64-bit FNV-1a hash is applied to each character of the decoded
+ * body, meaning a body receives the same fingerprint whether it was read as a string or
+ * streamed, and whether or not it was compressed.
+ * 
+ * Fingerprints are only used to spot bodies which have already been seen, they must not
+ * be relied on where a collision could be deliberately caused.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class Fingerprint {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the offset basis of the 64-bit FNV-1a hash.
+	 */
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+	
+	/**
+	 * Constant which stores the prime of the 64-bit FNV-1a hash.
+	 */
+	private static final long PRIME = 0x100000001b3L;
+	
+	/*---- Field ----*/
+	/**
+	 * Field which stores the hash of every character added so far.
+	 */
+	private long hash = OFFSET_BASIS;
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the fingerprint of an entire body.
+	 * 
+	 * @param body decoded body of a response.
+	 * @return the fingerprint of the body.
+	 */
+	public static long of(CharSequence body) {
+		long hash = OFFSET_BASIS;
+		for (int i = 0; i < body.length(); i++) {
+			hash = (hash ^ body.charAt(i)) * PRIME;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Returns a fingerprint with its bits mixed, so that every bit of the result depends on
+	 * every bit of the fingerprint. The lowest bits of an FNV-1a hash only depend on the lowest
+	 * bits of each character, the mixed value should therefore be used wherever only part of
+	 * the bits are used, for example to choose a slot of a table.
+	 * 
+	 * @param fingerprint fingerprint to mix.
+	 * @return the mixed fingerprint, different fingerprints always remain different.
+	 */
+	public static long mix(long fingerprint) {
+		// The finalisation step of MurmurHash3.
+		fingerprint = (fingerprint ^ (fingerprint >>> 33)) * 0xff51afd7ed558ccdL;
+		fingerprint = (fingerprint ^ (fingerprint >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return fingerprint ^ (fingerprint >>> 33);
+	}
+	
+	/**
+	 * This method adds a single character to the fingerprint.
+	 * 
+	 * @param character character to add.
+	 */
+	public void update(char character) {
+		this.hash = (this.hash ^ character) * PRIME;
+	}
+	
+	/**
+	 * This method adds characters to the fingerprint.
+	 * 
+	 * @param characters buffer holding the characters.
+	 * @param offset index of the first character to add.
+	 * @param length amount of characters to add.
+	 */
+	public void update(char[] characters, int offset, int length) {
+		long hash = this.hash;
+		for (int i = offset; i < offset + length; i++) {
+			hash = (hash ^ characters[i]) * PRIME;
+		}
+		this.hash = hash;
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the fingerprint of every character added so far.
+	 * 
+	 * @return the class's hash field.
+	 */
+	public long getValue() {
+		return this.hash;
+	}
+	
+	/*---- Public Class ----*/
+	/**
+	 * The class HashingReader is used to calculate the fingerprint of a body whilst it is
+	 * being read, without holding the body in memory.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	public static class HashingReader extends FilterReader {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the fingerprint of the characters read so far.
+		 */
+		private final Fingerprint fingerprint = new Fingerprint();
+		
+		/**
+		 * Field which stores whether the end of the body has been reached.
+		 */
+		private boolean finished;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param body reader of the decoded body.
+		 */
+		public HashingReader(Reader body) {
+			super(body);
+		}
+		
+		/*---- Overridden Methods ----*/
+		/**
+		 * Reads a single character, adding it to the fingerprint.
+		 */
+		@Override
+		public int read() throws IOException {
+			int character = super.read();
+			if (character < 0) {
+				this.finished = true;
+			} else {
+				this.fingerprint.update((char) character);
+			}
+			return character;
+		}
+		
+		/**
+		 * Reads up to the specified amount of characters, adding them to the fingerprint.
+		 */
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			int count = super.read(buffer, offset, length);
+			if (count < 0) {
+				this.finished = true;
+			} else {
+				this.fingerprint.update(buffer, offset, count);
+			}
+			return count;
+		}
+		
+		/**
+		 * Skipped characters are still added to the fingerprint.
+		 */
+		@Override
+		public long skip(long count) throws IOException {
+			char[] buffer = new char[(int) Math.min(count, 8192)];
+			int read = this.read(buffer, 0, buffer.length);
+			return Math.max(read, 0);
+		}
+		
+		/*---- Getters ----*/
+		/**
+		 * Returns whether the entire body has been read, only then is the fingerprint complete.
+		 * 
+		 * @return the class's finished field.
+		 */
+		public boolean isFinished() {
+			return this.finished;
+		}
+		
+		/**
+		 * Returns the fingerprint of the characters read so far.
+		 * 
+		 * @return the value of the class's fingerprint field.
+		 */
+		public long getFingerprint() {
+			return this.fingerprint.getValue();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The class FingerprintIndex is used to remember the first URI, and its findings, which
+ * returned each body during a scan. Later responses with the same {@link Fingerprint} reuse
+ * the earlier findings rather than being parsed again, which is common when many sub-URIs
+ * return the same catch-all page.
+ * 
+ * The index holds at most a fixed amount of bodies, once full the body which was least recently
+ * seen is forgotten, so that a scan of many unique pages does not keep every set of findings in
+ * memory. A forgotten body is simply parsed again if it is returned once more.
+ * 
+ * The index is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class FingerprintIndex {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the amount of bodies remembered when no capacity is given.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+	
+	/**
+	 * Field which stores the first result of each fingerprint, in the order they were last seen.
+	 */
+	private final Map<Long, Entry> entries;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Constructor which remembers up to {@link #DEFAULT_CAPACITY} bodies.
+	 */
+	public FingerprintIndex() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Core constructor that aims to initialise an empty index holding up to the specified amount of bodies.
+	 * 
+	 * @param capacity maximum amount of bodies remembered.
+	 * @throws IllegalArgumentException if the capacity is not positive.
+	 */
+	public FingerprintIndex(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		
+		// Forget the least recently seen body once the index is full.
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+				return this.size() > capacity;
+			}
+		};
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the first result with the specified fingerprint.
+	 * 
+	 * @param fingerprint fingerprint of a body.
+	 * @return the entry of the first result, or null if the fingerprint has not been seen or was forgotten.
+	 */
+	public synchronized Entry get(long fingerprint) {
+		return this.entries.get(fingerprint);
+	}
+	
+	/**
+	 * Stores the findings of a body, unless a body with the same fingerprint has already been stored.
+	 * 
+	 * @param fingerprint fingerprint of the body.
+	 * @param uri URI which returned the body.
+	 * @param findings findings extracted from the body.
+	 * @return the entry which was already stored, or null if this is the first body with the fingerprint.
+	 */
+	public synchronized Entry putIfAbsent(long fingerprint, URI uri, Findings findings) {
+		return this.entries.putIfAbsent(fingerprint, new Entry(uri, findings));
+	}
+	
+	/**
+	 * Returns the amount of unique bodies stored.
+	 * 
+	 * @return the size of the class's entries field.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+	
+	/*---- Public Class ----*/
+	/**
+	 * The class Entry is used to store the first URI which returned a body, and its findings.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	public static class Entry {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the first URI which returned the body.
+		 */
+		private final URI uri;
+		
+		/**
+		 * Field which stores the findings extracted from the body.
+		 */
+		private final Findings findings;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param uri first URI which returned the body.
+		 * @param findings findings extracted from the body.
+		 */
+		public Entry(URI uri, Findings findings) {
+			this.uri = uri;
+			this.findings = findings;
+		}
+		
+		/*---- Getters ----*/
+		/**
+		 * Returns the first URI which returned the body.
+		 * 
+		 * @return the class's uri field.
+		 */
+		public URI getUri() {
+			return this.uri;
+		}
+		
+		/**
+		 * Returns the findings extracted from the body.
+		 * 
+		 * @return the class's findings field.
+		 */
+		public Findings getFindings() {
+			return this.findings;
+		}
+	}
+}
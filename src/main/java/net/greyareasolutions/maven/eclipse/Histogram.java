@@ -0,0 +1,200 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class Histogram is used to record every latency of a scan in a fixed amount of memory,
+ * in the style of HdrHistogram. Unlike {@link LatencyTracker}, which keeps only the most
+ * recent latencies, no latency is ever discarded, meaning the percentiles describe the whole
+ * scan.
+ * 
+ * Values are counted in log-linear buckets. Values below 64 have a bucket each, above that
+ * every power of two is split into 32 buckets, meaning any percentile returned is within
+ * about 3% of the recorded value. Recording a value only increments a counter, without
+ * holding a lock or allocating, so the class is cheap enough to record every request.
+ * 
+ * The class is safe to use from multiple threads at once. A percentile read whilst values
+ * are being recorded may not include the values being recorded.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class Histogram implements HistogramMBean {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the amount of bits of each value kept exactly, the rest being rounded.
+	 */
+	private static final int SUB_BUCKET_BITS = 5;
+	
+	/**
+	 * Constant which stores the amount of buckets each power of two is split into.
+	 */
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	/**
+	 * Constant which stores the amount of buckets needed to hold every positive long.
+	 */
+	private static final int BUCKETS = 2 * SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS - 2) * SUB_BUCKETS;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the amount of values recorded in each bucket.
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	
+	/**
+	 * Field which stores the amount of values recorded.
+	 */
+	private final LongAdder count = new LongAdder();
+	
+	/**
+	 * Field which stores the sum of the values recorded.
+	 */
+	private final LongAdder total = new LongAdder();
+	
+	/**
+	 * Field which stores the highest value recorded.
+	 */
+	private final AtomicLong max = new AtomicLong();
+	
+	/*---- Methods ----*/
+	/**
+	 * Records a value, for example a latency in nanoseconds.
+	 * 
+	 * @param value value recorded, negative values are recorded as 0.
+	 */
+	public void record(long value) {
+		long recorded = Math.max(0, value);
+		this.buckets.incrementAndGet(indexOf(recorded));
+		this.count.increment();
+		this.total.add(recorded);
+		
+		// Only contend on the maximum when it actually changes.
+		if (recorded > this.max.get()) {
+			this.max.accumulateAndGet(recorded, Math::max);
+		}
+	}
+	
+	/**
+	 * Returns a percentile of the values recorded.
+	 * 
+	 * @param percentile percentile between 0 and 1, for example 0.99.
+	 * @return the highest value of the bucket holding the percentile, or 0 if nothing has been recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = this.getCount();
+		if (count == 0) {
+			return 0;
+		}
+		
+		// Use the nearest rank, walking the buckets until enough values have been passed.
+		long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * count));
+		long passed = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			passed += this.buckets.get(i);
+			if (passed >= rank) {
+				return Math.min(highestValueOf(i), this.getMax());
+			}
+		}
+		
+		// Values recorded whilst walking the buckets may leave the rank unreached.
+		return this.getMax();
+	}
+	
+	/**
+	 * Returns the mean of the values recorded.
+	 * 
+	 * @return the mean, or 0 if nothing has been recorded.
+	 */
+	public double getMean() {
+		long count = this.getCount();
+		return count == 0 ? 0 : (double) this.total.sum() / count;
+	}
+	
+	/**
+	 * This method finds the bucket holding a value.
+	 * 
+	 * @param value value, at least 0.
+	 * @return the index of the bucket.
+	 */
+	static int indexOf(long value) {
+		// Values small enough to be kept exactly have a bucket each.
+		if (value < 2 * SUB_BUCKETS) {
+			return (int) value;
+		}
+		
+		// Keep the highest bits of larger values, the shift being one for values below 128.
+		int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+		return 2 * SUB_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+	
+	/**
+	 * This method finds the highest value held by a bucket.
+	 * 
+	 * @param index index of the bucket.
+	 * @return the highest value which would be recorded in the bucket.
+	 */
+	static long highestValueOf(int index) {
+		if (index < 2 * SUB_BUCKETS) {
+			return index;
+		}
+		
+		int shift = (index - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+		long subBucket = (index - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the amount of values recorded.
+	 * 
+	 * @return the class's count field.
+	 */
+	@Override
+	public long getCount() {
+		return this.count.sum();
+	}
+	
+	/**
+	 * Returns the highest value recorded.
+	 * 
+	 * @return the class's max field, 0 if nothing has been recorded.
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+	
+	/*---- Overridden Methods ----*/
+	@Override
+	public double getMeanMillis() {
+		return this.getMean() / 1e6;
+	}
+	
+	@Override
+	public double getMaxMillis() {
+		return this.getMax() / 1e6;
+	}
+	
+	@Override
+	public double getP50Millis() {
+		return this.getValueAtPercentile(0.50) / 1e6;
+	}
+	
+	@Override
+	public double getP90Millis() {
+		return this.getValueAtPercentile(0.90) / 1e6;
+	}
+	
+	@Override
+	public double getP99Millis() {
+		return this.getValueAtPercentile(0.99) / 1e6;
+	}
+	
+	@Override
+	public double getP999Millis() {
+		return this.getValueAtPercentile(0.999) / 1e6;
+	}
+}
@@ -0,0 +1,61 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The interface HistogramMBean is used to expose a {@link Histogram} via JMX, for example in
+ * JConsole or VisualVM, whilst a scan is running. Every latency is returned in milliseconds.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public interface HistogramMBean {
+	/*---- Methods ----*/
+	/**
+	 * Returns the amount of values recorded.
+	 * 
+	 * @return the amount of values recorded.
+	 */
+	long getCount();
+	
+	/**
+	 * Returns the mean of the values recorded.
+	 * 
+	 * @return the mean in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getMeanMillis();
+	
+	/**
+	 * Returns the highest value recorded.
+	 * 
+	 * @return the highest value in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getMaxMillis();
+	
+	/**
+	 * Returns the 50th percentile of the values recorded.
+	 * 
+	 * @return the 50th percentile in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getP50Millis();
+	
+	/**
+	 * Returns the 90th percentile of the values recorded.
+	 * 
+	 * @return the 90th percentile in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getP90Millis();
+	
+	/**
+	 * Returns the 99th percentile of the values recorded.
+	 * 
+	 * @return the 99th percentile in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getP99Millis();
+	
+	/**
+	 * Returns the 99.9th percentile of the values recorded.
+	 * 
+	 * @return the 99.9th percentile in milliseconds, or 0 if nothing has been recorded.
+	 */
+	double getP999Millis();
+}
@@ -0,0 +1,336 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class HostLimiter is used to pace the requests sent to a single host. Requests are
+ * limited both by a token bucket, which sets the rate that requests are started at, and
+ * by a concurrency limit, which sets how many requests may be in flight at once.
+ * 
+ * Both limits adapt using additive increase, multiplicative decrease (AIMD). Until the host
+ * first shows signs of overload, the limits double roughly every round trip so that a fast
+ * host is reached quickly. Afterwards, whilst the host responds quickly and without errors,
+ * each response raises the limits slightly, by roughly one request per second, and one
+ * request in flight, every round trip. When the host responds
+ * with <b>429 Too Many Requests</b> or <b>503 Service Unavailable</b>, a request fails, or the
+ * latency rises well above the lowest latency seen, both limits are halved. The limits therefore
+ * settle just below the highest rate the host is able to sustain.
+ * 
+ * Permits are handed out in the order they were requested, see {@link #acquire()} and
+ * {@link #release(long, int)}. The class is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class HostLimiter {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the lowest rate, in requests per second, the limiter will back off to.
+	 */
+	public static final double MIN_RATE = 0.5;
+	
+	/**
+	 * Constant which stores the factor both limits are multiplied by when the host is overloaded.
+	 */
+	private static final double DECREASE = 0.5;
+	
+	/**
+	 * Constant which stores how many requests per second the rate is raised by, per second of healthy responses.
+	 */
+	private static final double RATE_INCREASE = 1.0;
+	
+	/**
+	 * Constant which stores how far the smoothed latency may rise above the lowest latency before the host is treated as overloaded.
+	 */
+	private static final double LATENCY_TOLERANCE = 2.0;
+	
+	/**
+	 * Constant which stores how far, in nanoseconds, the smoothed latency must also rise above the lowest latency, so that jitter on fast hosts is ignored.
+	 */
+	private static final long LATENCY_SLACK = 50_000_000L;
+	
+	/**
+	 * Constant which stores how many healthy responses are needed before latency is judged, as the first requests also set up connections.
+	 */
+	private static final int LATENCY_SAMPLES = 10;
+	
+	/**
+	 * Constant which stores the weight given to each new latency when smoothing.
+	 */
+	private static final double LATENCY_WEIGHT = 0.2;
+	
+	/**
+	 * Constant which stores how many seconds of requests the token bucket is able to hold, allowing small bursts.
+	 */
+	private static final double BURST_SECONDS = 0.1;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the highest rate, in requests per second.
+	 */
+	private final double maxRate;
+	
+	/**
+	 * Field which stores the highest amount of requests in flight.
+	 */
+	private final int maxLimit;
+	
+	/**
+	 * Field which stores the executor used to wait for the next token.
+	 */
+	private final ScheduledExecutorService scheduler;
+	
+	/**
+	 * Field which stores the permits which are waiting, in the order they were requested.
+	 */
+	private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+	
+	/**
+	 * Field which stores the current rate, in requests per second.
+	 */
+	private double rate;
+	
+	/**
+	 * Field which stores the current amount of requests allowed in flight.
+	 */
+	private double limit;
+	
+	/**
+	 * Field which stores the amount of tokens in the bucket.
+	 */
+	private double tokens = 1;
+	
+	/**
+	 * Field which stores when the bucket was last refilled, in nanoseconds.
+	 */
+	private long lastRefill = System.nanoTime();
+	
+	/**
+	 * Field which stores the amount of requests in flight.
+	 */
+	private int inFlight;
+	
+	/**
+	 * Field which stores the smoothed latency of healthy responses in nanoseconds, 0 until the first response.
+	 */
+	private double smoothedLatency;
+	
+	/**
+	 * Field which stores the lowest latency seen in nanoseconds, 0 until the first response.
+	 */
+	private double minLatency;
+	
+	/**
+	 * Field which stores the amount of healthy responses received.
+	 */
+	private int samples;
+	
+	/**
+	 * Field which stores when the limits were last decreased, in nanoseconds.
+	 */
+	private long lastDecrease = System.nanoTime();
+	
+	/**
+	 * Field which stores whether a refill has already been scheduled.
+	 */
+	private boolean refillScheduled;
+	
+	/**
+	 * Field which stores whether the limits are still doubling, true until the host first shows signs of overload.
+	 */
+	private boolean slowStart = true;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param initialRate rate to start at, in requests per second.
+	 * @param maxRate highest rate, in requests per second.
+	 * @param initialLimit amount of requests allowed in flight to start with.
+	 * @param maxLimit highest amount of requests allowed in flight.
+	 * @param scheduler executor used to wait for the next token.
+	 */
+	public HostLimiter(double initialRate, double maxRate, int initialLimit, int maxLimit, ScheduledExecutorService scheduler) {
+		this.maxRate = Math.max(MIN_RATE, maxRate);
+		this.maxLimit = Math.max(1, maxLimit);
+		this.rate = Math.min(this.maxRate, Math.max(MIN_RATE, initialRate));
+		this.limit = Math.min(this.maxLimit, Math.max(1, initialLimit));
+		this.scheduler = scheduler;
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Requests a permit to send a request to the host. The permit is granted once a token is
+	 * available and fewer requests than the limit are in flight. Every granted permit must be
+	 * returned via {@link #release(long, int)}.
+	 * 
+	 * @return a future which completes once the request may be sent.
+	 */
+	public CompletableFuture<Void> acquire() {
+		CompletableFuture<Void> permit = new CompletableFuture<>();
+		synchronized (this) {
+			this.waiters.add(permit);
+		}
+		this.grant();
+		return permit;
+	}
+	
+	/**
+	 * Returns a permit once its request has finished, adjusting the limits based on the response.
+	 * 
+	 * @param latencyNanos time taken by the request, in nanoseconds.
+	 * @param statusCode status code of the response, or -1 if the request failed.
+	 */
+	public void release(long latencyNanos, int statusCode) {
+		synchronized (this) {
+			this.inFlight--;
+			this.adjust(latencyNanos, statusCode);
+		}
+		this.grant();
+	}
+	
+	/**
+	 * Cancels a permit which is no longer needed, returning its slot if it had already been granted.
+	 * 
+	 * @param permit permit returned by {@link #acquire()}.
+	 */
+	public void cancel(CompletableFuture<Void> permit) {
+		// A permit cancelled whilst waiting is skipped once its turn comes.
+		if (!permit.cancel(false)) {
+			synchronized (this) {
+				this.inFlight--;
+			}
+			this.grant();
+		}
+	}
+	
+	/**
+	 * Raises the limits after a healthy response, or lowers them if the host is overloaded.
+	 * 
+	 * @param latencyNanos time taken by the request, in nanoseconds.
+	 * @param statusCode status code of the response, or -1 if the request failed.
+	 */
+	private void adjust(long latencyNanos, int statusCode) {
+		boolean overloaded = statusCode == 429 || statusCode == 503 || statusCode < 0;
+		
+		// Only healthy responses are used to judge the latency of the host.
+		if (!overloaded) {
+			// Smoothing only starts once the connections have been set up, so that the first slow responses are forgotten.
+			this.samples++;
+			this.smoothedLatency = this.samples <= LATENCY_SAMPLES ? latencyNanos : this.smoothedLatency * (1 - LATENCY_WEIGHT) + latencyNanos * LATENCY_WEIGHT;
+			
+			// The lowest latency slowly drifts upwards, so that a permanent change in the network is eventually accepted.
+			this.minLatency = this.minLatency == 0 ? latencyNanos : Math.min(latencyNanos, this.minLatency * 1.01);
+			overloaded = this.samples > LATENCY_SAMPLES && this.smoothedLatency > Math.max(this.minLatency * LATENCY_TOLERANCE, this.minLatency + LATENCY_SLACK);
+		}
+		
+		if (overloaded) {
+			// Decrease at most once per round trip, the responses already in flight were sent at the old limits.
+			long now = System.nanoTime();
+			if (now - this.lastDecrease >= this.smoothedLatency) {
+				this.limit = Math.max(1, this.limit * DECREASE);
+				this.rate = Math.max(MIN_RATE, this.rate * DECREASE);
+				this.tokens = Math.min(this.tokens, 0);
+				this.lastDecrease = now;
+				this.slowStart = false;
+			}
+		} else if (!this.waiters.isEmpty()) {
+			// Only raise the limits whilst they are holding requests back, each response adds a whole request during slow start.
+			if (this.inFlight + 1 >= (int) this.limit) {
+				this.limit = Math.min(this.maxLimit, this.limit + (this.slowStart ? 1 : 1 / this.limit));
+			}
+			this.rate = Math.min(this.maxRate, this.rate + (this.slowStart ? 1 : RATE_INCREASE / this.rate));
+		}
+	}
+	
+	/**
+	 * Grants as many waiting permits as the limits allow. If a permit is only waiting on a
+	 * token, a refill is scheduled for when the next token will be available.
+	 */
+	private void grant() {
+		List<CompletableFuture<Void>> granted = new ArrayList<>();
+		
+		synchronized (this) {
+			this.refill();
+			
+			// Hand out permits whilst both a token and a slot are available.
+			while (!this.waiters.isEmpty() && this.inFlight < (int) this.limit && this.tokens >= 1) {
+				this.tokens--;
+				this.inFlight++;
+				granted.add(this.waiters.poll());
+			}
+			
+			// Wait for the next token if a slot is free.
+			if (!this.waiters.isEmpty() && this.inFlight < (int) this.limit && !this.refillScheduled) {
+				this.refillScheduled = true;
+				long delay = (long) Math.ceil((1 - this.tokens) / this.rate * 1_000_000_000L);
+				this.scheduler.schedule(this::scheduledRefill, delay, TimeUnit.NANOSECONDS);
+			}
+		}
+		
+		// Complete the permits outside of the lock, as completing runs the waiting requests.
+		for (CompletableFuture<Void> permit : granted) {
+			if (!permit.complete(null)) {
+				// The permit was cancelled whilst waiting, return its slot.
+				synchronized (this) {
+					this.inFlight--;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Grants waiting permits once the scheduled token is available.
+	 */
+	private void scheduledRefill() {
+		synchronized (this) {
+			this.refillScheduled = false;
+		}
+		this.grant();
+	}
+	
+	/**
+	 * Adds the tokens earned since the last refill, up to the capacity of the bucket.
+	 */
+	private void refill() {
+		long now = System.nanoTime();
+		double capacity = Math.max(1, this.rate * BURST_SECONDS);
+		this.tokens = Math.min(capacity, this.tokens + (now - this.lastRefill) * this.rate / 1_000_000_000L);
+		this.lastRefill = now;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the current rate of requests.
+	 * 
+	 * @return the class's rate field, in requests per second.
+	 */
+	public synchronized double getRate() {
+		return this.rate;
+	}
+	
+	/**
+	 * Returns the current amount of requests allowed in flight.
+	 * 
+	 * @return the class's limit field, rounded down.
+	 */
+	public synchronized int getLimit() {
+		return (int) this.limit;
+	}
+	
+	/**
+	 * Returns the amount of requests in flight.
+	 * 
+	 * @return the class's inFlight field.
+	 */
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+}
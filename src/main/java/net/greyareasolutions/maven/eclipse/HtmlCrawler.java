@@ -0,0 +1,345 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class HtmlCrawler is used to discover and scan the pages of a site, starting from the
+ * root URI and any supplied sub URIs. The same-origin links of each page are found by a
+ * {@link LinkExtractor}, and every link which has not been seen before, as remembered by a
+ * compact {@link VisitedSet}, is added to the frontier, a queue shared by a fixed amount of
+ * worker threads. Each worker takes the next page from the frontier and scans it through the
+ * shared {@link HtmlScannerEngine}.
+ * 
+ * The crawl stops once every page up to the maximum depth has been scanned, or once the
+ * maximum amount of pages has been reached. The root URI and sub URIs have a depth of 0, and
+ * pages linked to by them have a depth of 1, and so on.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (HtmlScannerEngine engine = new HtmlScannerEngine(options)) {
+ *     HtmlCrawler crawler = new HtmlCrawler(engine, new ArrayList&lt;&gt;());
+ *     crawler.setMaxDepth(2);
+ *     crawler.crawl(result -&gt; System.out.println(result.getUri()));
+ * }
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class HtmlCrawler {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default depth of links followed from the root URI.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 3;
+	
+	/**
+	 * Constant which stores the default highest amount of pages scanned.
+	 */
+	public static final int DEFAULT_MAX_PAGES = 1000;
+	
+	/**
+	 * Constant which stores the default amount of worker threads.
+	 */
+	public static final int DEFAULT_WORKERS = 16;
+	
+	/**
+	 * Constant which stores how long, in milliseconds, an idle worker waits for a page before checking whether the crawl has finished.
+	 */
+	private static final long POLL_INTERVAL = 100;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the engine shared by every request.
+	 */
+	private final HtmlScannerEngine engine;
+	
+	/**
+	 * Field which stores the sub URIs which are scanned along with the root URI.
+	 */
+	private final Iterable<String> subUris;
+	
+	/**
+	 * Field which stores the extractor used to find the links of each page.
+	 */
+	private final LinkExtractor linkExtractor;
+	
+	/**
+	 * Field which stores the highest depth of links followed from the root URI.
+	 */
+	private int maxDepth;
+	
+	/**
+	 * Field which stores the highest amount of pages scanned.
+	 */
+	private int maxPages;
+	
+	/**
+	 * Field which stores the amount of worker threads.
+	 */
+	private int workers;
+	
+	/**
+	 * Field which stores every normalised URI seen by the current crawl.
+	 */
+	private VisitedSet visited;
+	
+	/**
+	 * Field which stores the pages waiting to be scanned by the current crawl.
+	 */
+	private BlockingQueue<Page> frontier;
+	
+	/**
+	 * Field which stores the amount of pages of the current crawl which are waiting or being scanned.
+	 */
+	private AtomicInteger pending;
+	
+	/**
+	 * Field which stores the amount of pages the current crawl has added to the frontier.
+	 */
+	private AtomicInteger scheduled;
+	
+	/**
+	 * Field which stores the latch released once the current crawl has finished.
+	 */
+	private CountDownLatch finished;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param engine engine used to send every request, the URI of its options is used as the root URI.
+	 * @param subUris sub URIs which are scanned along with the root URI, for example <i>login/</i>.
+	 * @throws IllegalArgumentException if the root URI is not an absolute HTTP or HTTPS URI.
+	 */
+	public HtmlCrawler(HtmlScannerEngine engine, Iterable<String> subUris) {
+		this.engine = engine;
+		this.subUris = subUris;
+		this.linkExtractor = new LinkExtractor(engine.getOptions().getURI());
+		this.maxDepth = DEFAULT_MAX_DEPTH;
+		this.maxPages = DEFAULT_MAX_PAGES;
+		this.workers = DEFAULT_WORKERS;
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method crawls the site, handing each {@link ScanResult} to the listener as soon as
+	 * its request has finished. The engine is given the crawler's {@link LinkExtractor}, and
+	 * this method returns once the crawl has finished.
+	 * 
+	 * The listener is called from the worker threads and must be thread-safe.
+	 * 
+	 * @param listener listener which receives the outcome of each request, including failed requests.
+	 */
+	public void crawl(ScanResultListener listener) {
+		// Start a new crawl.
+		this.visited = new VisitedSet(this.maxPages, false);
+		this.frontier = new LinkedBlockingQueue<>();
+		this.pending = new AtomicInteger();
+		this.scheduled = new AtomicInteger();
+		this.finished = new CountDownLatch(1);
+		this.engine.setLinkExtractor(this.linkExtractor);
+		
+		// Add the root URI and each sub URI to the frontier.
+		URI root = this.engine.getOptions().getURI();
+		this.offer(root, 0);
+		for (String subUri : this.subUris) {
+			try {
+				this.offer(this.engine.getTemplate().resolve(subUri), 0);
+			} catch (URISyntaxException e) {
+				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+			}
+		}
+		
+		// Check to see if there is anything to crawl.
+		if (this.pending.get() == 0) {
+			return;
+		}
+		
+		// Start the workers, each taking pages from the frontier until the crawl has finished.
+		ExecutorService executor = Executors.newFixedThreadPool(this.workers);
+		for (int i = 0; i < this.workers; i++) {
+			executor.execute(() -> this.work(listener));
+		}
+		
+		try {
+			// Wait for every page to be scanned.
+			this.finished.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		} finally {
+			// Stop the workers, which are idle unless the crawl was interrupted.
+			executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * This method is run by each worker, scanning pages from the frontier and adding the
+	 * links of each page, until the crawl has finished.
+	 * 
+	 * @param listener listener which receives the outcome of each request.
+	 */
+	private void work(ScanResultListener listener) {
+		try {
+			while (this.finished.getCount() > 0) {
+				// Wait for a page, checking whether the crawl has finished if none arrives.
+				Page page = this.frontier.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+				if (page == null) {
+					continue;
+				}
+				
+				try {
+					// Send the request using the shared engine.
+					ScanResult result = this.engine.scan(page.uri);
+					
+					// Add the links of the page before it is handed over, so that other workers are able to start on them.
+					if (page.depth < this.maxDepth && result.getLinks() != null) {
+						for (URI link : result.getLinks()) {
+							this.offer(link, page.depth + 1);
+						}
+					}
+					listener.onResult(result);
+				} catch (RuntimeException e) {
+					// Report the page and carry on, a worker which stopped would leave its pages in the frontier.
+					System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+				} finally {
+					// The crawl has finished once no pages are waiting or being scanned.
+					if (this.pending.decrementAndGet() == 0) {
+						this.finished.countDown();
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			// The crawl was stopped.
+		}
+	}
+	
+	/**
+	 * This method adds a page to the frontier, unless it has already been seen or the
+	 * maximum amount of pages has been reached.
+	 * 
+	 * @param uri URI of the page.
+	 * @param depth depth of the page.
+	 */
+	private void offer(URI uri, int depth) {
+		// Stop adding pages once the maximum has been reached.
+		if (this.scheduled.get() >= this.maxPages) {
+			return;
+		}
+		
+		// Only add pages which have not been seen, in their normalised form.
+		URI normalized = LinkExtractor.normalize(uri);
+		if (normalized == null || !this.visited.add(normalized.toString()) || this.scheduled.incrementAndGet() > this.maxPages) {
+			return;
+		}
+		this.pending.incrementAndGet();
+		this.frontier.add(new Page(normalized, depth));
+	}
+	
+	/*---- Getters and Setters ----*/
+	/**
+	 * Returns the highest depth of links followed from the root URI.
+	 * 
+	 * @return the class's maxDepth field.
+	 */
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+	
+	/**
+	 * Sets the highest depth of links followed from the root URI.
+	 * 
+	 * @param maxDepth highest depth, 0 only scans the root URI and sub URIs.
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+	
+	/**
+	 * Returns the highest amount of pages scanned.
+	 * 
+	 * @return the class's maxPages field.
+	 */
+	public int getMaxPages() {
+		return this.maxPages;
+	}
+	
+	/**
+	 * Sets the highest amount of pages scanned.
+	 * 
+	 * @param maxPages highest amount of pages, including the root URI and sub URIs.
+	 */
+	public void setMaxPages(int maxPages) {
+		this.maxPages = maxPages;
+	}
+	
+	/**
+	 * Returns the amount of worker threads.
+	 * 
+	 * @return the class's workers field.
+	 */
+	public int getWorkers() {
+		return this.workers;
+	}
+	
+	/**
+	 * Sets the amount of worker threads.
+	 * 
+	 * @param workers amount of worker threads, must be greater than 0.
+	 */
+	public void setWorkers(int workers) {
+		this.workers = workers;
+	}
+	
+	/**
+	 * Returns the extractor used to find the links of each page.
+	 * 
+	 * @return the class's linkExtractor field.
+	 */
+	public LinkExtractor getLinkExtractor() {
+		return this.linkExtractor;
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * This class is used to store a page waiting in the frontier.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private static class Page {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the normalised URI of the page.
+		 */
+		private final URI uri;
+		
+		/**
+		 * Field which stores the depth of the page.
+		 */
+		private final int depth;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param uri normalised URI of the page.
+		 * @param depth depth of the page.
+		 */
+		public Page(URI uri, int depth) {
+			this.uri = uri;
+			this.depth = depth;
+		}
+	}
+}
@@ -1,17 +1,10 @@
 package net.greyareasolutions.maven.eclipse;
 
-import java.io.IOException;
-import java.net.CookieHandler;
-import java.net.CookieManager;
 import java.net.HttpCookie;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpRequest.Builder;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpResponse;
-import java.util.regex.Pattern;
-import java.net.http.HttpClient.Version;
 
 /**
  * The class HtmlScanner is used to create a connection to a specified URI.
@@ -22,8 +15,9 @@ import java.net.http.HttpClient.Version;
  * An example of the class's usage can be seen below:
  * <pre>
  * HttpOptions options = new HttpOptions("https://www.google.com");
- * HtmlScanner htmlScanner = new HtmlScanner(options);
- * String html = htmlScanner.getResponse().body();
+ * try (HtmlScanner htmlScanner = new HtmlScanner(options)) {
+ *     String html = htmlScanner.getResponse().body();
+ * }
  * </pre>
  * If it is required for a URI to be changed, or an extra header needs to be added, etc...
  * it is crucial that the HTML is re-constructed, an example of this can be seen below:
@@ -35,17 +29,35 @@ import java.net.http.HttpClient.Version;
  * <b>htmlScanner.constructHtml();</b>
  * ...
  * </pre>
+ * The class is a thin wrapper around {@link HtmlScannerEngine}. When scanning many URIs of the
+ * same host, a single engine should be shared between scanners via
+ * {@link #HtmlScanner(HtmlScannerEngine, URI)} so that connections are re-used.
+ * 
+ * A scanner created from {@link HttpOptions} owns its engine, whose threads are only stopped
+ * once the scanner has been closed. Closing a scanner which shares an engine does nothing, the
+ * shared engine is closed by whoever created it.
+ * 
  * @author Max Harris - mjh@greyareasolutions.net
  * @version v0.0.1
  * @since 12-03-2023
  */
-public class HtmlScanner {
+public class HtmlScanner implements AutoCloseable {
 	/*---- Fields ----*/
 	/**
 	 * Fields which stores the options that need to be sent with the request.
 	 */
 	private HttpOptions options;
 	
+	/**
+	 * Field which stores the engine used to send the request.
+	 */
+	private HtmlScannerEngine engine;
+	
+	/**
+	 * Field which stores whether the engine was created by this scanner, and can therefore be re-created.
+	 */
+	private final boolean ownsEngine;
+	
 	/**
 	 * Field which stores the target cookie.
 	 */
@@ -66,7 +78,7 @@ public class HtmlScanner {
 	 */
 	private HttpResponse<String> response;
 	
-	/*---- Constructor ----*/
+	/*---- Constructors ----*/
 	/**
 	 * Core constructor that aims to initialise all declared fields of the class. 
 	 * 
@@ -79,141 +91,64 @@ public class HtmlScanner {
 		// Initialise the options field.
 		this.options = options;
 		
+		// The engine is created by constructHtml(), meaning it is owned by this scanner.
+		this.ownsEngine = true;
+		
 		// As a user can re-construct the HTTP objects, this is decoupled into a separate function.
 		this.constructHtml();
 	}
 	
-	/*---- Methods ----*/
-	/**
-	 * This method aims to initialise the relevant HTTP objects so that a HTTP request can be sent to the target.
-	 */
-	public void constructHtml() {
-		this.cookie = this.generateCookie(this.options.getCookie());
-		this.client = this.generateClient(this.options.getURI(), this.cookie);
-		this.request = this.generateRequest();
-		this.response = this.generateResponse();
-	}
-	
-	/**
-	 * Initialises a cookie to be sent in a HTTP request, the path set will allow for the target's main directory as well as sub-directories.
-	 * In order for the cookie to be correctly set it must follow a strict format.
-	 * The correct form is that of <b>cookieName=cookieValue(;...)</b>.
-	 * 
-	 * @param cookie sets the relevant cookie needed if authentication is present.
-	 * @return an initialised <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/net/HttpCookie.html" title="class or interface in java.net" class="external-link">HttpCookie</a> that follows allows a cookie of version 0.
-	 */
-	private HttpCookie generateCookie(String cookie) {
-		// Check to see if cookie string is in correct format (cookieName=cookieValue).
-		if (Pattern.matches(".*=.*", cookie)) {
-			// Split the cookie on the "=" part.
-			String cookieName = cookie.split("=")[0];
-			String cookieValue = cookie.split("=")[1];
-			
-			// Create the cookie.
-			HttpCookie httpCookie = new HttpCookie(cookieName, cookieValue);
-			
-			// Set the cookie path to apply to the current domain and all sub-domains.
-			httpCookie.setPath("/");
-			
-			// Sets the normal cookie specification.
-			httpCookie.setVersion(0);
-			
-			// Return the created cookie.
-			return httpCookie;
-		}
-		
-		// Return an empty cookie, signifying that a cookie is not present.
-		return new HttpCookie("none", "");
-	}
-	
 	/**
-	 * Initialises and sets up a client to be used when sending a HTTP request to the target URI.
-	 * This method is also responsible for adding a cookie to the client if the cookie's name is not equal to <b>"none"</b>.
+	 * Constructor which sends the request through an already existing {@link HtmlScannerEngine}.
+	 * The engine's cookie, headers, and timeout are used, only the target URI differs.
 	 * 
+	 * @param engine engine shared between scanners.
 	 * @param uri URI of the target.
-	 * @param cookie sets the relevant cookie needed if authentication is present.
-	 * @return an initialised and built <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpClient.html" title="class or interface in java.net.http" class="external-link">HttpClient</a> with a default HTTP version of 2.
 	 */
-	private HttpClient generateClient(URI uri, HttpCookie cookie) {
-		// Check to see if the initialised cookie actually has any set values present.
-		if (!this.cookie.getName().equals("none")) {
-			// Create a cookie manager so that the cookie can be passed alongside the client.
-			CookieHandler.setDefault(new CookieManager());
-			
-			// Attempt to resolve the URI.
-			((CookieManager) CookieHandler.getDefault()).getCookieStore().add(uri, cookie);
-
-			// Return the client with a cookie, version is set to HTTP/2 to cover all basis.
-			return HttpClient.newBuilder()
-					.version(Version.HTTP_2)
-					.cookieHandler(CookieHandler.getDefault())
-					.build();
-		}
+	public HtmlScanner(HtmlScannerEngine engine, URI uri) {
+		// Copy the engine's options, only the URI should change.
+		HttpOptions engineOptions = engine.getOptions();
+		this.options = new HttpOptions(uri, engineOptions.getCookie(), engineOptions.getHeaders(), engineOptions.getTimeout());
+		
+		// The engine is shared, therefore it must never be re-created or closed by this scanner.
+		this.engine = engine;
+		this.ownsEngine = false;
 		
-		// Return a client without a cookie.
-		return HttpClient.newBuilder()
-				.version(Version.HTTP_2)
-				.build();
+		// Send the request.
+		this.constructHtml();
 	}
 	
+	/*---- Methods ----*/
 	/**
-	 * Initialises and sets up a request that can be sent to the target URI.
-	 * This method also checks if there are any headers to be sent, if so, they will be added iteratively - a timeout is also added.
-	 * 
-	 * @return an initialised and built <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpRequest.html" title="class or interface in java.net.http" class="external-link">HttpRequest</a> specified to send a GET request.
+	 * This method aims to initialise the relevant HTTP objects so that a HTTP request can be sent to the target.
+	 * If the engine is owned by this scanner, it is re-created so that any changes to the options are applied.
 	 */
-	private HttpRequest generateRequest() {
-		// Create a HttpRequest instance.
-		Builder httpRequest = HttpRequest.newBuilder();
-		
-		// Set request URI.
-		httpRequest.uri(this.options.getURI());
-		
-		if (this.options.getURI() == null) {
-			return httpRequest.build();
-		}
-		
-		// Check to see if any headers have been specified.
-		if (this.options.getHeaders().size() > 0 && this.options.getHeaders() != null) {
-			// Iterate through each header and add it to the request.
-			for (int i = 0; i < this.options.getHeaders().size(); i++) {
-				String key = (String) this.options.getHeaders().keySet().toArray()[i];
-				String value = this.options.getHeaders().get(key);
-				
-				// Add header to request.
-				httpRequest.setHeader(key, value);
+	@SuppressWarnings("unchecked")
+	public void constructHtml() {
+		// Re-create the engine if owned, closing the previous one.
+		if (this.ownsEngine) {
+			if (this.engine != null) {
+				this.engine.close();
 			}
+			this.engine = new HtmlScannerEngine(this.options, 1);
 		}
 		
-		// Set as GET request.
-		httpRequest.GET();
-		
-		// Check to see if specified duration is 0, less, or null.
-		if (this.options.getTimeout().isNegative() || this.options.getTimeout().isZero() || this.options.getTimeout() == null) {
-			// Set timeout to default.
-			httpRequest.timeout(this.options.getTimeout());
-		} else {
-			// Set timeout to specified amount.
-			httpRequest.timeout(this.options.getTimeout());
-		}
+		this.cookie = this.engine.getCookie();
+		this.client = this.engine.getClient();
+		this.request = this.engine.generateRequest(this.options.getURI());
 		
-		// Build and return the request.
-		return httpRequest.build();
+		// The engine reads the body of a sent request as a string.
+		this.response = (HttpResponse<String>) this.engine.send(this.request).getResponse();
 	}
 	
 	/**
-	 * Initialises and stores the response obtained via the HTTP request.
-	 * 
-	 * @return the stored response from the request.
+	 * Closes the engine if it was created by this scanner, the client can no longer be used afterwards.
 	 */
-	private HttpResponse<String> generateResponse() {
-		try {
-			// Return the response of the HTTP request.
-			return this.client.send(this.request, BodyHandlers.ofString());
-		} catch (IOException | InterruptedException e) {
-			// Will have to return null.
-			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
-			return null;
+	@Override
+	public void close() {
+		if (this.ownsEngine && this.engine != null) {
+			this.engine.close();
+			this.engine = null;
 		}
 	}
 	
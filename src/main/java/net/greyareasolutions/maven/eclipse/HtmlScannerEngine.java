@@ -0,0 +1,1287 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.Builder;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+/**
+ * The class HtmlScannerEngine is a long-lived, thread-safe engine used to send requests to
+ * any number of URIs. Unlike creating a {@link HtmlScanner} per URI, the engine builds a single
+ * <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpClient.html" title="class or interface in java.net.http" class="external-link">HttpClient</a>
+ * with its own executor, meaning that every request sent through the engine shares the client's
+ * connection pool. Requests to the same host will therefore re-use keep-alive connections and,
+ * where available, HTTP/2 multiplexing rather than opening a new TCP/TLS connection each time.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * HttpOptions options = new HttpOptions(new URI("https://www.example.com/"));
+ * try (HtmlScannerEngine engine = new HtmlScannerEngine(options)) {
+ *     ScanResult result = engine.scan(new URI("https://www.example.com/login/"));
+ *     String html = result.getBody();
+ * }
+ * </pre>
+ * The cookie, headers, and timeout of the supplied {@link HttpOptions} are applied to every
+ * request sent by the engine, only the target URI changes. They are compiled once into a
+ * {@link RequestTemplate}, so that each request only copies a prepared builder. Cookies are
+ * held in the engine's own {@link ScanCookieStore}, which also keeps any cookies set by the
+ * target, so engines never share cookies with each other.
+ * 
+ * If a {@link FindingsExtractor} is set, {@link #scan(URI)} and {@link #scanAsync(URI)} also
+ * extract the findings of each response. When streaming is enabled, the body is parsed whilst
+ * it is being read rather than being held as a string first. Responses are always streamed
+ * when the extractor only needs part of the document, so that the rest of the body is never
+ * downloaded.
+ * 
+ * Compressed responses are requested by default via the <b>Accept-Encoding</b> header, and
+ * are decompressed by {@link DecodingBodyHandlers} whilst being read.
+ * 
+ * If a {@link FindingsCache} is also set, requests for previously scanned URIs are sent with
+ * their cached validators, and the cached findings are reused if the page has not been modified.
+ * 
+ * If a {@link FingerprintIndex} is set, each body is fingerprinted as it is read. A body which
+ * has already been returned by another URI reuses the earlier findings, and is not parsed again
+ * if it was read as a string.
+ * 
+ * If a {@link ScanBaseline} is set, a body read as a string which is the same as the body of
+ * its URI in the baseline reuses the findings of the baseline, and is not parsed at all.
+ * 
+ * If an {@link AdaptiveRateLimiter} is set, requests to each host are paced by the limiter,
+ * which adapts to how quickly, and how successfully, the host responds.
+ * 
+ * Requests which fail for a transient reason, such as a timeout or <b>503 Service Unavailable</b>,
+ * are retried with a jittered exponential backoff as decided by the engine's {@link RetryPolicy}.
+ * If hedging is enabled, a duplicate of any request which takes longer than 95% of recent
+ * requests is sent, and whichever finishes first is used, so that a few slow responses do
+ * not hold back the entire scan.
+ * 
+ * If a {@link LinkExtractor} is set, the same-origin links of each HTML page are also found,
+ * which allows {@link HtmlCrawler} to discover further pages.
+ * 
+ * If {@link ScanMetrics} are set, the time taken by each phase of every request is recorded,
+ * from waiting for the headers of the response through to extracting its findings, along
+ * with the bytes received and the status or failure of each request. Whilst a flight
+ * recording is running, each attempt, body, and parse is also recorded as a Java Flight
+ * Recorder event, see {@link RequestEvent}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class HtmlScannerEngine implements AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of threads used by the client's executor.
+	 */
+	public static final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+	
+	/**
+	 * Constant which stores the percentile of recent latencies that an attempt must exceed before it is hedged.
+	 */
+	private static final double HEDGE_PERCENTILE = 0.95;
+	
+	/**
+	 * Constant which stores how often, in nanoseconds, an attempt checks whether it should be hedged until enough latencies are known.
+	 */
+	private static final long HEDGE_POLL = 100_000_000L;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the options that need to be sent with each request.
+	 */
+	private final HttpOptions options;
+	
+	/**
+	 * Field which stores the target cookie.
+	 */
+	private final HttpCookie cookie;
+	
+	/**
+	 * Field which stores the cookies of the scan, those supplied and those set by the target.
+	 */
+	private final ScanCookieStore cookieStore;
+	
+	/**
+	 * Field which stores the parts of a request shared by every request, re-created if compression is toggled.
+	 */
+	private volatile RequestTemplate template;
+	
+	/**
+	 * Field which stores the executor used by the client to process requests and responses.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * Field which stores the executor used to read streamed bodies of asynchronous requests.
+	 */
+	private final ExecutorService streamExecutor;
+	
+	/**
+	 * Field which stores the client used to send every request.
+	 */
+	private final HttpClient client;
+	
+	/**
+	 * Field which stores the extractor used on each response, null if nothing is extracted.
+	 */
+	private volatile FindingsExtractor extractor;
+	
+	/**
+	 * Field which stores whether bodies are parsed whilst they are being read.
+	 */
+	private volatile boolean streaming;
+	
+	/**
+	 * Field which stores whether compressed responses are requested, true by default.
+	 */
+	private volatile boolean compressed = true;
+	
+	/**
+	 * Field which stores the cache of findings used to send conditional requests, null if nothing is cached.
+	 */
+	private volatile FindingsCache cache;
+	
+	/**
+	 * Field which stores the findings of each unique body, null if bodies are not deduplicated.
+	 */
+	private volatile FingerprintIndex fingerprints;
+	
+	/**
+	 * Field which stores the findings of a previous scan, null if pages are not compared against a previous scan.
+	 */
+	private volatile ScanBaseline baseline;
+	
+	/**
+	 * Field which stores the limiter used to pace requests to each host, null if requests are not limited.
+	 */
+	private volatile AdaptiveRateLimiter limiter;
+	
+	/**
+	 * Field which stores the policy deciding whether failed requests are retried.
+	 */
+	private volatile RetryPolicy retryPolicy = new RetryPolicy();
+	
+	/**
+	 * Field which stores whether slow requests are hedged by sending a duplicate.
+	 */
+	private volatile boolean hedging;
+	
+	/**
+	 * Field which stores the extractor used to find the links of each page, null if links are not extracted.
+	 */
+	private volatile LinkExtractor linkExtractor;
+	
+	/**
+	 * Field which stores the latencies of recent successful requests, used to decide when to hedge.
+	 */
+	private final LatencyTracker latencies = new LatencyTracker();
+	
+	/**
+	 * Field which stores the metrics recorded for each request, null if nothing is recorded.
+	 */
+	private volatile ScanMetrics metrics;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param options reference of {@link HttpOptions}, the URI of the options is used as the cookie's domain.
+	 * @param threads amount of threads used by the client's executor.
+	 */
+	public HtmlScannerEngine(HttpOptions options, int threads) {
+		// Initialise the options field.
+		this.options = options;
+		
+		// Create the executor, daemon threads are used so that an unclosed engine does not keep the program alive.
+		this.executor = Executors.newFixedThreadPool(threads, new EngineThreadFactory("html-scanner-engine-"));
+		
+		// Streamed bodies are read by their own threads, which only exist whilst a body is being read.
+		this.streamExecutor = Executors.newCachedThreadPool(new EngineThreadFactory("html-scanner-stream-"));
+		
+		// Compile the options, then create the client once, these are shared by all requests.
+		this.template = new RequestTemplate(this.options, this.compressed);
+		this.cookie = this.template.getCookies().isEmpty() ? new HttpCookie("none", "") : this.template.getCookies().get(0);
+		this.cookieStore = new ScanCookieStore();
+		this.client = this.generateClient(this.options.getURI(), this.template.getCookies());
+	}
+	
+	/**
+	 * Constructor which sets a default amount of executor threads. This constructor passes the
+	 * remaining parameters to the top-level constructor.
+	 * 
+	 * @param options reference of {@link HttpOptions}.
+	 */
+	public HtmlScannerEngine(HttpOptions options) {
+		// Call the top-level constructor, setting a default amount of threads.
+		this(options, DEFAULT_THREADS);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Sends a GET request to the specified URI using the engine's shared client. This method
+	 * is safe to call from multiple threads at once.
+	 * 
+	 * If the engine has a {@link FindingsExtractor}, the findings of the response are extracted
+	 * by the calling thread before the result is returned.
+	 * 
+	 * If the engine has an {@link AdaptiveRateLimiter}, the calling thread waits until the
+	 * limiter of the URI's host allows the request to be sent.
+	 * 
+	 * Transient failures are retried as decided by the engine's {@link RetryPolicy}, and only
+	 * the failure of the last attempt is reported. If hedging is enabled, the request is sent
+	 * asynchronously, see {@link #scanAsync(URI)}.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a {@link ScanResult} holding either the response or the exception that occurred.
+	 */
+	public ScanResult scan(URI uri) {
+		// Hedged requests race each other, which requires them to be sent asynchronously.
+		if (this.hedging) {
+			return this.scanAsync(uri).join();
+		}
+		return this.retry(() -> this.attempt(uri), System.nanoTime());
+	}
+	
+	/**
+	 * Sends a single attempt of a GET request to the specified URI, waiting for a permit if
+	 * requests are limited.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a {@link ScanResult} holding either the response or the exception that occurred.
+	 */
+	private ScanResult attempt(URI uri) {
+		HostLimiter host = this.limiterOf(uri);
+		
+		// Wait for a permit from the host's limiter.
+		CompletableFuture<Void> permit = host != null ? host.acquire() : null;
+		if (permit != null) {
+			try {
+				permit.get();
+			} catch (InterruptedException | ExecutionException e) {
+				host.cancel(permit);
+				return this.failure(this.generateRequest(uri), e);
+			}
+		}
+		
+		// Send the request, then return the permit along with how the host responded, a request which threw is treated as failed.
+		long start = System.nanoTime();
+		ScanResult result = null;
+		try {
+			result = this.request(uri);
+		} finally {
+			if (permit != null) {
+				host.release(System.nanoTime() - start, result != null ? result.getStatusCode() : -1);
+			}
+		}
+		return this.record(result, System.nanoTime() - start);
+	}
+	
+	/**
+	 * Sends a GET request to the specified URI, extracting its findings, without waiting for
+	 * a permit.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a {@link ScanResult} holding either the response or the exception that occurred.
+	 */
+	private ScanResult request(URI uri) {
+		FindingsExtractor extractor = this.extractor;
+		FindingsCache.Entry cached = this.lookup(uri, extractor);
+		HttpRequest request = this.generateRequest(uri, cached);
+		
+		// Check to see if the response should be parsed whilst it is being read.
+		if (this.isStreamed(extractor)) {
+			RequestEvent event = RequestEvent.start(uri, true);
+			try {
+				return this.revalidate(event.end(this.extractStream(request, this.client.send(request, this.meter(DecodingBodyHandlers.ofInputStream(), event)), extractor)), extractor, cached);
+			} catch (IOException | InterruptedException e) {
+				return event.end(this.failure(request, e));
+			}
+		}
+		
+		// Read the entire body before extracting.
+		return this.revalidate(this.extract(this.sendOnce(request), extractor), extractor, cached);
+	}
+	
+	/**
+	 * Sends an already built request using the engine's shared client. The body is read as
+	 * a string and no findings are extracted. Transient failures are retried as decided by
+	 * the engine's {@link RetryPolicy}.
+	 * 
+	 * @param request request which will be sent to the target URI.
+	 * @return a {@link ScanResult} holding either the response or the exception that occurred.
+	 */
+	public ScanResult send(HttpRequest request) {
+		return this.retry(() -> this.sendOnce(request), System.nanoTime());
+	}
+	
+	/**
+	 * Sends a single attempt of an already built request, reading the body as a string.
+	 * 
+	 * @param request request which will be sent to the target URI.
+	 * @return a {@link ScanResult} holding either the response or the exception that occurred.
+	 */
+	private ScanResult sendOnce(HttpRequest request) {
+		RequestEvent event = RequestEvent.start(request.uri(), false);
+		try {
+			// Return the response of the HTTP request.
+			return event.end(new ScanResult(request.uri(), this.client.send(request, this.meter(DecodingBodyHandlers.ofString(), event)), null));
+		} catch (IOException | InterruptedException | UncheckedIOException e) {
+			return event.end(this.failure(request, e));
+		}
+	}
+	
+	/**
+	 * Sends a GET request to the specified URI without blocking the calling thread. The
+	 * response is processed by the engine's executor once it arrives.
+	 * 
+	 * If the engine is streaming, the body is parsed by a separate executor, as reading the
+	 * body blocks and would otherwise stall the client's executor whilst it delivers the body.
+	 * 
+	 * If the engine has an {@link AdaptiveRateLimiter}, the request is only sent once the
+	 * limiter of the URI's host allows it, without any thread waiting in the meantime.
+	 * 
+	 * Transient failures are retried as decided by the engine's {@link RetryPolicy}, without
+	 * any thread waiting between attempts. If hedging is enabled, and an attempt is still
+	 * running once it has taken longer than 95% of recent requests, a duplicate request is
+	 * sent and whichever finishes first is used, the other being cancelled.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a future which completes with a {@link ScanResult}, the future never completes exceptionally.
+	 */
+	public CompletableFuture<ScanResult> scanAsync(URI uri) {
+		long start = System.nanoTime();
+		return this.retryAsync(() -> this.hedging ? this.hedge(uri) : this.attemptAsync(uri, null), this.retryPolicy, 1).thenApply(result -> this.report(result, start));
+	}
+	
+	/**
+	 * Sends a single attempt of a GET request to the specified URI without blocking the
+	 * calling thread, sending it once permitted if requests are limited.
+	 * 
+	 * @param uri URI of the target.
+	 * @param abandoned future which completes once the attempt is no longer needed, or null if it is always needed.
+	 * @return a future which completes with a {@link ScanResult}, or is cancelled if the attempt was abandoned before it was sent.
+	 */
+	private CompletableFuture<ScanResult> attemptAsync(URI uri, CompletableFuture<?> abandoned) {
+		HostLimiter host = this.limiterOf(uri);
+		
+		// Check to see if requests are limited.
+		if (host == null) {
+			long start = System.nanoTime();
+			return this.requestAsync(uri, abandoned).thenApply(result -> this.record(result, System.nanoTime() - start));
+		}
+		
+		// Stop waiting for a permit once abandoned, a permit which has already been granted is not affected.
+		CompletableFuture<Void> permit = host.acquire();
+		if (abandoned != null) {
+			abandoned.whenComplete((result, throwable) -> permit.cancel(false));
+		}
+		
+		// Send the request once permitted, then return the permit along with how the host responded.
+		return permit.thenCompose(permitted -> {
+			long start = System.nanoTime();
+			return this.requestAsync(uri, abandoned).thenApply(result -> {
+				long elapsed = System.nanoTime() - start;
+				
+				// An abandoned request says nothing about the host, so the permit is returned without adjusting the limits.
+				if (result.getException() instanceof CancellationException) {
+					host.cancel(permit);
+				} else {
+					host.release(elapsed, result.getStatusCode());
+				}
+				return this.record(result, elapsed);
+			});
+		});
+	}
+	
+	/**
+	 * Sends a GET request to the specified URI without blocking the calling thread, and
+	 * without waiting for a permit.
+	 * 
+	 * @param uri URI of the target.
+	 * @param abandoned future which completes once the request is no longer needed, or null if it is always needed.
+	 * @return a future which completes with a {@link ScanResult}, the future never completes exceptionally.
+	 */
+	private CompletableFuture<ScanResult> requestAsync(URI uri, CompletableFuture<?> abandoned) {
+		try {
+			FindingsExtractor extractor = this.extractor;
+			FindingsCache.Entry cached = this.lookup(uri, extractor);
+			HttpRequest request = this.generateRequest(uri, cached);
+			
+			// Check to see if the response should be parsed whilst it is being read.
+			if (this.isStreamed(extractor)) {
+				RequestEvent event = RequestEvent.start(uri, true);
+				CompletableFuture<HttpResponse<InputStream>> response = this.client.sendAsync(request, this.meter(DecodingBodyHandlers.ofInputStream(), event));
+				cancelOnceAbandoned(response, abandoned);
+				return response.thenApplyAsync(received -> this.revalidate(event.end(this.extractStream(request, received, extractor)), extractor, cached), this.streamExecutor)
+						.exceptionally(throwable -> event.end(this.failure(request, throwable)));
+			}
+			
+			// Read the entire body before extracting.
+			return this.sendOnceAsync(request, abandoned).thenApply(result -> this.revalidate(this.extract(result, extractor), extractor, cached))
+					.exceptionally(throwable -> this.failure(request, throwable));
+		} catch (RuntimeException e) {
+			// A request which could not be sent is a failed attempt, so that any permit is still returned by the caller.
+			return CompletableFuture.completedFuture(this.failure(uri, e));
+		}
+	}
+	
+	/**
+	 * Sends an already built request without blocking the calling thread. The body is read
+	 * as a string and no findings are extracted. Transient failures are retried as decided
+	 * by the engine's {@link RetryPolicy}.
+	 * 
+	 * @param request request which will be sent to the target URI.
+	 * @return a future which completes with a {@link ScanResult}, the future never completes exceptionally.
+	 */
+	public CompletableFuture<ScanResult> sendAsync(HttpRequest request) {
+		long start = System.nanoTime();
+		return this.retryAsync(() -> this.sendOnceAsync(request, null), this.retryPolicy, 1).thenApply(result -> this.report(result, start));
+	}
+	
+	/**
+	 * Sends a single attempt of an already built request without blocking the calling thread,
+	 * reading the body as a string.
+	 * 
+	 * @param request request which will be sent to the target URI.
+	 * @param abandoned future which completes once the request is no longer needed, or null if it is always needed.
+	 * @return a future which completes with a {@link ScanResult}, the future never completes exceptionally.
+	 */
+	private CompletableFuture<ScanResult> sendOnceAsync(HttpRequest request, CompletableFuture<?> abandoned) {
+		RequestEvent event = RequestEvent.start(request.uri(), false);
+		CompletableFuture<HttpResponse<String>> response = this.client.sendAsync(request, this.meter(DecodingBodyHandlers.ofString(), event));
+		cancelOnceAbandoned(response, abandoned);
+		return response.handle((received, throwable) -> {
+			// Check to see if the request succeeded.
+			if (throwable == null) {
+				return event.end(new ScanResult(request.uri(), received, null));
+			}
+			return event.end(this.failure(request, throwable));
+		});
+	}
+	
+	/**
+	 * Sends attempts until one succeeds, or the engine's {@link RetryPolicy} gives up,
+	 * sleeping between attempts. The result of the last attempt is reported.
+	 * 
+	 * @param attempt sends a single attempt.
+	 * @param start when the request was made, in nanoseconds.
+	 * @return the result of the last attempt.
+	 */
+	private ScanResult retry(Supplier<ScanResult> attempt, long start) {
+		RetryPolicy policy = this.retryPolicy;
+		ScanResult result = attempt.get();
+		
+		// Wait before each retry, giving up if interrupted.
+		for (int attempts = 1; policy.shouldRetry(result, attempts); attempts++) {
+			try {
+				Thread.sleep(policy.delayOf(result, attempts));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			result = attempt.get();
+		}
+		return this.report(result, start);
+	}
+	
+	/**
+	 * Sends attempts without blocking until one succeeds, or the policy gives up. Nothing
+	 * waits between attempts, the next attempt is scheduled once its delay has passed.
+	 * 
+	 * @param attempt sends a single attempt.
+	 * @param policy policy deciding whether to retry.
+	 * @param attempts amount of attempts made once this attempt has been sent, starting at 1.
+	 * @return a future which completes with the result of the last attempt.
+	 */
+	private CompletableFuture<ScanResult> retryAsync(Supplier<CompletableFuture<ScanResult>> attempt, RetryPolicy policy, int attempts) {
+		return attempt.get().thenCompose(result -> {
+			// Check to see if the attempt should be retried.
+			if (!policy.shouldRetry(result, attempts)) {
+				return CompletableFuture.completedFuture(result);
+			}
+			Executor delayed = CompletableFuture.delayedExecutor(policy.delayOf(result, attempts), TimeUnit.MILLISECONDS, this.executor);
+			return CompletableFuture.runAsync(() -> { }, delayed).thenCompose(ignored -> this.retryAsync(attempt, policy, attempts + 1));
+		});
+	}
+	
+	/**
+	 * Sends an attempt, and a duplicate of it if the attempt has not finished once it has
+	 * taken longer than 95% of recent requests. Whichever finishes first is used, and the
+	 * other is cancelled.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a future which completes with the result of whichever attempt finished first.
+	 */
+	private CompletableFuture<ScanResult> hedge(URI uri) {
+		CompletableFuture<ScanResult> first = new CompletableFuture<>();
+		
+		// Use whichever finishes first, completing the future also abandons the other attempt.
+		this.attemptAsync(uri, first).thenAccept(first::complete);
+		this.scheduleHedge(uri, first, System.nanoTime());
+		return first;
+	}
+	
+	/**
+	 * Sends a duplicate attempt once the primary attempt has taken longer than 95% of recent
+	 * requests. Until enough latencies are known, the check is repeated so that the first
+	 * requests of a scan are also hedged once the percentile becomes known.
+	 * 
+	 * @param uri URI of the target.
+	 * @param first future which completes with the result of whichever attempt finished first.
+	 * @param start when the primary attempt was sent, in nanoseconds.
+	 */
+	private void scheduleHedge(URI uri, CompletableFuture<ScanResult> first, long start) {
+		// Nothing is hedged once an attempt has finished.
+		if (first.isDone()) {
+			return;
+		}
+		
+		// Check to see if the primary attempt is already slower than the percentile.
+		long percentile = this.latencies.percentile(HEDGE_PERCENTILE);
+		long elapsed = System.nanoTime() - start;
+		if (percentile >= 0 && elapsed >= percentile) {
+			this.attemptAsync(uri, first).thenAccept(first::complete);
+			return;
+		}
+		
+		// Otherwise, check again once the percentile would be exceeded, or shortly if it is not yet known.
+		long delay = percentile >= 0 ? percentile - elapsed : HEDGE_POLL;
+		Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, this.executor);
+		delayed.execute(() -> this.scheduleHedge(uri, first, start));
+	}
+	
+	/**
+	 * Records the latency of a successful attempt, so that hedging is able to tell when an
+	 * attempt is taking unusually long.
+	 * 
+	 * @param result result of the attempt.
+	 * @param latencyNanos time taken by the attempt, in nanoseconds.
+	 * @return the same result.
+	 */
+	private ScanResult record(ScanResult result, long latencyNanos) {
+		// Failures are often far quicker or slower than a normal response, and would skew the percentiles.
+		if (result.isSuccessful()) {
+			this.latencies.record(latencyNanos);
+		}
+		return result;
+	}
+	
+	/**
+	 * Cancels a response which has not yet arrived once it is abandoned.
+	 * 
+	 * @param response future of the response.
+	 * @param abandoned future which completes once the response is no longer needed, or null if it is always needed.
+	 */
+	private static void cancelOnceAbandoned(CompletableFuture<?> response, CompletableFuture<?> abandoned) {
+		// Cancelling the future returned by the client also stops the exchange.
+		if (abandoned != null) {
+			abandoned.whenComplete((result, throwable) -> response.cancel(true));
+		}
+	}
+	
+	/**
+	 * Returns whether responses should be parsed whilst being read by the specified extractor.
+	 * 
+	 * @param extractor extractor used, may be null if nothing should be extracted.
+	 * @return true if streaming is enabled, or the extractor stops before the end of the document and links are not extracted.
+	 */
+	private boolean isStreamed(FindingsExtractor extractor) {
+		// Links may be found anywhere in the document, so it is only cut short if links are not needed.
+		return extractor != null && (this.streaming || extractor.getRegion() != DocumentRegion.DOCUMENT && this.linkExtractor == null);
+	}
+	
+	/**
+	 * Returns the limiter of the URI's host.
+	 * 
+	 * @param uri URI of the target.
+	 * @return the host's limiter, or null if requests are not limited.
+	 */
+	private HostLimiter limiterOf(URI uri) {
+		AdaptiveRateLimiter limiter = this.limiter;
+		return limiter != null ? limiter.forHost(uri) : null;
+	}
+	
+	/**
+	 * Returns the cached entry of a URI.
+	 * 
+	 * @param uri URI of the target.
+	 * @param extractor extractor used, may be null if nothing should be extracted.
+	 * @return the entry, or null if there is no cache, nothing is extracted, links are extracted, or the URI has not been cached.
+	 */
+	private FindingsCache.Entry lookup(URI uri, FindingsExtractor extractor) {
+		FindingsCache cache = this.cache;
+		
+		// The links of a page are not cached, so an unmodified page must still be read when links are needed.
+		return cache != null && extractor != null && this.linkExtractor == null ? cache.get(uri, extractor.getTypes()) : null;
+	}
+	
+	/**
+	 * Initialises a request to the specified URI which is only answered with a body if the
+	 * page has been modified since it was cached.
+	 * 
+	 * @param uri URI of the target.
+	 * @param cached cached entry of the URI, or null if the URI has not been cached.
+	 * @return a conditional request, or an unconditional request if the URI has not been cached.
+	 */
+	private HttpRequest generateRequest(URI uri, FindingsCache.Entry cached) {
+		// Check to see if the URI has been cached.
+		if (cached == null) {
+			return this.generateRequest(uri);
+		}
+		
+		// Add the validators of the cached response.
+		Builder conditional = this.template.builder(uri);
+		if (cached.getETag() != null) {
+			conditional.setHeader("If-None-Match", cached.getETag());
+		}
+		if (cached.getLastModified() != null) {
+			conditional.setHeader("If-Modified-Since", cached.getLastModified());
+		}
+		return conditional.build();
+	}
+	
+	/**
+	 * Reuses the cached findings if the page has not been modified, otherwise caches the
+	 * findings of the result.
+	 * 
+	 * @param result result of a request whose findings have been extracted.
+	 * @param extractor extractor used, may be null if nothing should be extracted.
+	 * @param cached cached entry of the URI, or null if the URI has not been cached.
+	 * @return the result holding the cached findings if the page has not been modified, otherwise the same result.
+	 */
+	private ScanResult revalidate(ScanResult result, FindingsExtractor extractor, FindingsCache.Entry cached) {
+		FindingsCache cache = this.cache;
+		
+		// Failed requests and requests without findings are not cached.
+		if (cache == null || extractor == null || !result.isSuccessful()) {
+			return result;
+		}
+		
+		// Reuse the cached findings, the body of a 304 response is empty.
+		if (result.getStatusCode() == 304 && cached != null) {
+			return result.withFindings(cached.getFindings());
+		}
+		
+		// Cache the findings of a successful response.
+		if (result.getStatusCode() == 200 && result.getFindings() != null) {
+			HttpHeaders headers = result.getResponse().headers();
+			cache.put(result.getUri(), extractor.getTypes(), headers.firstValue("ETag").orElse(null), headers.firstValue("Last-Modified").orElse(null), result.getFindings());
+		}
+		return result;
+	}
+	
+	/**
+	 * Parses the body of a result and extracts its findings, along with its links if the engine
+	 * has a {@link LinkExtractor}.
+	 * 
+	 * @param result result of a request whose body was read as a string.
+	 * @param extractor extractor used, may be null if no findings should be extracted.
+	 * @return the result holding its findings and links, or the same result if nothing was extracted.
+	 */
+	private ScanResult extract(ScanResult result, FindingsExtractor extractor) {
+		// Failed and unmodified requests have nothing to extract.
+		if (!result.isSuccessful() || result.getStatusCode() == 304) {
+			return result;
+		}
+		
+		// Links are only followed from HTML pages, check to see if anything is left to extract.
+		LinkExtractor linkExtractor = isHtml(result.getResponse().headers()) ? this.linkExtractor : null;
+		if (extractor == null && linkExtractor == null) {
+			return result;
+		}
+		
+		// Check to see if the same body has already been parsed, a duplicate body adds no new links.
+		FingerprintIndex fingerprints = this.fingerprints;
+		long fingerprint = Fingerprint.of(result.getBody());
+		FingerprintIndex.Entry first = fingerprints != null ? fingerprints.get(fingerprint) : null;
+		if (first != null && !first.getUri().equals(result.getUri())) {
+			return result.asDuplicateOf(fingerprint, first.getUri(), first.getFindings());
+		}
+		
+		// Check to see if the body is the same as in the baseline, a page with links to follow must still be parsed.
+		ScanBaseline baseline = this.baseline;
+		ScanBaseline.Entry previous = baseline != null && extractor != null && linkExtractor == null ? baseline.get(result.getUri()) : null;
+		if (previous != null && previous.getFingerprint() == fingerprint) {
+			return this.deduplicate(result.withFindings(previous.getFindings()), fingerprint);
+		}
+		
+		// Parse the body a single time for both the findings and links, then remember its findings.
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		long start = System.nanoTime();
+		Document document = Jsoup.parse(result.getBody(), result.getUri().toString());
+		long parsed = this.measure(ScanPhase.PARSE, start);
+		if (event.shouldCommit()) {
+			event.uri = result.getUri().toString();
+			event.characters = result.getBody().length();
+			event.commit();
+		}
+		ScanResult extracted = result.withFindings(extractor != null ? extractor.extract(document) : null);
+		if (linkExtractor != null) {
+			extracted = extracted.withLinks(linkExtractor.extract(document));
+		}
+		this.measure(ScanPhase.EXTRACT, parsed);
+		return this.deduplicate(extracted, fingerprint);
+	}
+	
+	/**
+	 * Parses the body of a response whilst it is being read and extracts its findings, along
+	 * with its links if the engine has a {@link LinkExtractor}. The body itself is not kept.
+	 * 
+	 * @param request request which was sent.
+	 * @param response response whose body has not yet been read.
+	 * @param extractor extractor used.
+	 * @return a {@link ScanResult} holding the findings, or the exception that occurred whilst reading.
+	 */
+	private ScanResult extractStream(HttpRequest request, HttpResponse<InputStream> response, FindingsExtractor extractor) {
+		// Decode the body using the charset of the response, fingerprinting it as it is read.
+		try (Fingerprint.HashingReader body = new Fingerprint.HashingReader(new InputStreamReader(response.body(), charsetOf(response.headers())))) {
+			// Unmodified responses have nothing to extract.
+			if (response.statusCode() == 304) {
+				return new ScanResult(request.uri(), response, null, null, null);
+			}
+			
+			// Collect the links of each element before it is discarded, links are only followed from HTML pages.
+			LinkExtractor linkExtractor = isHtml(response.headers()) ? this.linkExtractor : null;
+			Set<URI> links = linkExtractor != null ? new LinkedHashSet<>() : null;
+			long start = System.nanoTime();
+			Findings findings = extractor.extract(body, request.uri().toString(), links != null ? element -> linkExtractor.extract(element, links) : null);
+			this.measure(ScanPhase.PARSE, start);
+			ScanResult result = new ScanResult(request.uri(), response, null, findings, null);
+			if (links != null) {
+				result = result.withLinks(new ArrayList<>(links));
+			}
+			
+			// Only a body which was read in full has a complete fingerprint.
+			return body.isFinished() ? this.deduplicate(result, body.getFingerprint()) : result;
+		} catch (IOException e) {
+			return this.failure(request, e);
+		}
+	}
+	
+	/**
+	 * Remembers the findings of a body, or marks the result as a duplicate if another URI
+	 * returned the same body first.
+	 * 
+	 * @param result result holding the findings of the body.
+	 * @param fingerprint fingerprint of the body.
+	 * @return the result holding its fingerprint, or marked as a duplicate.
+	 */
+	private ScanResult deduplicate(ScanResult result, long fingerprint) {
+		FingerprintIndex fingerprints = this.fingerprints;
+		FingerprintIndex.Entry first = fingerprints != null ? fingerprints.putIfAbsent(fingerprint, result.getUri(), result.getFindings()) : null;
+		
+		// Another URI may have returned the same body whilst this body was being parsed, an earlier attempt of the same URI is not a duplicate.
+		if (first != null && !first.getUri().equals(result.getUri())) {
+			return result.asDuplicateOf(fingerprint, first.getUri(), first.getFindings());
+		}
+		return result.withFingerprint(fingerprint);
+	}
+	
+	/**
+	 * Creates the result of a failed attempt.
+	 * 
+	 * @param request request which failed.
+	 * @param throwable cause of the failure.
+	 * @return a {@link ScanResult} holding the exception.
+	 */
+	private ScanResult failure(HttpRequest request, Throwable throwable) {
+		return this.failure(request.uri(), throwable);
+	}
+	
+	/**
+	 * Creates the result of a failed attempt which may not have a request, such as one whose
+	 * request could not be built.
+	 * 
+	 * @param uri URI of the target.
+	 * @param throwable cause of the failure.
+	 * @return a {@link ScanResult} holding the exception.
+	 */
+	private ScanResult failure(URI uri, Throwable throwable) {
+		// Unwrap the cause so that asynchronous requests report the same exceptions as blocking requests.
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+		Exception exception = cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+		
+		// Restore the interrupt so that the caller is able to stop.
+		if (exception instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+		}
+		
+		// The result will not contain a response, the failure is only reported once no more attempts will be made.
+		return new ScanResult(uri, null, null, null, exception);
+	}
+	
+	/**
+	 * Reports the failure of the last attempt of a request, and records the request if the
+	 * engine has {@link ScanMetrics}.
+	 * 
+	 * @param result result of the last attempt.
+	 * @param start when the request was made, in nanoseconds.
+	 * @return the same result.
+	 */
+	private ScanResult report(ScanResult result, long start) {
+		ScanMetrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.recordResult(result, System.nanoTime() - start);
+		}
+		
+		// Notify of the failure, the result will not contain a response.
+		Exception exception = result.getException();
+		if (exception != null) {
+			System.out.println("ERROR:\n" + exception.getMessage() + " returned!" + "\nEXCEPTION:\n" + exception.toString());
+		}
+		return result;
+	}
+	
+	/**
+	 * Wraps a body handler so that the response is recorded, if the engine has {@link ScanMetrics}
+	 * or a flight recording is running.
+	 * 
+	 * @param <T> type of the body.
+	 * @param handler handler of the body.
+	 * @param event event of the request.
+	 * @return a handler recording the response, or the same handler if nothing is recorded.
+	 */
+	private <T> BodyHandler<T> meter(BodyHandler<T> handler, RequestEvent event) {
+		ScanMetrics metrics = this.metrics;
+		return BodyReadEvent.record(metrics != null ? metrics.meter(handler) : handler, event);
+	}
+	
+	/**
+	 * Records the time taken by a phase, if the engine has {@link ScanMetrics}.
+	 * 
+	 * @param phase phase of the request.
+	 * @param start when the phase started, in nanoseconds.
+	 * @return when the phase finished, in nanoseconds.
+	 */
+	private long measure(ScanPhase phase, long start) {
+		long now = System.nanoTime();
+		ScanMetrics metrics = this.metrics;
+		if (metrics != null) {
+			metrics.record(phase, now - start);
+		}
+		return now;
+	}
+	
+	/**
+	 * Returns whether a response holds HTML. A response without a <b>Content-Type</b> header
+	 * is assumed to hold HTML.
+	 * 
+	 * @param headers headers of the response.
+	 * @return true if the Content-Type header is absent or names an HTML type.
+	 */
+	private static boolean isHtml(HttpHeaders headers) {
+		return headers.firstValue("Content-Type").map(type -> type.toLowerCase(Locale.ROOT).contains("html")).orElse(true);
+	}
+	
+	/**
+	 * Returns the charset specified by the Content-Type header.
+	 * 
+	 * @param headers headers of the response.
+	 * @return the charset of the response, UTF-8 if none is specified or it is not supported.
+	 */
+	static Charset charsetOf(HttpHeaders headers) {
+		// Find the charset parameter.
+		String contentType = headers.firstValue("Content-Type").orElse("");
+		int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+		
+		if (index >= 0) {
+			// Remove any following parameters and quotes.
+			String name = contentType.substring(index + "charset=".length()).split(";")[0].replace("\"", "").trim();
+			try {
+				return Charset.forName(name);
+			} catch (IllegalArgumentException e) {
+				// Fall back to the default.
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+	
+	/**
+	 * Initialises a cookie to be sent in a HTTP request, the path set will allow for the target's main directory as well as sub-directories.
+	 * In order for the cookie to be correctly set it must follow a strict format.
+	 * The correct form is that of <b>cookieName=cookieValue(;...)</b>.
+	 * 
+	 * @param cookie sets the relevant cookie needed if authentication is present.
+	 * @return an initialised <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/net/HttpCookie.html" title="class or interface in java.net" class="external-link">HttpCookie</a> that follows allows a cookie of version 0.
+	 */
+	static HttpCookie generateCookie(String cookie) {
+		// Parse the cookies, only the first of which is returned.
+		List<HttpCookie> cookies = RequestTemplate.parseCookies(cookie);
+		
+		// Return an empty cookie if none are present, signifying that a cookie is not present.
+		return cookies.isEmpty() ? new HttpCookie("none", "") : cookies.get(0);
+	}
+	
+	/**
+	 * Initialises and sets up the client shared by every request sent through the engine.
+	 * This method is also responsible for adding the cookies to the engine's own {@link ScanCookieStore},
+	 * which also captures any cookies set by the target, rather than the JVM-wide cookie handler.
+	 * 
+	 * @param uri URI of the target.
+	 * @param cookies sets the relevant cookies needed if authentication is present.
+	 * @return an initialised and built <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpClient.html" title="class or interface in java.net.http" class="external-link">HttpClient</a> with a default HTTP version of 2.
+	 */
+	private HttpClient generateClient(URI uri, List<HttpCookie> cookies) {
+		// Create the builder, version is set to HTTP/2 to cover all basis, the engine's executor is used for all requests.
+		HttpClient.Builder builder = HttpClient.newBuilder()
+				.version(Version.HTTP_2)
+				.executor(this.executor);
+		
+		// Add the supplied cookies to the root URI.
+		for (HttpCookie cookie : cookies) {
+			this.cookieStore.add(uri, cookie);
+		}
+		
+		// Attach the store to the client, only accepting cookies from the hosts which set them.
+		builder.cookieHandler(new CookieManager(this.cookieStore, CookiePolicy.ACCEPT_ORIGINAL_SERVER));
+		
+		// Build and return the client.
+		return builder.build();
+	}
+	
+	/**
+	 * Initialises and sets up a request that can be sent to the specified URI.
+	 * The headers and timeout were already validated and applied once by the engine's {@link RequestTemplate}, so only the URI is set on a copy of its builder.
+	 * 
+	 * @param uri URI of the target.
+	 * @return an initialised and built <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.net.http/java/net/http/HttpRequest.html" title="class or interface in java.net.http" class="external-link">HttpRequest</a> specified to send a GET request.
+	 */
+	public HttpRequest generateRequest(URI uri) {
+		// Copy the prepared builder, only the URI differs between requests.
+		return this.template.request(uri);
+	}
+	
+	/**
+	 * Shuts down the engine's executor, once closed the engine should no longer be used.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdown();
+		this.streamExecutor.shutdown();
+	}
+	
+	/*---- Getters and Setters ----*/
+	/**
+	 * Returns the class's initialised options field.
+	 * 
+	 * @return the class's options field.
+	 */
+	public HttpOptions getOptions() {
+		return this.options;
+	}
+	
+	/**
+	 * Returns the class's initialised cookie field.
+	 * 
+	 * @return the class's cookie field.
+	 */
+	public HttpCookie getCookie() {
+		return this.cookie;
+	}
+	
+	/**
+	 * Returns the class's cookies of the scan, including those set by the target.
+	 * 
+	 * @return the class's cookieStore field.
+	 */
+	public ScanCookieStore getCookieStore() {
+		return this.cookieStore;
+	}
+	
+	/**
+	 * Returns the class's parts of a request shared by every request.
+	 * 
+	 * @return the class's template field.
+	 */
+	public RequestTemplate getTemplate() {
+		return this.template;
+	}
+	
+	/**
+	 * Returns the class's initialised client field.
+	 * 
+	 * @return the class's client field.
+	 */
+	public HttpClient getClient() {
+		return this.client;
+	}
+	
+	/**
+	 * Returns the class's extractor used on each response.
+	 * 
+	 * @return the class's extractor field, null if nothing is extracted.
+	 */
+	public FindingsExtractor getExtractor() {
+		return this.extractor;
+	}
+	
+	/**
+	 * Sets the class's extractor used on each response, this should be set before any requests are sent.
+	 * 
+	 * @param extractor extractor used on each response, or null if nothing should be extracted.
+	 */
+	public void setExtractor(FindingsExtractor extractor) {
+		this.extractor = extractor;
+	}
+	
+	/**
+	 * Returns whether bodies are parsed whilst they are being read.
+	 * 
+	 * @return the class's streaming field.
+	 */
+	public boolean isStreaming() {
+		return this.streaming;
+	}
+	
+	/**
+	 * Sets whether bodies are parsed whilst they are being read, this only applies if an extractor is set.
+	 * 
+	 * @param streaming true if bodies should be parsed whilst they are being read.
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+	
+	/**
+	 * Returns whether compressed responses are requested.
+	 * 
+	 * @return the class's compressed field.
+	 */
+	public boolean isCompressed() {
+		return this.compressed;
+	}
+	
+	/**
+	 * Sets whether compressed responses are requested, responses are decompressed either way.
+	 * 
+	 * @param compressed true if a compressed response should be requested.
+	 */
+	public void setCompressed(boolean compressed) {
+		this.compressed = compressed;
+		
+		// Derive the template from the compiled one, so that its options are not compiled, or reported, again.
+		this.template = this.template.withCompressed(compressed);
+	}
+	
+	/**
+	 * Returns the class's cache of findings.
+	 * 
+	 * @return the class's cache field, null if nothing is cached.
+	 */
+	public FindingsCache getCache() {
+		return this.cache;
+	}
+	
+	/**
+	 * Sets the class's cache of findings, this only applies if an extractor is set.
+	 * 
+	 * @param cache cache used to send conditional requests, or null if nothing should be cached.
+	 */
+	public void setCache(FindingsCache cache) {
+		this.cache = cache;
+	}
+	
+	/**
+	 * Returns the class's findings of each unique body.
+	 * 
+	 * @return the class's fingerprints field, null if bodies are not deduplicated.
+	 */
+	public FingerprintIndex getFingerprints() {
+		return this.fingerprints;
+	}
+	
+	/**
+	 * Sets the class's findings of each unique body, this only applies if an extractor is set.
+	 * 
+	 * @param fingerprints index used to deduplicate bodies, or null if bodies should not be deduplicated.
+	 */
+	public void setFingerprints(FingerprintIndex fingerprints) {
+		this.fingerprints = fingerprints;
+	}
+	
+	/**
+	 * Returns the class's findings of a previous scan.
+	 * 
+	 * @return the class's baseline field, null if pages are not compared against a previous scan.
+	 */
+	public ScanBaseline getBaseline() {
+		return this.baseline;
+	}
+	
+	/**
+	 * Sets the class's findings of a previous scan, this only applies if an extractor is set.
+	 * Results are not compared by the engine, only unchanged bodies are recognised so that
+	 * they are not parsed, see {@link ScanBaseline#diff(ScanResult)}.
+	 * 
+	 * @param baseline findings of a previous scan, or null if pages should not be compared against a previous scan.
+	 */
+	public void setBaseline(ScanBaseline baseline) {
+		this.baseline = baseline;
+	}
+	
+	/**
+	 * Returns the class's limiter used to pace requests to each host.
+	 * 
+	 * @return the class's limiter field, null if requests are not limited.
+	 */
+	public AdaptiveRateLimiter getLimiter() {
+		return this.limiter;
+	}
+	
+	/**
+	 * Sets the class's limiter used to pace requests to each host. The limiter is not closed by the engine.
+	 * 
+	 * @param limiter limiter used to pace requests, or null if requests should not be limited.
+	 */
+	public void setLimiter(AdaptiveRateLimiter limiter) {
+		this.limiter = limiter;
+	}
+	
+	/**
+	 * Returns the policy deciding whether failed requests are retried.
+	 * 
+	 * @return the class's retryPolicy field.
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return this.retryPolicy;
+	}
+	
+	/**
+	 * Sets the policy deciding whether failed requests are retried.
+	 * 
+	 * @param retryPolicy policy to use, {@link RetryPolicy#NONE} disables retries.
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+	
+	/**
+	 * Returns whether slow requests are hedged.
+	 * 
+	 * @return the class's hedging field.
+	 */
+	public boolean isHedging() {
+		return this.hedging;
+	}
+	
+	/**
+	 * Sets whether slow requests are hedged by sending a duplicate request.
+	 * 
+	 * @param hedging true if slow requests should be hedged.
+	 */
+	public void setHedging(boolean hedging) {
+		this.hedging = hedging;
+	}
+	
+	/**
+	 * Returns the extractor used to find the links of each page.
+	 * 
+	 * @return the class's linkExtractor field, null if links are not extracted.
+	 */
+	public LinkExtractor getLinkExtractor() {
+		return this.linkExtractor;
+	}
+	
+	/**
+	 * Sets the extractor used to find the links of each page.
+	 * 
+	 * @param linkExtractor extractor used, or null if links should not be extracted.
+	 */
+	public void setLinkExtractor(LinkExtractor linkExtractor) {
+		this.linkExtractor = linkExtractor;
+	}
+	
+	/**
+	 * Returns the engine's metrics.
+	 * 
+	 * @return the class's metrics field, null if nothing is recorded.
+	 */
+	public ScanMetrics getMetrics() {
+		return this.metrics;
+	}
+	
+	/**
+	 * Sets the engine's metrics, recording each request sent from then on.
+	 * 
+	 * @param metrics metrics recorded for each request, or null if nothing should be recorded.
+	 */
+	public void setMetrics(ScanMetrics metrics) {
+		this.metrics = metrics;
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * This class is used to create the daemon threads used by the engine's executor.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private static class EngineThreadFactory implements ThreadFactory {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the prefix of each thread's name.
+		 */
+		private final String prefix;
+		
+		/**
+		 * Field which stores the number of the next thread that will be created.
+		 */
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param prefix prefix of each thread's name.
+		 */
+		public EngineThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+		
+		/*---- Overridden Method ----*/
+		/**
+		 * Creates a named daemon thread which runs the specified task.
+		 */
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, this.prefix + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -7,21 +7,24 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
+import java.text.ParseException;
 import java.time.Duration;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.DoubleSupplier;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Comment;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.nodes.Node;
-import org.jsoup.select.Elements;
+import javax.management.JMException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 
 /**
  * The class HtmlScannerMain is used to run the entire program. The class's {@link main(String[] args} method
@@ -47,19 +50,72 @@ public class HtmlScannerMain {
     public static void main(String[] args) {
     	// Check to see if there are any arguments passed.
     	if (args.length > 1) {
-    		// Booleans used to see if main flags are used (comments, hidden attributes, and meta elements).
-    		boolean searchComments = false;
-    		boolean searchHidden = false;
-    		boolean searchMeta = false;
+    		// Set used to see which main flags are used (comments, hidden attributes, and meta elements).
+    		EnumSet<FindingType> findingTypes = EnumSet.noneOf(FindingType.class);
+    		
+    		// Mode and limit of requests in flight used when sub-URIs are supplied.
+    		ExecutionMode mode = ExecutionMode.PLATFORM;
+    		int concurrency = MultiHtmlScanner.DEFAULT_CONCURRENCY;
+    		
+    		// Boolean used to see if responses should be parsed whilst being read.
+    		boolean stream = false;
+    		
+    		// Boolean used to see if compressed responses should be requested.
+    		boolean compressed = true;
+    		
+    		// Cache of findings reused by later runs, if any.
+    		FindingsCache cache = null;
+    		
+    		// Boolean used to see if requests to each host should be paced.
+    		boolean throttle = false;
+    		
+    		// Amount of times a failed request is retried.
+    		int retries = RetryPolicy.DEFAULT_MAX_ATTEMPTS - 1;
+    		
+    		// Boolean used to see if slow requests should be hedged.
+    		boolean hedge = false;
+    		
+    		// Boolean used to see if pages with the same body should only be parsed once.
+    		boolean dedup = false;
+    		
+    		// Boolean used to see if pages should be discovered by following links.
+    		boolean crawl = false;
+    		
+    		// Limits of the crawl, and the amount of threads crawling.
+    		int maxDepth = HtmlCrawler.DEFAULT_MAX_DEPTH;
+    		int maxPages = HtmlCrawler.DEFAULT_MAX_PAGES;
+    		int workers = HtmlCrawler.DEFAULT_WORKERS;
+    		
+    		// Journal file recording the progress of the scan, if any, and whether a previous scan should be resumed.
+    		Path journalPath = null;
+    		boolean resume = false;
+    		
+    		// File of the findings of a previous scan which each page is compared against, if any.
+    		Path baselinePath = null;
+    		
+    		// File the results are written to, null for the standard output, along with their format and whether they are compressed.
+    		Path outputPath = null;
+    		OutputFormat format = OutputFormat.TEXT;
+    		boolean gzip = false;
+    		
+    		// Boolean used to see if the scan should be measured, printing its progress and a summary.
+    		boolean measure = false;
+    		
+    		// File a flight recording of the scan is written to, if any.
+    		Path recordingPath = null;
+    		
+    		// Boolean used to see if the findings should be searched for secrets, along with a file of further rules, if any.
+    		boolean detect = false;
+    		Path keywordsPath = null;
     		
     		// List of registered flags, any others supplied are incorrect.
-    		List<String> flags = new ArrayList<>(Stream.of("-uri", "-subUris", "-cookie", "-header", "-headers", "-timeout", "-c", "-hi", "-o").toList());
+    		List<String> flags = new ArrayList<>(Stream.of("-uri", "-subUris", "-cookie", "-header", "-headers", "-timeout", "-c", "-hi", "-o", "-mode", "-concurrency", "-stream", "-noCompression", "-cache", "-throttle", "-retries", "-hedge", "-dedup", "-crawl", "-depth", "-maxPages", "-workers", "-journal", "-resume", "-format", "-gzip", "-metrics", "-jfr", "-secrets", "-keywords", "-baseline").toList());
     		
     		// Instantiate HttpOptions so that each flag will add to construction.
     		HttpOptions httpOptions = new HttpOptions();
     		
-    		// If sub-URIs are needed, create an array to store them.
-    		ArrayList<String> subUris = new ArrayList<>();
+    		// If sub-URIs are needed, they are read from the file lazily as each request is sent.
+    		SubUriSource subUris = null;
     		
     		// Iterate through each argument.
     		for (int i = 0; i < args.length; i++) {
@@ -102,17 +158,10 @@ public class HtmlScannerMain {
     				case "-subUris":
     					// Check to see if flag has a proceeding value.
     					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
-    						// Attempt to read a file that contains sub-URIs.
-    						try(FileInputStream file = new FileInputStream(args[i + 1]) ; DataInputStream in = new DataInputStream(file) ; BufferedReader br = new BufferedReader(new InputStreamReader(in))) {
-        			    		// Set a variable that represents each line in the file.
-    							String subUri;
-    							
-    							// Iterate through each line in the file until EOL.
-        			    		while((subUri = br.readLine()) != null) {
-        			    			// Add sub-URI to array.
-        			    			subUris.add(subUri);
-        			    		}
-        			    	} catch(IOException e) {
+    						// Attempt to open a file that contains sub-URIs, it is only read once requests are sent.
+    						try {
+    							subUris = new SubUriSource(Path.of(args[i + 1]));
+    						} catch(IOException | InvalidPathException e) {
         			    		// If the any exceptions concerning the file occurred, notify and exit program.
         			    		System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
 								return;
@@ -244,21 +293,363 @@ public class HtmlScannerMain {
     						return;
     					}
     					
+    					break;
+    				// -mode flag.
+    				case "-mode":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to match the value to a mode.
+    						mode = ExecutionMode.fromString(args[i + 1]);
+    						
+    						// Check if the mode exists.
+    						if (mode == null) {
+    							// If the mode is not recognised, notify and exit program.
+    							System.out.println("Invalid mode! Expected platform, async, or virtual.");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A mode is expected after the -mode flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -concurrency flag.
+    				case "-concurrency":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Check to see if argument is a positive number.
+    						if (Pattern.matches("^[1-9][0-9]{0,8}$", args[i + 1])) {
+    							// Set the limit of requests in flight.
+    							concurrency = Integer.parseInt(args[i + 1]);
+    						} else {
+    							// If the limit is not in the correct format, notify and exit program.
+    							System.out.println("Invalid concurrency format!");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A number is expected after the -concurrency flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -stream flag.
+    				case "-stream":
+    					// If flag is present in arguments, set a flag.
+    					stream = true;
+    					break;
+    				// -noCompression flag.
+    				case "-noCompression":
+    					// If flag is present in arguments, request uncompressed responses.
+    					compressed = false;
+    					break;
+    				// -throttle flag.
+    				case "-throttle":
+    					// If flag is present in arguments, set a flag.
+    					throttle = true;
+    					break;
+    				// -retries flag.
+    				case "-retries":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Check to see if argument is a number.
+    						if (Pattern.matches("^[0-9]{1,3}$", args[i + 1])) {
+    							// Set the amount of retries.
+    							retries = Integer.parseInt(args[i + 1]);
+    						} else {
+    							System.out.println("Invalid retries format!");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A number is expected after the -retries flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -hedge flag.
+    				case "-hedge":
+    					// If flag is present in arguments, set a flag.
+    					hedge = true;
+    					break;
+    				// -dedup flag.
+    				case "-dedup":
+    					// If flag is present in arguments, set a flag.
+    					dedup = true;
+    					break;
+    				// -crawl flag.
+    				case "-crawl":
+    					// If flag is present in arguments, set a flag.
+    					crawl = true;
+    					break;
+    				// -depth flag.
+    				case "-depth":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Check to see if argument is a number.
+    						if (Pattern.matches("^[0-9]{1,4}$", args[i + 1])) {
+    							// Set the depth of links followed.
+    							maxDepth = Integer.parseInt(args[i + 1]);
+    						} else {
+    							System.out.println("Invalid depth format!");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A number is expected after the -depth flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -maxPages flag.
+    				case "-maxPages":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Check to see if argument is a positive number.
+    						if (Pattern.matches("^[1-9][0-9]{0,8}$", args[i + 1])) {
+    							// Set the highest amount of pages crawled.
+    							maxPages = Integer.parseInt(args[i + 1]);
+    						} else {
+    							System.out.println("Invalid maxPages format!");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A number is expected after the -maxPages flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -workers flag.
+    				case "-workers":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Check to see if argument is a positive number.
+    						if (Pattern.matches("^[1-9][0-9]{0,3}$", args[i + 1])) {
+    							// Set the amount of threads crawling.
+    							workers = Integer.parseInt(args[i + 1]);
+    						} else {
+    							System.out.println("Invalid workers format!");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A number is expected after the -workers flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -cache flag.
+    				case "-cache":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to open the cache directory, creating it if needed.
+    						try {
+    							cache = new FindingsCache(Path.of(args[i + 1]));
+    						} catch (IOException | InvalidPathException e) {
+    							// If the directory could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A directory is expected after the -cache flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -journal flag.
+    				case "-journal":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to parse the path of the journal, it is opened once every flag has been read.
+    						try {
+    							journalPath = Path.of(args[i + 1]);
+    						} catch (InvalidPathException e) {
+    							// If the path could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A file is expected after the -journal flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -resume flag.
+    				case "-resume":
+    					// If flag is present in arguments, set a flag.
+    					resume = true;
+    					break;
+    				// -baseline flag.
+    				case "-baseline":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to parse the path of the baseline, it is read once every flag has been read.
+    						try {
+    							baselinePath = Path.of(args[i + 1]);
+    						} catch (InvalidPathException e) {
+    							// If the path could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A file is expected after the -baseline flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -o flag.
+    				case "-o":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to parse the path of the output, it is opened once every flag has been read.
+    						try {
+    							outputPath = Path.of(args[i + 1]);
+    						} catch (InvalidPathException e) {
+    							// If the path could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A file is expected after the -o flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -format flag.
+    				case "-format":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to match the value to a format.
+    						format = OutputFormat.fromString(args[i + 1]);
+    						
+    						// Check if the format exists.
+    						if (format == null) {
+    							// If the format is not recognised, notify and exit program.
+    							System.out.println("Invalid format! Expected text, ndjson, or csv.");
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A format is expected after the -format flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -gzip flag.
+    				case "-gzip":
+    					// If flag is present in arguments, set a flag.
+    					gzip = true;
+    					break;
+    				// -metrics flag.
+    				case "-metrics":
+    					// If flag is present in arguments, set a flag.
+    					measure = true;
+    					break;
+    				// -jfr flag.
+    				case "-jfr":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to parse the path of the recording, it is started once every flag has been read.
+    						try {
+    							recordingPath = Path.of(args[i + 1]);
+    						} catch (InvalidPathException e) {
+    							// If the path could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A file is expected after the -jfr flag!");
+    						return;
+    					}
+    					
+    					break;
+    				// -secrets flag.
+    				case "-secrets":
+    					// If flag is present in arguments, set a flag.
+    					detect = true;
+    					break;
+    				// -keywords flag.
+    				case "-keywords":
+    					// Check to see if flag has a proceeding value.
+    					if (i + 1 != args.length && !flags.contains(args[i + 1])) {
+    						// Attempt to parse the path of the rules, they are loaded once every flag has been read.
+    						try {
+    							keywordsPath = Path.of(args[i + 1]);
+    						} catch (InvalidPathException e) {
+    							// If the path could not be used, notify and exit program.
+    							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    							return;
+    						}
+    						
+    						// Further rules imply that the findings are searched.
+    						detect = true;
+    						
+    						// Increment the iteration so that it ignores the flag value.
+    						i++;
+    					} else {
+    						// If no value is present for the flag, exit program.
+    						System.out.println("A file is expected after the -keywords flag!");
+    						return;
+    					}
+    					
     					break;
     				// -c flag.
     				case "-c":
     					// If flag is present in arguments, set a flag.
-    					searchComments = true;
+    					findingTypes.add(FindingType.COMMENT);
     					break;
     				// -hi flag.
     				case "-hi":
     					// If flag is present in arguments, set a flag.
-    					searchHidden = true;
+    					findingTypes.add(FindingType.HIDDEN_INPUT);
     					break;
     				// -m flag.
     				case "-m":
     					// If flag is present in arguments, set a flag.
-    					searchMeta = true;
+    					findingTypes.add(FindingType.META);
     					break;
     				// -random-agent flag.
     				case "-random-agent":
@@ -286,166 +677,228 @@ public class HtmlScannerMain {
     			}
     		}
     		
-    		// Check to see if sub-URIs are present in arguments.
-    		if (subUris.size() > 1) {
-    			// Create a MultiHtmlScanner with generated options and required sub-URIs.
-				MultiHtmlScanner multiHtmlScanner = new MultiHtmlScanner(httpOptions, subUris);
-				
-				// Generate HTTP requests, send them.
-				multiHtmlScanner.generateResponses();
-				
-				// Gather responses from HTTP requests.
-				HashMap<URI, String> responses = multiHtmlScanner.getResponses();
-		    	
-				// Iterate through each response.
-		    	for (int j = 0; j < responses.size(); j++) {
-		    		// Get the current URI.
-		    		URI currentURI = (URI) responses.keySet().toArray()[j];
-		    		
-		    		// Parse the response corresponding to the current iteration's URI.
-		    		Document html = Jsoup.parse(responses.get(currentURI));
-		    		
-		    		// Print the current URI.
-		    		System.out.println("\u001B[46m\u001B[37m" + responses.keySet().toArray()[j] + ":\u001B[0m");		    		
-			
-		    		// Print the response, depending on flags used (comments and / or hidden attributes).
-		    		checkJSoupFlags(searchComments, searchHidden, searchMeta, html);
-		    	}
-			} else {
-				// Create a HtmlScanner with generated options.
-				HtmlScanner htmlScanner = new HtmlScanner(httpOptions);
-				
-				// Gather response from HTTP request.
-				HttpResponse<String> response = htmlScanner.getResponse();
-				
-				// Print the current URI.
-				System.out.println("\u001B[46m\u001B[37m" + response.uri() + ":\u001B[0m");
-				
-				// Parse the response of HTTP request.
-				Document html = Jsoup.parse(response.body());
-	    		
-				// Print response, depending on flags used (comments and / or hidden attributes).
-				checkJSoupFlags(searchComments, searchHidden, searchMeta, html);
-			}
+    		// Create an extractor which collects every requested type of finding in a single pass.
+    		FindingsExtractor extractor = new FindingsExtractor(findingTypes);
+    		
+    		// Check to see if a previous scan can be resumed.
+    		if (resume && journalPath == null) {
+    			System.out.println("A journal is expected when using the -resume flag!");
+    			return;
+    		}
+    		
+    		// Open the journal recording the progress of the scan, if any.
+    		ScanJournal journal = null;
+    		if (journalPath != null) {
+    			try {
+    				journal = new ScanJournal(journalPath, httpOptions.getURI(), findingTypes, resume);
+    			} catch (IOException e) {
+    				// If the journal could not be used, notify and exit program.
+    				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    				return;
+    			}
+    			
+    			// Notify of the sub-URIs which are skipped.
+    			if (journal.getResumed() > 0) {
+    				System.out.println("Resuming, " + journal.getResumed() + " sub-URIs already scanned are skipped, their findings are written again from " + journalPath + ".\n");
+    			}
+    			
+    			// Force any recorded progress to disk if the program is stopped.
+    			Runtime.getRuntime().addShutdownHook(new Thread(journal::close));
+    		}
+    		
+    		// Read the findings of the previous scan each page is compared against, if any.
+    		ScanBaseline baseline = null;
+    		if (baselinePath != null) {
+    			try {
+    				baseline = new ScanBaseline(baselinePath, httpOptions.getURI(), findingTypes);
+    			} catch (IOException e) {
+    				// If the baseline could not be used, notify and exit program.
+    				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    				return;
+    			}
+    		}
+    		
+    		// Compile the built-in rules, along with those of the file, if any, into a single scanner.
+    		SecretScanner secrets = null;
+    		if (detect) {
+    			List<SecretRule> rules = new ArrayList<>(SecretRule.defaults());
+    			if (keywordsPath != null) {
+    				try {
+    					rules.addAll(SecretRule.load(keywordsPath));
+    				} catch (IOException | PatternSyntaxException e) {
+    					// If the rules could not be used, notify and exit program.
+    					System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    					return;
+    				}
+    			}
+    			secrets = new SecretScanner(rules);
+    		}
+    		
+    		// Open the output each result is written to.
+    		ResultWriter writer;
+    		try {
+    			writer = ResultWriter.open(outputPath, format, extractor.getTypes(), gzip);
+    		} catch (IOException e) {
+    			// If the output could not be used, notify and exit program.
+    			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    			return;
+    		}
+    		
+    		// Start a flight recording of the scan, if requested, using the low overhead default settings along with the scanner's own events.
+    		Recording recording = null;
+    		if (recordingPath != null) {
+    			try {
+    				recording = new Recording(Configuration.getConfiguration("default"));
+    				recording.setName("HtmlScanner");
+    				recording.setDestination(recordingPath);
+    				
+    				// Write the recording even if the program is stopped early.
+    				recording.setDumpOnExit(true);
+    				recording.start();
+    			} catch (IOException | ParseException e) {
+    				// If the recording could not be started, notify and exit program.
+    				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    				writer.close();
+    				return;
+    			}
+    		}
+    		
+    		// Create the metrics of the scan, if requested, exposing them via JMX whilst the scan is running.
+    		ScanMetrics metrics = null;
+    		if (measure) {
+    			metrics = new ScanMetrics();
+    			try {
+    				metrics.register();
+    			} catch (JMException e) {
+    				// The scan is still measured, it just cannot be watched via JMX.
+    				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+    			}
+    		}
+    		
+    		// The time remaining is estimated from the share of sub-URIs read, which is unknown when crawling as further pages are discovered.
+    		DoubleSupplier sent = subUris == null || crawl ? () -> -1 : subUris::getProgress;
+    		
+    		// Print the progress of the scan whilst it runs, if metrics are recorded.
+    		ProgressReporter reporter = metrics != null ? new ProgressReporter(metrics, sent) : null;
+    		
+    		// Create an engine which is shared by every request, closing it once all requests have been sent.
+    		try (ResultWriter output = writer ; HtmlScannerEngine engine = new HtmlScannerEngine(httpOptions) ; AdaptiveRateLimiter limiter = throttle ? new AdaptiveRateLimiter(concurrency) : null ; ScanJournal progress = journal ; SubUriSource wordlist = subUris ; ScanMetrics scanMetrics = metrics ; ScanBaseline previousScan = baseline) {
+    			// Only extract findings if any flags have been set.
+    			engine.setExtractor(findingTypes.isEmpty() ? null : extractor);
+    			engine.setStreaming(stream);
+    			engine.setCompressed(compressed);
+    			engine.setCache(cache);
+    			engine.setLimiter(limiter);
+    			engine.setRetryPolicy(new RetryPolicy(retries + 1));
+    			engine.setHedging(hedge);
+    			engine.setFingerprints(dedup ? new FingerprintIndex() : null);
+    			engine.setMetrics(scanMetrics);
+    			engine.setBaseline(previousScan);
+    			
+    			// Search the findings of each result for secrets, if requested, just before it is written.
+    			SecretScanner scanner = secrets;
+    			ScanResultListener detector = scanner == null ? output : result -> output.onResult(scanner.scan(result));
+    			
+    			// Only write what has changed since the baseline, if any, pages which have not changed are not written at all.
+    			ScanResultListener listener = previousScan == null ? detector : result -> {
+    				ScanResult changed = previousScan.diff(result);
+    				if (changed != null) {
+    					detector.onResult(changed);
+    				}
+    			};
+    			
+    			// Open the wordlist once, an iterator maps the file and holds its own set of the sub-URIs already seen.
+    			Iterator<String> subUriIterator = crawl || wordlist == null ? null : wordlist.iterator();
+    			
+    			// Check to see if pages should be discovered by following links, any sub-URIs are also crawled.
+    			if (crawl) {
+    				// Create a HtmlCrawler with the engine and required sub-URIs.
+    				HtmlCrawler crawler = new HtmlCrawler(engine, wordlist == null ? List.of() : wordlist);
+    				
+    				// Set the limits of the crawl.
+    				crawler.setMaxDepth(maxDepth);
+    				crawler.setMaxPages(maxPages);
+    				crawler.setWorkers(workers);
+    				
+    				// Crawl the site, writing each response as soon as its findings have been extracted.
+    				crawler.crawl(listener);
+    			} else if (subUriIterator != null && subUriIterator.hasNext()) {
+    				// Create a MultiHtmlScanner with the engine and required sub-URIs, continuing from the iterator which was checked.
+    				MultiHtmlScanner multiHtmlScanner = new MultiHtmlScanner(engine, () -> subUriIterator);
+    				
+    				// Set how the requests are sent.
+    				multiHtmlScanner.setExecutionMode(mode);
+    				multiHtmlScanner.setConcurrency(concurrency);
+    				multiHtmlScanner.setJournal(progress);
+    				
+    				// Generate HTTP requests, send them, and write each response as soon as its findings have been extracted.
+    				multiHtmlScanner.generateResponses(listener);
+    			} else {
+    				// Send a single request to the URI.
+    				listener.onResult(engine.scan(httpOptions.getURI()));
+    			}
+    		} finally {
+    			// Stop printing the progress once every result has been written.
+    			if (reporter != null) {
+    				reporter.close();
+    			}
+    		}
+    		
+    		// Print a summary of the scan once every result has been written.
+    		if (metrics != null) {
+    			System.err.println(metrics.summary());
+    		}
+    		
+    		// Print how many pages have changed since the baseline.
+    		if (baseline != null) {
+    			System.err.println(baseline.summary());
+    		}
+    		
+    		// Stop the recording, which writes it to its file.
+    		if (recording != null) {
+    			recording.stop();
+    			recording.close();
+    			System.err.println("Flight recording written to " + recordingPath + ", it can be opened in JDK Mission Control.");
+    		}
     	} else {
     		// Print an example usage of the program.
     		System.out.println("This script takes the following flags as input:");
     		System.out.println("\t-uri: The URI you want to connect to (if multiple sub-URIs are used, this must be set at the root URI).");
-    		System.out.println("\t-subUris: A file containing all sub-URIs, these must be on seperate lines, if any.");
+    		System.out.println("\t-subUris: A file containing all sub-URIs, these must be on seperate lines, if any. Empty lines, lines starting with #, and repeated sub-URIs are skipped.");
     		System.out.println("\t-cookie: The cookie you want to include in your request, if any. Must be in form, cookieName=cookieValue OR cookieName=cookieValue;...");
     		System.out.println("\t-header: A single or list of HTTP headers you want to include in your request(s), if any. Must be in same form as -cookie above.");
     		System.out.println("\t-headers: A file containing all headers, these must be on seperate lines, if any.");
     		System.out.println("\t-timeout: The timout for the connection in seconds, if any. Must be in the form 0-9s.");
+    		System.out.println("\t-mode: How requests to sub-URIs are sent, either platform (a thread per sub-URI in flight, default), async (non-blocking), or virtual (a virtual thread per sub-URI, Java 21+).");
+    		System.out.println("\t-concurrency: The maximum amount of requests in flight at once, default is 256.");
+    		System.out.println("\t-stream: Used to parse each response whilst it is being read, rather than holding the entire page in memory first.");
+    		System.out.println("\t-noCompression: Used to request uncompressed responses, by default gzip or deflate compressed responses are requested.");
+    		System.out.println("\t-cache: A directory used to cache the findings of each page, if any. Pages which have not been modified since the last run are not parsed again.");
+    		System.out.println("\t-throttle: Used to pace the requests sent to each host, finding the highest rate the host sustains without throttling or slowing down.");
+    		System.out.println("\t-retries: The amount of times a request is retried after a timeout, connection error, 429, or 5xx gateway response, default is 2. Use 0 to disable retries.");
+    		System.out.println("\t-hedge: Used to send a duplicate of any request slower than 95% of recent requests, using whichever response arrives first.");
+    		System.out.println("\t-dedup: Used to parse each unique body only once, pages returning the same body as an earlier page, such as a catch-all page, reuse its findings and are reported as the same as it.");
+    		System.out.println("\t-crawl: Used to discover further pages by following the same-origin links (a, form, link, and script elements) of each page, starting from the URI and any sub-URIs.");
+    		System.out.println("\t-depth: The amount of links followed from the URI when crawling, default is 3.");
+    		System.out.println("\t-maxPages: The maximum amount of pages scanned when crawling, default is 1000.");
+    		System.out.println("\t-workers: The amount of threads scanning pages when crawling, default is 16.");
+    		System.out.println("\t-journal: A file used to record each sub-URI as soon as it has been scanned, along with its findings, if any.");
+    		System.out.println("\t-resume: Used with -journal to skip the sub-URIs already recorded by an interrupted scan of the same URI and flags.");
+    		System.out.println("\t-baseline: A file of the findings of a previous scan, only the findings added or removed since are written and pages whose body is unchanged are not parsed. The file is created if missing, and updated once the scan has finished.");
+    		System.out.println("\t-o: A file the results are written to, replacing it if it exists. By default results are written to the console.");
+    		System.out.println("\t-format: The format the results are written in, either text (coloured for the console, default), ndjson (a JSON object per URI), or csv (a row per finding).");
+    		System.out.println("\t-gzip: Used to gzip-compress the results written.");
+    		System.out.println("\t-jfr: A file a Java Flight Recorder recording of the scan is written to, holding an event for each request, body read, parse, and extraction along with the usual JVM events.");
+    		System.out.println("\t-metrics: Used to print the progress of the scan, and a summary of its latencies, statuses, and errors, to the console's error stream. The metrics are also exposed via JMX.");
+    		System.out.println("\t-secrets: Used to search the comments, hidden attributes, and meta elements found for API keys, tokens, private keys, and keywords such as password or TODO, in a single pass over each finding.");
+    		System.out.println("\t-keywords: A file of further keywords or regular expressions to search the findings for, one per line in the form keyword, name=keyword, or name=/regex/. Implies -secrets.");
     		System.out.println("\t-c: Used to find all comments in each HTTP request's response.");
     		System.out.println("\t-hi: Used to find all hidden attributes in each HTTP request's response.");
-    		System.out.println("\t-m: Used to find all meta elements in each HTTP request's response.");
+    		System.out.println("\t-m: Used to find all meta elements in each HTTP request's response. When used without -c or -hi, only the head of each page is read.");
     		System.out.println("\t-random-agent: Used to generate a random user-agent for each request, if needed.");
     		System.out.println("\nTo use this script, simply specify the appropriate flags on the command line.");
     		System.out.println("Example Usage:");
     		System.out.println("\tjava HtmlScannerMain -uri http://www.example.com -cookie PHPSESSID=sessID;... -header test=header;another=header;... -timeout 40s -c -hi -m -random-agent");
     	}
     }
-    
-    /**
-     * This method checks to see if any of the comments or hidden attributes
-     * flags have been used in arguments. 
-     * 
-     * @param searchComments flag insinuating the usage of -c flag.
-     * @param searchHidden flag insinuating the usage of -hi flag.
-     * @param searchMeta flag insinuating the usage of -m flag.
-     * @param html value of HTTP request's response. 
-     */
-    private static void checkJSoupFlags(boolean searchComments, boolean searchHidden, boolean searchMeta, Document html) {    	
-    	// Check to see which flags have been set.
-    	if (searchComments && searchHidden && searchMeta) {
-    		// All flags have been set, therefore get comments, hidden attributes, and meta elements from current response.
-    		getComments(html);
-    		getHiddenInputs(html);
-    		getMetas(html);
-    	} else if (searchComments && searchHidden) {
-    		// Both flags have been set, therefore get comments and hidden attributes from current response.
-    		getComments(html);
-    		getHiddenInputs(html);
-    	} else if (searchComments && searchMeta) {
-    		// Both flags have been set, therefore get comments and meta elements from current response.
-    		getComments(html);
-    		getMetas(html);
-    	} else if (searchHidden && searchMeta) {
-    		// Both flags have been set, therefore get hidden attributes and meta elements from current response.
-    		getHiddenInputs(html);
-    		getMetas(html);
-    	} else if (searchComments) {
-    		// Only -c flag has been set, therefore get comments from current response.
-    		getComments(html);
-    	} else if (searchHidden) {
-    		// Only -hi flag has been set, therefore get hidden inputs from current response.
-    		getHiddenInputs(html);
-    	} else if (searchMeta) {
-    		// Only -m flag has been set, therefore get meta elements from current response.
-    		getMetas(html);
-    	} else {
-    		// Notify that the URI does not contain comments or hidden attributes.
-    		System.out.println("This URI does not contain any comments, hidden attributes, or meta elements!");
-    	}
-    }
-    
-    /**
-     * This method attempts to find the comments in the specified
-     * HTTP request's response.
-     * 
-     * @param html value of HTTP request's response.
-     */
-    private static void getComments(Document html) {
-    	// Get all elements of the HTTP request's response.
-    	Elements elements = html.getAllElements();
-    	
-    	// Iterate through each element.
-		for (Element element : elements) {
-			// Iterate through each elements child node.
-			for (Node child : element.childNodes()) {
-				// Check to see if the child node is a comment.
-				if (child.nodeName().equals("#comment")) {
-					// Print the comment.
-					System.out.println("\t\u001B[32m<!--" + ((Comment) child).getData().strip() + "-->\u001B[0m");
-				}
-			}
-		}
-		System.out.println();
-    }
-    
-    /**
-     * This method attempts to find the hidden attributes in the
-     * specified HTTP request's response.
-     * 
-     * @param html value of HTTP request's response.
-     */
-    private static void getHiddenInputs(Document html) {
-    	// Get all elements of the HTTP request's response that have a hidden attribute.
-    	Elements hiddenInputs = html.select("[type=hidden]");
-    	
-    	// Iterate through each element.
-    	for (Element hiddenInput : hiddenInputs) {
-    		// Print the entire hidden comment.
-    		System.out.println("\t\u001B[34m" + hiddenInput + "\u001B[0m");
-    	}
-    	System.out.println();
-    }
-    
-    /**
-     * This method attempts to find the meta elements in the
-     * specified HTTP request's response
-     * 
-     * @param html value of HTTP request's response.
-     */
-    private static void getMetas(Document html) {
-    	// Get all elements of the HTTP request's response that are meta elements.
-    	Elements metaElements = html.select("meta");
-    	
-    	// Iterate through each element.
-    	for (Element metaElement : metaElements) {
-    		// Print the entire meta element.
-    		System.out.println("\t\u001B[31m" + metaElement + "\u001B[0m");
-    	}
-    	System.out.println();
-    }
 }
@@ -0,0 +1,278 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class KeywordAutomaton is used to find every occurrence of any number of keywords in a
+ * text with a single pass over the text, using the Aho-Corasick algorithm. The keywords are
+ * compiled into a trie whose states are linked to the longest suffix which is also a state,
+ * meaning the text is never read again after a partial match fails. The cost of a search is
+ * therefore linear in the length of the text plus the amount of matches, however many
+ * keywords the automaton holds.
+ * 
+ * Matching ignores case, each character of the keywords and text being compared in lower case.
+ * 
+ * The transitions of the trie are held in a single open-addressing table rather than a map
+ * per state, and the transitions of the start state for ASCII characters are held in an array,
+ * as most characters of a text do not continue a partial match.
+ * 
+ * An automaton is immutable once built, and is safe to search from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class KeywordAutomaton {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the start state.
+	 */
+	private static final int ROOT = 0;
+	
+	/**
+	 * Constant which stores the amount of characters whose start transitions are held in an array.
+	 */
+	private static final int ASCII = 128;
+	
+	/**
+	 * Constant which stores the key of an empty slot of the transition table.
+	 */
+	private static final long EMPTY = -1;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the lengths of the keywords, indexed by keyword.
+	 */
+	private final int[] lengths;
+	
+	/**
+	 * Field which stores the state reached from the start state by each ASCII character, 0 if none.
+	 */
+	private final int[] rootTransitions = new int[ASCII];
+	
+	/**
+	 * Field which stores the key of each transition, the state and character combined.
+	 */
+	private final long[] transitionKeys;
+	
+	/**
+	 * Field which stores the state reached by each transition.
+	 */
+	private final int[] transitionTargets;
+	
+	/**
+	 * Field which stores the state of the longest proper suffix of each state.
+	 */
+	private final int[] fail;
+	
+	/**
+	 * Field which stores the keyword ending at each state, -1 if none.
+	 */
+	private final int[] keywordOf;
+	
+	/**
+	 * Field which stores the nearest suffix state of each state at which a keyword ends, -1 if none.
+	 */
+	private final int[] dictionary;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to compile the keywords into an automaton. Empty keywords
+	 * never match, and a keyword repeated in the list is only reported by its first index.
+	 * 
+	 * @param keywords keywords to find, each reported by its index in the list.
+	 */
+	public KeywordAutomaton(List<String> keywords) {
+		this.lengths = new int[keywords.size()];
+		
+		// Build the trie, each transition keyed by its state and character.
+		Map<Long, Integer> trie = new HashMap<>();
+		int states = 1;
+		int[] keywordOf = new int[16];
+		int[] firstChild = new int[16];
+		int[] nextSibling = new int[16];
+		char[] label = new char[16];
+		Arrays.fill(keywordOf, -1);
+		Arrays.fill(firstChild, -1);
+		
+		for (int i = 0; i < keywords.size(); i++) {
+			String keyword = keywords.get(i);
+			this.lengths[i] = keyword.length();
+			
+			int state = ROOT;
+			for (int j = 0; j < keyword.length(); j++) {
+				char c = Character.toLowerCase(keyword.charAt(j));
+				Integer next = trie.get(key(state, c));
+				
+				// Add a state for the character, linking it to its parent.
+				if (next == null) {
+					if (states == keywordOf.length) {
+						int capacity = states * 2;
+						keywordOf = Arrays.copyOf(keywordOf, capacity);
+						firstChild = Arrays.copyOf(firstChild, capacity);
+						nextSibling = Arrays.copyOf(nextSibling, capacity);
+						label = Arrays.copyOf(label, capacity);
+						Arrays.fill(keywordOf, states, capacity, -1);
+						Arrays.fill(firstChild, states, capacity, -1);
+					}
+					next = states++;
+					trie.put(key(state, c), next);
+					label[next] = c;
+					nextSibling[next] = firstChild[state];
+					firstChild[state] = next;
+				}
+				state = next;
+			}
+			
+			// The start state is never the end of a keyword.
+			if (state != ROOT && keywordOf[state] < 0) {
+				keywordOf[state] = i;
+			}
+		}
+		
+		// Copy the transitions into an open-addressing table at most half full.
+		int capacity = Integer.highestOneBit(Math.max(1, trie.size()) * 2) * 2;
+		this.transitionKeys = new long[capacity];
+		this.transitionTargets = new int[capacity];
+		Arrays.fill(this.transitionKeys, EMPTY);
+		for (Map.Entry<Long, Integer> transition : trie.entrySet()) {
+			int slot = this.slotOf(transition.getKey());
+			this.transitionKeys[slot] = transition.getKey();
+			this.transitionTargets[slot] = transition.getValue();
+		}
+		for (int child = firstChild[ROOT]; child >= 0; child = nextSibling[child]) {
+			if (label[child] < ASCII) {
+				this.rootTransitions[label[child]] = child;
+			}
+		}
+		
+		// Link each state to its longest suffix state, visiting shorter states first.
+		this.keywordOf = Arrays.copyOf(keywordOf, states);
+		this.fail = new int[states];
+		this.dictionary = new int[states];
+		Arrays.fill(this.dictionary, -1);
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		for (int child = firstChild[ROOT]; child >= 0; child = nextSibling[child]) {
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (int child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+				// Follow the suffixes of the parent until one continues with the same character.
+				int suffix = this.fail[state];
+				int next;
+				while ((next = this.transition(suffix, label[child])) == ROOT && suffix != ROOT) {
+					suffix = this.fail[suffix];
+				}
+				this.fail[child] = next;
+				this.dictionary[child] = this.keywordOf[next] >= 0 ? next : this.dictionary[next];
+				queue.add(child);
+			}
+		}
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method finds every occurrence of the keywords in the text, including overlapping
+	 * occurrences, handing each to the listener as soon as it ends.
+	 * 
+	 * @param text text to search.
+	 * @param listener listener which receives each occurrence.
+	 */
+	public void search(CharSequence text, MatchListener listener) {
+		int state = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			char c = Character.toLowerCase(text.charAt(i));
+			
+			// Fall back to shorter suffixes until one continues with the character.
+			int next;
+			while ((next = this.transition(state, c)) == ROOT && state != ROOT) {
+				state = this.fail[state];
+			}
+			state = next;
+			
+			// Report every keyword ending at the character, the longest first.
+			for (int match = this.keywordOf[state] >= 0 ? state : this.dictionary[state]; match >= 0; match = this.dictionary[match]) {
+				int keyword = this.keywordOf[match];
+				listener.onMatch(keyword, i + 1 - this.lengths[keyword], i + 1);
+			}
+		}
+	}
+	
+	/**
+	 * This method finds the state reached from a state by a character.
+	 * 
+	 * @param state state the transition starts from.
+	 * @param c character in lower case.
+	 * @return the state reached, or the start state if the state has no such transition.
+	 */
+	private int transition(int state, char c) {
+		if (state == ROOT && c < ASCII) {
+			return this.rootTransitions[c];
+		}
+		
+		long key = key(state, c);
+		int slot = this.slotOf(key);
+		return this.transitionKeys[slot] == key ? this.transitionTargets[slot] : ROOT;
+	}
+	
+	/**
+	 * This method finds the first slot of the transition table probed for a key.
+	 * 
+	 * @param key key of the transition.
+	 * @return the first slot probed, the key is held by it or a following slot if present.
+	 */
+	private int slotOf(long key) {
+		int slot = (int) ((key * 0x9e3779b97f4a7c15L) >>> 32) & (this.transitionKeys.length - 1);
+		while (this.transitionKeys[slot] != EMPTY && this.transitionKeys[slot] != key) {
+			slot = (slot + 1) & (this.transitionKeys.length - 1);
+		}
+		return slot;
+	}
+	
+	/**
+	 * This method combines a state and a character into the key of a transition.
+	 * 
+	 * @param state state the transition starts from.
+	 * @param c character of the transition.
+	 * @return the key of the transition.
+	 */
+	private static long key(int state, char c) {
+		return (long) state << 16 | c;
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the amount of keywords of the automaton.
+	 * 
+	 * @return the amount of keywords, including empty and repeated keywords.
+	 */
+	public int size() {
+		return this.lengths.length;
+	}
+	
+	/*---- Interface ----*/
+	/**
+	 * The interface MatchListener is used to receive each occurrence of a keyword found by
+	 * {@link KeywordAutomaton#search(CharSequence, MatchListener)}.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	@FunctionalInterface
+	public interface MatchListener {
+		/**
+		 * Called once for each occurrence of a keyword.
+		 * 
+		 * @param keyword index of the keyword.
+		 * @param start index of the text the occurrence starts at.
+		 * @param end index of the text after the occurrence.
+		 */
+		void onMatch(int keyword, int start, int end);
+	}
+}
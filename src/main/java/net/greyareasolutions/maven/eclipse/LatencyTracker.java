@@ -0,0 +1,101 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.Arrays;
+
+/**
+ * The class LatencyTracker is used to keep the latencies of the most recent requests, so
+ * that {@link HtmlScannerEngine} is able to tell when a request is taking unusually long
+ * and should be hedged. Only a fixed amount of latencies are kept, the oldest being
+ * overwritten first, meaning the percentiles follow changes in the hosts' latency.
+ * 
+ * The class is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class LatencyTracker {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of latencies kept.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+	
+	/**
+	 * Constant which stores the least amount of latencies needed before a percentile is returned.
+	 */
+	public static final int MIN_SAMPLES = 20;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the most recent latencies in nanoseconds.
+	 */
+	private final long[] samples;
+	
+	/**
+	 * Field which stores the amount of latencies recorded, including those overwritten.
+	 */
+	private long count;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param capacity amount of latencies kept.
+	 */
+	public LatencyTracker(int capacity) {
+		this.samples = new long[Math.max(MIN_SAMPLES, capacity)];
+	}
+	
+	/**
+	 * Constructor which sets a default capacity. This constructor passes the remaining
+	 * parameters to the top-level constructor.
+	 */
+	public LatencyTracker() {
+		// Call the top-level constructor, setting a default capacity.
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Records the latency of a request, overwriting the oldest latency once full.
+	 * 
+	 * @param latencyNanos time taken by the request, in nanoseconds.
+	 */
+	public synchronized void record(long latencyNanos) {
+		this.samples[(int) (this.count++ % this.samples.length)] = latencyNanos;
+	}
+	
+	/**
+	 * Returns a percentile of the latencies kept.
+	 * 
+	 * @param percentile percentile between 0 and 1, for example 0.95.
+	 * @return the latency in nanoseconds, or -1 if fewer than {@link #MIN_SAMPLES} latencies have been recorded.
+	 */
+	public long percentile(double percentile) {
+		long[] sorted;
+		
+		// Copy the latencies so that sorting does not hold the lock.
+		synchronized (this) {
+			if (this.count < MIN_SAMPLES) {
+				return -1;
+			}
+			sorted = Arrays.copyOf(this.samples, (int) Math.min(this.count, this.samples.length));
+		}
+		Arrays.sort(sorted);
+		
+		// Use the nearest rank.
+		int rank = (int) Math.ceil(Math.min(1, Math.max(0, percentile)) * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the amount of latencies recorded.
+	 * 
+	 * @return the class's count field, including latencies which have been overwritten.
+	 */
+	public synchronized long getCount() {
+		return this.count;
+	}
+}
@@ -0,0 +1,187 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+/**
+ * The class LinkExtractor is used to find the links of a parsed document which lead to
+ * other pages of the same origin, meaning the same scheme, host, and port as the root URI.
+ * Links are taken from the <b>href</b> of <i>a</i> and <i>link</i> elements, the <b>action</b>
+ * of <i>form</i> elements, and the <b>src</b> of <i>script</i> elements.
+ * 
+ * Every link is normalised by {@link #normalize(URI)}, so that different spellings of the
+ * same page are only crawled once.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * LinkExtractor extractor = new LinkExtractor(new URI("https://www.example.com/"));
+ * List&lt;URI&gt; links = extractor.extract(Jsoup.parse(html, "https://www.example.com/login/"));
+ * </pre>
+ * 
+ * The extractor does not hold any state between calls and is therefore thread-safe.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class LinkExtractor {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the origin of the root URI, links of any other origin are ignored.
+	 */
+	private final String origin;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param root root URI, whose origin every link must share.
+	 * @throws IllegalArgumentException if the root URI is not an absolute HTTP or HTTPS URI.
+	 */
+	public LinkExtractor(URI root) {
+		URI normalized = normalize(root);
+		
+		// Check to see if the root URI could be crawled.
+		if (normalized == null) {
+			throw new IllegalArgumentException("Root URI must be an absolute HTTP or HTTPS URI: " + root);
+		}
+		this.origin = originOf(normalized);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method finds every same-origin link of the document.
+	 * 
+	 * @param html parsed HTML of a response, its location is used to resolve relative links.
+	 * @return the normalised links, without duplicates, in the order they appear in the HTML.
+	 */
+	public List<URI> extract(Document html) {
+		ExtractEvent event = new ExtractEvent();
+		event.begin();
+		Set<URI> links = new LinkedHashSet<>();
+		for (Element element : html.getAllElements()) {
+			this.extract(element, links);
+		}
+		if (event.shouldCommit()) {
+			event.uri = html.location();
+			event.extractor = "links";
+			event.found = links.size();
+			event.commit();
+		}
+		return new ArrayList<>(links);
+	}
+	
+	/**
+	 * This method adds the link of a single element, if it has a same-origin link. This
+	 * allows links to be found whilst the document is being parsed.
+	 * 
+	 * @param element element of the document, its base URI is used to resolve a relative link.
+	 * @param links set which the normalised link is added to.
+	 */
+	public void extract(Element element, Set<URI> links) {
+		// Find the attribute holding the link, if the element has one.
+		String attribute;
+		switch (element.normalName()) {
+			case "a":
+			case "link":
+				attribute = "href";
+				break;
+			case "form":
+				attribute = "action";
+				break;
+			case "script":
+				attribute = "src";
+				break;
+			default:
+				return;
+		}
+		
+		// A form without an action is sent to the page itself.
+		String link = element.hasAttr(attribute) || !attribute.equals("action") ? element.absUrl(attribute) : element.baseUri();
+		if (link.isEmpty()) {
+			return;
+		}
+		
+		// Only keep links which are valid and of the same origin.
+		try {
+			URI uri = normalize(new URI(link));
+			if (uri != null && originOf(uri).equals(this.origin)) {
+				links.add(uri);
+			}
+		} catch (URISyntaxException e) {
+			// Links which are not valid URIs are ignored, they could not be requested.
+		}
+	}
+	
+	/**
+	 * Returns the normalised form of a URI. The scheme and host are lowercased, the default
+	 * port is removed, dot segments are removed from the path, an empty path becomes "/",
+	 * and the fragment is removed as it is never sent to the host.
+	 * 
+	 * @param uri absolute URI.
+	 * @return the normalised URI, or null if the URI is not an absolute HTTP or HTTPS URI.
+	 */
+	public static URI normalize(URI uri) {
+		String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+		
+		// Check to see if the URI leads to a page.
+		if (uri.isOpaque() || uri.getHost() == null || !("http".equals(scheme) || "https".equals(scheme))) {
+			return null;
+		}
+		
+		// Remove the port if it is the default port of the scheme.
+		int port = uri.getPort();
+		if (port == 80 && scheme.equals("http") || port == 443 && scheme.equals("https")) {
+			port = -1;
+		}
+		
+		// Rebuild the URI from its encoded parts, so that nothing is encoded twice.
+		StringBuilder normalized = new StringBuilder(scheme).append("://");
+		if (uri.getRawUserInfo() != null) {
+			normalized.append(uri.getRawUserInfo()).append('@');
+		}
+		normalized.append(uri.getHost().toLowerCase(Locale.ROOT));
+		if (port != -1) {
+			normalized.append(':').append(port);
+		}
+		String path = uri.getRawPath();
+		normalized.append(path == null || path.isEmpty() ? "/" : path);
+		if (uri.getRawQuery() != null) {
+			normalized.append('?').append(uri.getRawQuery());
+		}
+		
+		try {
+			return new URI(normalized.toString()).normalize();
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Returns the origin of a normalised URI.
+	 * 
+	 * @param uri normalised URI.
+	 * @return the scheme, host, and port of the URI.
+	 */
+	private static String originOf(URI uri) {
+		return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the origin every link must share.
+	 * 
+	 * @return the class's origin field, made up of the scheme, host, and port.
+	 */
+	public String getOrigin() {
+		return this.origin;
+	}
+}
@@ -1,20 +1,30 @@
 package net.greyareasolutions.maven.eclipse;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * The class MultiHtmlScanner is used to send requests to a multitude of target URIs of the same
  * domain. Inside this class is a private class which allows for each URI to be ran on a separate
- * thread to speed up the process.
+ * thread to speed up the process. Every thread sends its request through a single shared
+ * {@link HtmlScannerEngine}, meaning connections to the domain are re-used between requests.
+ * 
+ * Alternatively, the {@link ExecutionMode#ASYNC} mode can be used, in which requests are sent
+ * without blocking and only a limited amount of requests are in flight at once. In this mode the
+ * amount of threads stays the same no matter how many sub URIs are supplied. The
+ * {@link ExecutionMode#VIRTUAL} mode keeps the blocking style of the platform mode, but runs
+ * each request on a virtual thread with the same limit on the amount of requests in flight.
  * 
  * In order for the class to function as intended, the main URI must be the root URI, for example,
  * <i>http://www.test.com/</i> with the remaining URIs being along the lines of <i>login/</i> or
@@ -25,6 +35,12 @@ import java.util.concurrent.TimeUnit;
  * @since 12-03-2023
  */
 public class MultiHtmlScanner {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default limit of requests in flight at once.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 256;
+	
 	/*---- Fields ----*/
 	/**
 	 * Field which stores the options that need to be sent with the request.
@@ -32,114 +48,402 @@ public class MultiHtmlScanner {
 	private HttpOptions options;
 	
 	/**
-	 * Field which stores the sub URIs in which requests will be sent to.
+	 * Field which stores the engine shared by every request.
+	 */
+	private HtmlScannerEngine engine;
+	
+	/**
+	 * Field which stores whether the engine was created by this class, and should therefore be closed by it.
+	 */
+	private boolean ownsEngine;
+	
+	/**
+	 * Field which stores the sub URIs in which requests will be sent to, only read as each request is sent.
 	 */
-	private List<String> subUris;
+	private Iterable<String> subUris;
 	
 	/**
 	 * Field which stores the executor that will run the separate threads for each request.
 	 */
 	private ExecutorService executor;
 	
+	/**
+	 * Field which stores the mode used to send the requests.
+	 */
+	private ExecutionMode mode;
+	
+	/**
+	 * Field which stores the limit of requests in flight at once, used by the async and virtual modes.
+	 */
+	private int concurrency;
+	
 	/**
 	 * Field which stores the responses of the requests.
 	 */
 	private HashMap<URI, String> responses;
 	
-	/*---- Constructor ----*/
+	/**
+	 * Field which stores the journal recording each completed sub URI, null if progress is not recorded.
+	 */
+	private ScanJournal journal;
+	
+	/*---- Constructors ----*/
 	/**
 	 * Core constructor that aims to initialise all declared fields of the class.
-	 * The size of the executor pool is dependent on the amount of sub URIs.
+	 * By default the {@link ExecutionMode#PLATFORM} mode is used, in which a thread is
+	 * started for each sub URI, up to the limit of requests in flight.
 	 * 
-	 * @param options reference of {@link HttpOptions}.
-	 * @param subUris array of all sub URIs where requests should be sent to.
+	 * @param engine engine used to send every request, the URI of its options is used as the root URI.
+	 * @param subUris all sub URIs where requests should be sent to, such as a list or a {@link SubUriSource}.
 	 */
-	public MultiHtmlScanner(HttpOptions options, ArrayList<String> subUris) {
-		this.options = options;
+	public MultiHtmlScanner(HtmlScannerEngine engine, Iterable<String> subUris) {
+		this.options = engine.getOptions();
+		this.engine = engine;
+		this.ownsEngine = false;
 		this.subUris = subUris;
-		this.executor = Executors.newFixedThreadPool(subUris.size());
+		this.mode = ExecutionMode.PLATFORM;
+		this.concurrency = DEFAULT_CONCURRENCY;
 		this.responses = new HashMap<>();
 	}
 	
-	/*---- Method ----*/
+	/**
+	 * Constructor which creates an engine from the specified options, the engine is closed
+	 * once all responses have been generated.
+	 * 
+	 * @param options reference of {@link HttpOptions}.
+	 * @param subUris all sub URIs where requests should be sent to, such as a list or a {@link SubUriSource}.
+	 */
+	public MultiHtmlScanner(HttpOptions options, Iterable<String> subUris) {
+		this(new HtmlScannerEngine(options), subUris);
+		this.ownsEngine = true;
+	}
+	
+	/*---- Methods ----*/
 	/**
 	 * This method aims to send requests to all sub URIs and add their responses to a
 	 * Map. Each mapping is that of URI --> HttpResponse<String>. In order to prevent
 	 * threads attempting to add responses to the same index, a concurrent linked queue
 	 * is used. 
 	 * 
+	 * The requests are sent depending on the class's {@link ExecutionMode}. As every
+	 * response is held until all requests have finished, it is recommended to use
+	 * {@link #generateResponses(ScanResultListener)} when a large amount of sub URIs are supplied.
+	 * 
 	 * If no sub URIs are available, it is recommended to use {@link HtmlScanner}.
 	 */
 	public void generateResponses() {
-		// Check to see if there are actually any sub URIs.
-		if (this.subUris.size() > 0) {
-			// Create a concurrent linked queue so that collisions are avoided due to threads.
-			ConcurrentLinkedQueue<HttpResponse<String>> queue = new ConcurrentLinkedQueue<>();
+		// Create a concurrent linked queue so that collisions are avoided due to threads.
+		ConcurrentLinkedQueue<ScanResult> queue = new ConcurrentLinkedQueue<>();
+		
+		// Send the requests, adding each response to the queue, failed requests have already been reported.
+		this.generateResponses(result -> {
+			if (result.isSuccessful()) {
+				queue.add(result);
+			}
+		});
+		
+		// Create a list to store all responses from queue.
+		List<ScanResult> responseResults = new ArrayList<ScanResult>(queue);
+		
+		// Iterate through each response obtained from requests.
+		for (int i = 0; i < responseResults.size(); i++) {
+			// Get the URI.
+			URI uri = responseResults.get(i).getUri();
 			
-			// Get the current root URI.
-			URI rootUri = this.options.getURI();
+			// Get the URI's response.
+			String response = responseResults.get(i).getBody();
 			
-			// Iterate through each sub URI.
-			for (int i = 0; i < this.subUris.size(); i++) {
-				// Create a URI object which will hold the entire sub URI.
-				URI currentUri;
+			// Put each in the map.
+			this.responses.put(uri, response);
+		}
+	}
+	
+	/**
+	 * This method aims to send requests to all sub URIs, handing each {@link ScanResult} to
+	 * the listener as soon as its request has finished. Responses are therefore not stored
+	 * by this class, meaning the listener is able to process the fastest responses whilst
+	 * slower requests are still in flight.
+	 * 
+	 * The listener is called from the threads sending the requests and must be thread-safe.
+	 * The requests are sent depending on the class's {@link ExecutionMode}. In every mode the
+	 * next sub URI is only taken once a request is allowed to be sent, meaning a lazy source
+	 * such as {@link SubUriSource} is never read further ahead than the requests in flight. If a
+	 * {@link ScanJournal} has been set, the results of the sub URIs it has already completed are
+	 * handed to the listener again rather than being sent, and each successful result is only
+	 * recorded by it once the listener has accepted the result. If the
+	 * engine has {@link ScanMetrics}, the skipped sub URIs and the time taken to hand each
+	 * result to the listener are also recorded.
+	 * 
+	 * @param listener listener which receives the outcome of each request, including failed requests.
+	 */
+	public void generateResponses(ScanResultListener listener) {
+		try {
+			// Obtain the sub URIs, which are only read as each request is sent.
+			Iterator<String> subUris = this.subUris.iterator();
+			
+			// Check to see if there are actually any sub URIs.
+			if (subUris.hasNext()) {
+				// Record each result once it has been handed over, if progress is recorded.
+				ScanJournal journal = this.journal;
+				ScanResultListener recorder = journal == null ? listener : result -> {
+					listener.onResult(result);
+					journal.record(result);
+				};
 				
-				// Get a sub URI from the list.
-				String subUri = this.subUris.get(i);
+				// Hand over the results completed by previous runs, so that their findings are not lost from the output.
+				if (journal != null) {
+					try {
+						journal.replay(listener);
+					} catch (IOException e) {
+						System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+					}
+				}
+				
+				// Time how long each result takes to be handed over, if the engine records metrics.
+				ScanMetrics metrics = this.engine.getMetrics();
+				ScanResultListener measured = metrics == null ? recorder : result -> {
+					long start = System.nanoTime();
+					try {
+						recorder.onResult(result);
+					} finally {
+						metrics.record(ScanPhase.OUTPUT, System.nanoTime() - start);
+					}
+				};
+				
+				// Record the scan whilst a flight recording is running.
+				ScanEvent event = new ScanEvent();
+				event.begin();
 				
-				// Attempt to create the entire sub URI.
 				try {
-					currentUri = new URI(rootUri.toString() + subUri);
-				} catch (URISyntaxException e) {
-					// Set URI to null - will need to be checked later on.
-					currentUri = null;
+					// Send the requests depending on the mode.
+					switch (this.mode) {
+						case ASYNC:
+							this.sendAsyncRequests(subUris, measured);
+							break;
+						case VIRTUAL:
+							this.sendVirtualRequests(subUris, measured);
+							break;
+						default:
+							this.sendPlatformRequests(subUris, measured);
+							break;
+					}
+				} catch (InterruptedException e) {
 					System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+				} finally {
+					if (event.shouldCommit()) {
+						event.uri = this.options.getURI().toString();
+						event.mode = this.mode.name();
+						event.concurrency = this.concurrency;
+						event.commit();
+					}
 				}
+			}
+		} finally {
+			// Close the engine if it was created by this class, even if there were no sub URIs.
+			if (this.ownsEngine) {
+				this.engine.close();
+			}
+		}
+	}
+	
+	/**
+	 * This method sends each request on its own thread of a fixed thread pool. A thread is
+	 * started for each sub URI until the limit of requests in flight is reached, after which
+	 * a semaphore makes the loop wait for a thread to finish before taking another sub URI.
+	 * Once all requests have been submitted, every permit is obtained, meaning the method only
+	 * returns after each result has been handed to the listener.
+	 * 
+	 * @param subUris sub URIs where requests should be sent to.
+	 * @param listener listener which receives the outcome of each request.
+	 * @throws InterruptedException if interrupted whilst waiting for the threads to finish.
+	 */
+	private void sendPlatformRequests(Iterator<String> subUris, ScanResultListener listener) throws InterruptedException {
+		// Create a semaphore which stores a permit for each request allowed in flight.
+		Semaphore permits = new Semaphore(this.concurrency);
+		
+		// Create a pool which starts a thread for each sub URI, up to the limit of requests in flight.
+		this.executor = Executors.newFixedThreadPool(this.concurrency);
+		
+		try {
+			// Iterate through each sub URI.
+			while (subUris.hasNext()) {
+				// Attempt to create the entire sub URI.
+				URI currentUri = this.resolveSubUri(subUris.next());
 				
-				// Check to see if URI could be correctly parsed (not null).
-				if(currentUri != null) {
-					/*
-					 * Create a new HttpOptions reference due to the fact that if the field 
-					 * options is used, it holds the same reference, meaning the URI
-					 * will be overwritten by the latest thread. However, only the URI should change,
-					 * other parameters of the class can be kept the same.
-					 */
-					HttpOptions newOptions = new HttpOptions(currentUri, this.options.getCookie(), this.options.getHeaders(), this.options.getTimeout());
+				// Check to see if URI could be correctly parsed (not null), and has not already been completed.
+				if(currentUri != null && !this.isCompleted(currentUri)) {
+					// Wait until a request is allowed to be sent.
+					permits.acquire();
 					
-					// Send a HTTP request to the sub URI.
-					this.executor.execute(new MultiHtmlScannerRunnable(newOptions, queue));
+					try {
+						// Send a HTTP request to the sub URI, the engine keeps the remaining options the same.
+						this.executor.execute(new MultiHtmlScannerRunnable(currentUri, listener, permits));
+					} catch (RejectedExecutionException e) {
+						// The thread could not be started, therefore the permit is never released by the runnable.
+						permits.release();
+						System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+					}
 				}
 			}
 			
-			// Attempt to prevent further threads from being created as well as wait for all threads to finish.
-			try {
-				// Block further threads from being created.
-				this.executor.shutdown();
-				
-				// Allow a timer to wait for threads to finish task.
-				this.executor.awaitTermination(60, TimeUnit.SECONDS);
+			// Wait for all requests in flight to finish by obtaining every permit, however long they take.
+			permits.acquire(this.concurrency);
+		} finally {
+			// Block further threads from being created.
+			this.executor.shutdown();
+		}
+	}
+	
+	/**
+	 * This method sends each request without blocking via the engine's <b>sendAsync</b>. A
+	 * semaphore limits the amount of requests in flight, meaning the loop waits for a request
+	 * to finish before sending another once the limit is reached.
+	 * 
+	 * @param subUris sub URIs where requests should be sent to.
+	 * @param listener listener which receives the outcome of each request.
+	 * @throws InterruptedException if interrupted whilst waiting for requests to finish.
+	 */
+	private void sendAsyncRequests(Iterator<String> subUris, ScanResultListener listener) throws InterruptedException {
+		// Create a semaphore which stores a permit for each request allowed in flight.
+		Semaphore permits = new Semaphore(this.concurrency);
+		
+		// Iterate through each sub URI.
+		while (subUris.hasNext()) {
+			// Attempt to create the entire sub URI.
+			URI currentUri = this.resolveSubUri(subUris.next());
+			
+			// Check to see if URI could be correctly parsed (not null), and has not already been completed.
+			if (currentUri != null && !this.isCompleted(currentUri)) {
+				// Wait until a request is allowed to be sent.
+				permits.acquire();
 				
-				// Create a list to store all responses from queue.
-				List<HttpResponse<String>> responseResults = new ArrayList<HttpResponse<String>>(queue);
+				try {
+					// Send the request, the permit is released once the response has been handled.
+					this.engine.scanAsync(currentUri).whenComplete((result, throwable) -> {
+						try {
+							// Hand the outcome of the request to the listener.
+							if (result != null) {
+								listener.onResult(result);
+							}
+						} catch (RuntimeException e) {
+							// Report the listener's failure here, as nothing reads the future returned by whenComplete.
+							System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+						} finally {
+							permits.release();
+						}
+					});
+				} catch (RuntimeException e) {
+					// The request could not be built, therefore it is never sent.
+					permits.release();
+					System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+				}
+			}
+		}
+		
+		// Wait for all requests in flight to finish by obtaining every permit.
+		permits.acquire(this.concurrency);
+	}
+	
+	/**
+	 * This method sends each request on its own virtual thread. As with the async mode, a
+	 * semaphore limits the amount of requests in flight, meaning the loop waits for a thread
+	 * to finish before starting another once the limit is reached.
+	 * 
+	 * @param subUris sub URIs where requests should be sent to.
+	 * @param listener listener which receives the outcome of each request.
+	 * @throws InterruptedException if interrupted whilst waiting for requests to finish.
+	 */
+	private void sendVirtualRequests(Iterator<String> subUris, ScanResultListener listener) throws InterruptedException {
+		// Create a semaphore which stores a permit for each request allowed in flight.
+		Semaphore permits = new Semaphore(this.concurrency);
+		
+		// Create an executor that starts a new virtual thread for each task.
+		this.executor = newVirtualThreadExecutor();
+		
+		try {
+			// Iterate through each sub URI.
+			while (subUris.hasNext()) {
+				// Attempt to create the entire sub URI.
+				URI currentUri = this.resolveSubUri(subUris.next());
 				
-				// Iterate through each response obtained from requests.
-				for (int i = 0; i < responseResults.size(); i++) {
-					// Get the URI.
-					URI uri = responseResults.get(i).uri();
-					
-					// Get the URI's response.
-					String response = responseResults.get(i).body();
+				// Check to see if URI could be correctly parsed (not null), and has not already been completed.
+				if (currentUri != null && !this.isCompleted(currentUri)) {
+					// Wait until a request is allowed to be sent.
+					permits.acquire();
 					
-					// Put each in the map.
-					this.responses.put(uri, response);
+					try {
+						// Send the request, the runnable releases the permit once finished.
+						this.executor.execute(new MultiHtmlScannerRunnable(currentUri, listener, permits));
+					} catch (RejectedExecutionException e) {
+						// The thread could not be started, therefore the permit is never released by the runnable.
+						permits.release();
+						System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+					}
 				}
-			} catch (InterruptedException e) {
-				System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
 			}
+			
+			// Wait for all requests in flight to finish by obtaining every permit.
+			permits.acquire(this.concurrency);
+		} finally {
+			// Block further threads from being created.
+			this.executor.shutdown();
 		}
 	}
 	
-	/*---- Getters ----*/
+	/**
+	 * This method creates an executor which starts a new virtual thread for each task. As the
+	 * project targets Java 17, the executor is obtained reflectively so that virtual threads
+	 * are used whenever the program runs on Java 21 or later.
+	 * 
+	 * @return an executor using virtual threads, or an unbounded pool of platform threads if unavailable.
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			// Attempt to find Executors.newVirtualThreadPerTaskExecutor().
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			// The runtime does not support virtual threads, the semaphore still bounds the amount of platform threads.
+			System.out.println("Virtual threads require Java 21 or later, platform threads will be used instead!");
+			return Executors.newCachedThreadPool();
+		}
+	}
+	
+	/**
+	 * This method attempts to append a sub URI to the root URI.
+	 * 
+	 * @param subUri sub URI, for example <i>login/</i>.
+	 * @return the entire URI, or null if it could not be parsed.
+	 */
+	private URI resolveSubUri(String subUri) {
+		try {
+			// Create the entire sub URI, appending to the root URI held by the engine's template.
+			return this.engine.getTemplate().resolve(subUri);
+		} catch (URISyntaxException e) {
+			// Return null - will need to be checked later on.
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+			return null;
+		}
+	}
+	
+	/**
+	 * This method checks whether a sub URI was completed by a previous run.
+	 * 
+	 * @param uri entire sub URI.
+	 * @return true if a journal has been set and has recorded the URI, otherwise false.
+	 */
+	private boolean isCompleted(URI uri) {
+		boolean completed = this.journal != null && this.journal.isCompleted(uri);
+		
+		// Record the skipped sub URI, if the engine records metrics.
+		ScanMetrics metrics = this.engine.getMetrics();
+		if (completed && metrics != null) {
+			metrics.recordSkipped();
+		}
+		return completed;
+	}
+	
+	/*---- Getters and Setters ----*/
 	/**
 	 * Returns the class's responses from HTTP requests.
 	 * 
@@ -149,10 +453,64 @@ public class MultiHtmlScanner {
 		return this.responses;
 	}
 	
+	/**
+	 * Returns the class's mode used to send the requests.
+	 * 
+	 * @return the class's mode field.
+	 */
+	public ExecutionMode getExecutionMode() {
+		return this.mode;
+	}
+	
+	/**
+	 * Sets the class's mode used to send the requests.
+	 * 
+	 * @param mode mode used to send the requests.
+	 */
+	public void setExecutionMode(ExecutionMode mode) {
+		this.mode = mode;
+	}
+	
+	/**
+	 * Returns the class's limit of requests in flight at once.
+	 * 
+	 * @return the class's concurrency field.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+	
+	/**
+	 * Sets the class's limit of requests in flight at once.
+	 * 
+	 * @param concurrency limit of requests in flight at once, must be greater than 0.
+	 */
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+	
+	/**
+	 * Returns the class's journal recording each completed sub URI.
+	 * 
+	 * @return the class's journal field, null if progress is not recorded.
+	 */
+	public ScanJournal getJournal() {
+		return this.journal;
+	}
+	
+	/**
+	 * Sets the class's journal recording each completed sub URI. The journal is not closed by this class.
+	 * 
+	 * @param journal journal recording each completed sub URI, or null to not record progress.
+	 */
+	public void setJournal(ScanJournal journal) {
+		this.journal = journal;
+	}
+	
 	/*---- Private Class ----*/
 	/**
 	 * This class is used to run the threads need to send a multitude of requests to a multitude
-	 * of URIs. In order to actually send the requests {@link HtmlScanner} is used.
+	 * of URIs. In order to actually send the requests the shared {@link HtmlScannerEngine} is used.
 	 * 
 	 * @author Max Harris - mjh@greyareasolutions.net
 	 * @version v0.0.1
@@ -161,42 +519,55 @@ public class MultiHtmlScanner {
 	private class MultiHtmlScannerRunnable implements Runnable {
 		/*---- Fields ----*/
 		/**
-		 * Fields which stores the options that need to be sent with the request.
+		 * Field which stores the URI the request will be sent to.
 		 */
-		private HttpOptions options;
+		private URI uri;
 		
 		/**
-		 * Field which stores responses in a queue to prevent collisions. 
+		 * Field which stores the listener that receives the outcome of the request.
 		 */
-		private ConcurrentLinkedQueue<HttpResponse<String>> queue;
+		private ScanResultListener listener;
+		
+		/**
+		 * Field which stores the permits limiting the requests in flight, null if there is no limit.
+		 */
+		private Semaphore permits;
 		
 		/*---- Constructor ----*/
 		/**
 		 * Core constructor that aims to initialise the class's fields which will be used
 		 * when sending requests to URIs.
 		 * 
-		 * @param options reference of {@link HttpOptions}.
-		 * @param currentUri field which stores the current URI.
-		 * @param queue queue that stores all HTTP responses.
+		 * @param uri URI the request will be sent to.
+		 * @param listener listener which receives the outcome of the request.
+		 * @param permits permits limiting the requests in flight, a permit is released once finished, may be null.
 		 */
-		public MultiHtmlScannerRunnable(HttpOptions options, ConcurrentLinkedQueue<HttpResponse<String>> queue) {
-			this.options = options;
-			this.queue = queue;
+		public MultiHtmlScannerRunnable(URI uri, ScanResultListener listener, Semaphore permits) {
+			this.uri = uri;
+			this.listener = listener;
+			this.permits = permits;
 		}
 		
 		/*---- Overridden Method ----*/
 		/**
-		 * Main run method overridden from Runnable. A {@link HtmlScanner} is initialised and
-		 * a request is sent. The response is then added to the queue so that it can be added 
-		 * to a list at a later date.
+		 * Main run method overridden from Runnable. The request is sent through the shared
+		 * {@link HtmlScannerEngine}. The outcome is then handed to the listener as soon as the
+		 * request has finished.
 		 */
 		@Override
 		public void run() {
-			// Create an instance of HtmlScanner to send the request.
-			HtmlScanner htmlScanner = new HtmlScanner(this.options);
-			
-			// Add the outcome of the request to a queue.
-			this.queue.add(htmlScanner.getResponse());
+			try {
+				// Send the request using the shared engine.
+				ScanResult result = MultiHtmlScanner.this.engine.scan(this.uri);
+				
+				// Hand the outcome of the request to the listener.
+				this.listener.onResult(result);
+			} finally {
+				// Allow another request to be sent.
+				if (this.permits != null) {
+					this.permits.release();
+				}
+			}
 		}
 	}
 }
@@ -0,0 +1,47 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class OutputFormat is an enumeration which stores the formats in which {@link ResultWriter}
+ * is able to write the outcome of each request. The format can be selected on the command line via
+ * the <b>-format</b> flag.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public enum OutputFormat {
+	/*---- Enums ----*/
+	/**
+	 * Each URI is written followed by its findings, coloured for reading on a terminal. Failed requests are not written.
+	 */
+	TEXT,
+	
+	/**
+	 * Each request is written as a single JSON object on its own line, including failed requests.
+	 */
+	NDJSON,
+	
+	/**
+	 * Each finding is written as a row of <i>uri,status,type,value</i>, a request without any findings being written as a single row.
+	 */
+	CSV;
+	
+	/*---- Method ----*/
+	/**
+	 * Returns the format matching the specified name, ignoring case.
+	 * 
+	 * @param name name of the format, for example <b>ndjson</b>.
+	 * @return the format matching the name, or null if no format matches.
+	 */
+	public static OutputFormat fromString(String name) {
+		// Iterate through each format and compare the names.
+		for (OutputFormat format : OutputFormat.values()) {
+			if (format.name().equalsIgnoreCase(name)) {
+				return format;
+			}
+		}
+		
+		// No format matches the name.
+		return null;
+	}
+}
@@ -0,0 +1,44 @@
+package net.greyareasolutions.maven.eclipse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class ParseEvent is a Java Flight Recorder event recording the HTML of a response being
+ * parsed, either by <b>Jsoup.parse</b> once the body has been read, or by
+ * {@link FindingsExtractor} whilst the body is being read, in which case extracting the
+ * findings is included.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@Name("net.greyareasolutions.maven.eclipse.Parse")
+@Label("Parse")
+@Category("HtmlScanner")
+@Description("The HTML of a response being parsed")
+@StackTrace(false)
+final class ParseEvent extends Event {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the URI the HTML was obtained from.
+	 */
+	@Label("URI")
+	String uri;
+	
+	/**
+	 * Field which stores the length of the HTML, -1 if it was parsed whilst being read.
+	 */
+	@Label("Characters")
+	long characters;
+	
+	/**
+	 * Field which stores whether the HTML was parsed whilst being read.
+	 */
+	@Label("Streamed")
+	boolean streamed;
+}
@@ -0,0 +1,150 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The class ProgressReporter is used to print a single line showing the progress of a running
+ * scan, rewritten every second from the {@link ScanMetrics} of the scan. The line holds the
+ * amount of requests finished, the rate at which they finished over the last second, the
+ * amount of errors, and the amount of bytes received.
+ * 
+ * If the share of the scan which has been completed is known, for example via
+ * {@link SubUriSource#getProgress()}, the line also holds the percentage completed and an
+ * estimate of the time remaining, based on the mean rate of the scan so far.
+ * 
+ * The line is printed to the standard error by default, so that it is not mixed with the
+ * results written to the standard output.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ProgressReporter implements AutoCloseable {
+	/*---- Constant ----*/
+	/**
+	 * Constant which stores how often, in milliseconds, the line is rewritten.
+	 */
+	public static final long INTERVAL = 1000;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the metrics of the scan.
+	 */
+	private final ScanMetrics metrics;
+	
+	/**
+	 * Field which stores the share of the scan completed, between 0 and 1, or negative if unknown.
+	 */
+	private final DoubleSupplier progress;
+	
+	/**
+	 * Field which stores the stream the line is printed to.
+	 */
+	private final PrintStream out;
+	
+	/**
+	 * Field which stores the thread rewriting the line.
+	 */
+	private final Thread thread;
+	
+	/**
+	 * Field which stores the amount of requests finished when the line was last rewritten.
+	 */
+	private long lastRequests;
+	
+	/**
+	 * Field which stores when the line was last rewritten, in nanoseconds.
+	 */
+	private long lastTime;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class, and start
+	 * rewriting the line.
+	 * 
+	 * @param metrics metrics of the scan.
+	 * @param progress share of the scan completed between 0 and 1, or negative if unknown.
+	 * @param out stream the line is printed to.
+	 */
+	public ProgressReporter(ScanMetrics metrics, DoubleSupplier progress, PrintStream out) {
+		this.metrics = metrics;
+		this.progress = progress;
+		this.out = out;
+		this.lastTime = System.nanoTime();
+		
+		// A daemon thread is used so that an unclosed reporter does not keep the program alive.
+		this.thread = new Thread(this::run, "ProgressReporter");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+	
+	/**
+	 * Constructor which prints the line to the standard error. This constructor passes the
+	 * remaining parameters to the top-level constructor.
+	 * 
+	 * @param metrics metrics of the scan.
+	 * @param progress share of the scan completed between 0 and 1, or negative if unknown.
+	 */
+	public ProgressReporter(ScanMetrics metrics, DoubleSupplier progress) {
+		// Call the top-level constructor, setting the standard error.
+		this(metrics, progress, System.err);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method rewrites the line every interval until the reporter is closed.
+	 */
+	private void run() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Thread.sleep(INTERVAL);
+			} catch (InterruptedException e) {
+				return;
+			}
+			this.out.print("\r" + this.line());
+			this.out.flush();
+		}
+	}
+	
+	/**
+	 * This method creates the line from the current metrics.
+	 * 
+	 * @return the line, without a line terminator.
+	 */
+	String line() {
+		// Measure the rate since the line was last rewritten.
+		long now = System.nanoTime();
+		long requests = this.metrics.getRequests();
+		double rate = now > this.lastTime ? (requests - this.lastRequests) / ((now - this.lastTime) / 1e9) : 0;
+		this.lastRequests = requests;
+		this.lastTime = now;
+		
+		StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%d requests | %.1f req/s | %d errors | %s", requests, rate, this.metrics.getErrors(), ScanMetrics.formatBytes(this.metrics.getBytes())));
+		
+		// Estimate the time remaining from the mean rate so far.
+		double progress = this.progress.getAsDouble();
+		if (progress > 0) {
+			long remaining = (long) (this.metrics.getElapsedSeconds() * (1 - Math.min(1, progress)) / progress);
+			line.append(String.format(Locale.ROOT, " | %.1f%% | ETA %d:%02d:%02d", Math.min(1, progress) * 100, remaining / 3600, remaining / 60 % 60, remaining % 60));
+		}
+		
+		// Pad the line so that a shorter line fully replaces a longer one.
+		return String.format("%-80s", line);
+	}
+	
+	/**
+	 * Stops rewriting the line, ending it with a line terminator.
+	 */
+	@Override
+	public void close() {
+		this.thread.interrupt();
+		try {
+			this.thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		this.out.println("\r" + this.line());
+	}
+}
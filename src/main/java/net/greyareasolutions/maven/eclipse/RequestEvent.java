@@ -0,0 +1,103 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class RequestEvent is a Java Flight Recorder event recording a single attempt of a
+ * request sent by {@link HtmlScannerEngine}, from the request being sent until its body has
+ * been read or it has failed. As a streamed body is parsed whilst it is being read, the event
+ * of a streamed response also includes parsing it.
+ * 
+ * The event is only recorded whilst a recording is running, for example one started via the
+ * <b>-jfr</b> flag, and is otherwise close to free.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@Name("net.greyareasolutions.maven.eclipse.Request")
+@Label("Request")
+@Category({"HtmlScanner", "HTTP"})
+@Description("An attempt of a request, from being sent until its body has been read")
+@StackTrace(false)
+final class RequestEvent extends Event {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the URI of the request.
+	 */
+	@Label("URI")
+	String uri;
+	
+	/**
+	 * Field which stores the status of the response, 0 if no response was received.
+	 */
+	@Label("Status")
+	int status;
+	
+	/**
+	 * Field which stores the amount of bytes received, before any decompression.
+	 */
+	@Label("Bytes")
+	@DataAmount
+	long bytes;
+	
+	/**
+	 * Field which stores the HTTP version of the response.
+	 */
+	@Label("Version")
+	String version;
+	
+	/**
+	 * Field which stores whether the body was parsed whilst being read.
+	 */
+	@Label("Streamed")
+	boolean streamed;
+	
+	/**
+	 * Field which stores the exception which caused the request to fail, null if it did not fail.
+	 */
+	@Label("Error")
+	String error;
+	
+	/*---- Methods ----*/
+	/**
+	 * Begins the event of a request which is about to be sent.
+	 * 
+	 * @param uri URI of the request.
+	 * @param streamed whether the body will be parsed whilst being read.
+	 * @return the event, which is ended by {@link #end(ScanResult)}.
+	 */
+	static RequestEvent start(URI uri, boolean streamed) {
+		RequestEvent event = new RequestEvent();
+		if (event.isEnabled()) {
+			event.uri = uri.toString();
+			event.streamed = streamed;
+			event.begin();
+		}
+		return event;
+	}
+	
+	/**
+	 * Ends the event with the outcome of the request, committing it if it is recorded.
+	 * 
+	 * @param result result of the attempt.
+	 * @return the same result.
+	 */
+	ScanResult end(ScanResult result) {
+		if (this.shouldCommit()) {
+			if (result.getException() != null) {
+				this.error = result.getException().toString();
+			}
+			this.commit();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,270 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.Builder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class RequestTemplate is used to hold everything which is the same for every request
+ * sent by a {@link HtmlScannerEngine}, compiled once from its {@link HttpOptions}. The cookies
+ * are parsed, the headers are validated, and a request builder holding the headers, timeout,
+ * and method is created up front, meaning each request only needs its URI to be set on a copy
+ * of the builder.
+ * 
+ * Headers which could never be sent, such as restricted headers like <b>Host</b>, are reported
+ * and dropped once, rather than failing every request.
+ * 
+ * A template is immutable, and is safe to use from multiple threads at once. Changes made to
+ * the options after the template was created are not applied.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class RequestTemplate {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the root URI that sub URIs are appended to.
+	 */
+	private final URI base;
+	
+	/**
+	 * Field which stores the string form of the root URI, so that it is not created for each sub URI.
+	 */
+	private final String prefix;
+	
+	/**
+	 * Field which stores the cookies sent with every request.
+	 */
+	private final List<HttpCookie> cookies;
+	
+	/**
+	 * Field which stores the headers sent with every request, in the order they were applied.
+	 */
+	private final Map<String, String> headers;
+	
+	/**
+	 * Field which stores the timeout of every request, null if there is none.
+	 */
+	private final Duration timeout;
+	
+	/**
+	 * Field which stores whether compressed responses are requested.
+	 */
+	private final boolean compressed;
+	
+	/**
+	 * Field which stores the builder holding the headers, timeout, and method of every request, only ever copied.
+	 */
+	private final Builder builder;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to compile the options into a template.
+	 * 
+	 * @param options options of every request.
+	 * @param compressed whether compressed responses are requested, unless an encoding has already been specified.
+	 */
+	public RequestTemplate(HttpOptions options, boolean compressed) {
+		this.base = options.getURI();
+		this.prefix = this.base != null ? this.base.toString() : "";
+		this.cookies = Collections.unmodifiableList(parseCookies(options.getCookie()));
+		this.timeout = options.getTimeout();
+		this.compressed = compressed;
+		this.builder = HttpRequest.newBuilder().GET();
+		
+		// Validate each header once, dropping any which the client refuses to send.
+		Map<String, String> headers = new LinkedHashMap<>();
+		if (options.getHeaders() != null) {
+			for (Map.Entry<String, String> header : options.getHeaders().entrySet()) {
+				try {
+					this.builder.setHeader(header.getKey(), header.getValue());
+					headers.put(header.getKey(), header.getValue());
+				} catch (IllegalArgumentException | NullPointerException e) {
+					System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+				}
+			}
+		}
+		this.headers = Collections.unmodifiableMap(headers);
+		this.finish();
+	}
+	
+	/**
+	 * Constructor which copies the already validated parts of a template, so that nothing is
+	 * parsed or reported again, only changing whether compressed responses are requested.
+	 * 
+	 * @param template template to copy.
+	 * @param compressed whether compressed responses are requested, unless an encoding has already been specified.
+	 */
+	private RequestTemplate(RequestTemplate template, boolean compressed) {
+		this.base = template.base;
+		this.prefix = template.prefix;
+		this.cookies = template.cookies;
+		this.headers = template.headers;
+		this.timeout = template.timeout;
+		this.compressed = compressed;
+		this.builder = HttpRequest.newBuilder().GET();
+		
+		// The headers were validated by the template being copied.
+		for (Map.Entry<String, String> header : this.headers.entrySet()) {
+			this.builder.setHeader(header.getKey(), header.getValue());
+		}
+		this.finish();
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method adds the encoding and timeout to the builder, once the headers have been set.
+	 */
+	private void finish() {
+		// Request a compressed response, unless an encoding has already been specified.
+		boolean encoded = false;
+		for (String name : this.headers.keySet()) {
+			encoded |= name.equalsIgnoreCase("Accept-Encoding");
+		}
+		if (this.compressed && !encoded) {
+			this.builder.setHeader("Accept-Encoding", DecodingBodyHandlers.ACCEPT_ENCODING);
+		}
+		
+		// Set timeout to specified amount.
+		if (this.timeout != null) {
+			this.builder.timeout(this.timeout);
+		}
+	}
+	
+	/**
+	 * This method returns a template which only differs in whether compressed responses are
+	 * requested. The options are not compiled again, meaning invalid headers and cookies are
+	 * not reported again.
+	 * 
+	 * @param compressed whether compressed responses are requested.
+	 * @return this template if it already requests the same, otherwise a copy.
+	 */
+	public RequestTemplate withCompressed(boolean compressed) {
+		return compressed == this.compressed ? this : new RequestTemplate(this, compressed);
+	}
+	
+	/**
+	 * This method creates the URI of a sub URI by appending it to the root URI, for example
+	 * <i>login/</i> to <i>http://www.test.com/</i>.
+	 * 
+	 * @param subUri sub URI to append.
+	 * @return the URI of the sub URI.
+	 * @throws URISyntaxException if the resulting URI is not valid.
+	 */
+	public URI resolve(String subUri) throws URISyntaxException {
+		return new URI(this.prefix.concat(subUri));
+	}
+	
+	/**
+	 * This method creates a GET request to a URI, holding the headers and timeout of the template.
+	 * 
+	 * @param uri URI of the target.
+	 * @return the request.
+	 */
+	public HttpRequest request(URI uri) {
+		return this.builder.copy().uri(uri).build();
+	}
+	
+	/**
+	 * This method creates a builder of a GET request to a URI, holding the headers and timeout
+	 * of the template, so that further headers can be added.
+	 * 
+	 * @param uri URI of the target.
+	 * @return a new builder, which is not shared.
+	 */
+	public Builder builder(URI uri) {
+		return this.builder.copy().uri(uri);
+	}
+	
+	/**
+	 * This method parses cookies in the form <b>cookieName=cookieValue(;...)</b>. Each cookie
+	 * applies to the entire domain, and follows the version 0 specification. Any part without
+	 * a name is skipped.
+	 * 
+	 * @param cookie string of the cookies, may be null.
+	 * @return the cookies, empty if none were present.
+	 */
+	public static List<HttpCookie> parseCookies(String cookie) {
+		List<HttpCookie> cookies = new ArrayList<>();
+		if (cookie == null) {
+			return cookies;
+		}
+		
+		int start = 0;
+		while (start < cookie.length()) {
+			int end = cookie.indexOf(';', start);
+			if (end < 0) {
+				end = cookie.length();
+			}
+			
+			// Split the cookie on its first "=", the value may itself hold an "=".
+			int separator = cookie.indexOf('=', start);
+			if (separator > start && separator < end) {
+				String name = cookie.substring(start, separator).strip();
+				if (!name.isEmpty()) {
+					try {
+						HttpCookie httpCookie = new HttpCookie(name, cookie.substring(separator + 1, end).strip());
+						
+						// Set the cookie path to apply to the current domain and all sub-domains.
+						httpCookie.setPath("/");
+						
+						// Sets the normal cookie specification.
+						httpCookie.setVersion(0);
+						cookies.add(httpCookie);
+					} catch (IllegalArgumentException e) {
+						// The name is not a valid cookie name.
+						System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+					}
+				}
+			}
+			start = end + 1;
+		}
+		return cookies;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns whether compressed responses are requested.
+	 * 
+	 * @return the class's compressed field.
+	 */
+	public boolean isCompressed() {
+		return this.compressed;
+	}
+	
+	/**
+	 * Returns the root URI that sub URIs are appended to.
+	 * 
+	 * @return the class's base field.
+	 */
+	public URI getBase() {
+		return this.base;
+	}
+	
+	/**
+	 * Returns the cookies sent with every request.
+	 * 
+	 * @return the class's cookies field, which cannot be modified.
+	 */
+	public List<HttpCookie> getCookies() {
+		return this.cookies;
+	}
+	
+	/**
+	 * Returns the headers sent with every request, excluding those which were dropped.
+	 * 
+	 * @return the class's headers field, which cannot be modified.
+	 */
+	public Map<String, String> getHeaders() {
+		return this.headers;
+	}
+}
@@ -0,0 +1,573 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The class ResultWriter is used to write the outcome of each request to a file or the standard
+ * output, in one of the formats of {@link OutputFormat}. Each result is formatted into a record
+ * by the thread which finished the request, and is then written by a dedicated writer thread.
+ * 
+ * The writer thread takes the records waiting in a bounded queue in batches, writing each batch
+ * through a large buffer and only flushing once the queue is empty. Threads finishing requests
+ * therefore never wait on the output, unless the queue is full, in which case they wait until
+ * the writer thread has caught up rather than holding an unbounded amount of records.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (ResultWriter writer = ResultWriter.open(Path.of("scan.ndjson.gz"), OutputFormat.NDJSON, types, true)) {
+ *     multiHtmlScanner.generateResponses(writer);
+ * }
+ * </pre>
+ * 
+ * If the findings of a result were searched by a {@link SecretScanner}, the secrets found are
+ * written after the findings, as a <i>secrets</i> array in JSON and as rows of the type
+ * <i>secret</i> in CSV.
+ * 
+ * If a result was compared against a {@link ScanBaseline}, its findings are those added since
+ * the baseline, and the findings removed are also written, prefixed by a minus in text, as a
+ * <i>removed</i> object in JSON, and as rows whose type is prefixed by <i>removed:</i> in CSV.
+ * 
+ * The class is safe to use from multiple threads at once. Every record is written once the
+ * writer has been closed.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ResultWriter implements ScanResultListener, AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of records waiting to be written before threads finishing requests wait.
+	 */
+	public static final int DEFAULT_CAPACITY = 8192;
+	
+	/**
+	 * Constant which stores the highest amount of records written in a single batch.
+	 */
+	private static final int BATCH_SIZE = 512;
+	
+	/**
+	 * Constant which stores the size, in bytes, of the buffer in front of the output.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	/**
+	 * Constant which stores the record marking the end of the output, compared by identity.
+	 */
+	private static final String END = new String();
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the format of each record.
+	 */
+	private final OutputFormat format;
+	
+	/**
+	 * Field which stores the types of findings written.
+	 */
+	private final Set<FindingType> types;
+	
+	/**
+	 * Field which stores the writer of the output.
+	 */
+	private final Writer out;
+	
+	/**
+	 * Field which stores the records waiting to be written.
+	 */
+	private final BlockingQueue<String> queue;
+	
+	/**
+	 * Field which stores the thread writing the records.
+	 */
+	private final Thread thread;
+	
+	/**
+	 * Field which stores the first exception raised whilst writing, null if none has been raised.
+	 */
+	private volatile IOException failure;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class, and start the writer thread.
+	 * 
+	 * @param out stream the records are written to, closed once the writer has been closed.
+	 * @param format format of each record.
+	 * @param types types of findings written.
+	 * @param gzip whether the output should be gzip-compressed.
+	 * @param capacity amount of records waiting to be written before threads finishing requests wait.
+	 * @throws IOException if the gzip header could not be written.
+	 */
+	public ResultWriter(OutputStream out, OutputFormat format, Set<FindingType> types, boolean gzip, int capacity) throws IOException {
+		this.format = format;
+		this.types = types;
+		this.out = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		
+		// A CSV file starts with its header.
+		if (format == OutputFormat.CSV) {
+			this.queue.add("uri,status,type,value\n");
+		}
+		
+		// Start the thread writing the records.
+		this.thread = new Thread(this::write, "ResultWriter");
+		this.thread.start();
+	}
+	
+	/**
+	 * Constructor which sets a default capacity.
+	 * 
+	 * @param out stream the records are written to, closed once the writer has been closed.
+	 * @param format format of each record.
+	 * @param types types of findings written.
+	 * @param gzip whether the output should be gzip-compressed.
+	 * @throws IOException if the gzip header could not be written.
+	 */
+	public ResultWriter(OutputStream out, OutputFormat format, Set<FindingType> types, boolean gzip) throws IOException {
+		// Call the top-level constructor, setting default values.
+		this(out, format, types, gzip, DEFAULT_CAPACITY);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method creates a writer of a file, or of the standard output.
+	 * 
+	 * @param path path of the file, replaced if it already exists, or null to write to the standard output.
+	 * @param format format of each record.
+	 * @param types types of findings written.
+	 * @param gzip whether the output should be gzip-compressed.
+	 * @return the writer, which must be closed once every result has been written.
+	 * @throws IOException if the file could not be opened.
+	 */
+	public static ResultWriter open(Path path, OutputFormat format, Set<FindingType> types, boolean gzip) throws IOException {
+		// The standard output is flushed rather than closed once the writer has been closed.
+		OutputStream out = path != null ? Files.newOutputStream(path) : new FilterOutputStream(System.out) {
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				this.out.write(b, off, len);
+			}
+			
+			@Override
+			public void close() throws IOException {
+				this.flush();
+			}
+		};
+		
+		return new ResultWriter(out, format, types, gzip);
+	}
+	
+	/**
+	 * This method formats the result and queues it to be written, waiting if the queue is full.
+	 * 
+	 * @param result outcome of the HTTP request.
+	 */
+	@Override
+	public void onResult(ScanResult result) {
+		// Format the result on the calling thread, so that the body is not held by the queue.
+		String record = this.format(result);
+		if (record == null) {
+			return;
+		}
+		
+		try {
+			this.queue.put(record);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/**
+	 * This method formats the outcome of a single request.
+	 * 
+	 * @param result outcome of the HTTP request.
+	 * @return the record, or null if the result is not written.
+	 */
+	String format(ScanResult result) {
+		StringBuilder record = new StringBuilder(256);
+		
+		switch (this.format) {
+			case NDJSON:
+				this.appendJson(record, result);
+				break;
+			case CSV:
+				this.appendCsv(record, result);
+				break;
+			default:
+				// Failed requests have already been reported.
+				if (!result.isSuccessful()) {
+					return null;
+				}
+				this.appendText(record, result);
+				break;
+		}
+		
+		return record.toString();
+	}
+	
+	/**
+	 * This method appends the URI and findings of a result in the coloured text format. The
+	 * findings of each type are printed in their own colour, followed by an empty line.
+	 * 
+	 * @param record record being built.
+	 * @param result outcome of a successful HTTP request.
+	 */
+	private void appendText(StringBuilder record, ScanResult result) {
+		// Append the current URI.
+		record.append("\u001B[46m\u001B[37m").append(result.getUri()).append(":\u001B[0m\n");
+		
+		// Check to see if the same page has already been written.
+		if (result.getDuplicateOf() != null) {
+			record.append("\tSame as ").append(result.getDuplicateOf()).append("\n\n");
+			return;
+		}
+		
+		// Check to see if any flags have been set.
+		if (this.types.isEmpty()) {
+			record.append("This URI does not contain any comments, hidden attributes, or meta elements!\n");
+			return;
+		}
+		
+		// Append the comments, hidden elements, and meta elements, prefixed by a plus if they were added since a baseline.
+		String prefix = result.getRemoved() != null ? "+ " : "";
+		for (FindingType type : FindingType.values()) {
+			if (this.types.contains(type)) {
+				for (String finding : findingsOf(result, type)) {
+					switch (type) {
+						case COMMENT:
+							record.append("\t\u001B[32m").append(prefix).append("<!--").append(finding).append("-->\u001B[0m\n");
+							break;
+						case HIDDEN_INPUT:
+							record.append("\t\u001B[34m").append(prefix).append(finding).append("\u001B[0m\n");
+							break;
+						default:
+							record.append("\t\u001B[31m").append(prefix).append(finding).append("\u001B[0m\n");
+							break;
+					}
+				}
+				record.append('\n');
+			}
+		}
+		
+		// Append the findings removed since the baseline, greyed out.
+		if (result.getRemoved() != null && !result.getRemoved().isEmpty()) {
+			for (FindingType type : FindingType.values()) {
+				if (this.types.contains(type)) {
+					for (String finding : result.getRemoved().get(type)) {
+						record.append("\t\u001B[90m- ").append(type == FindingType.COMMENT ? "<!--" + finding + "-->" : finding).append("\u001B[0m\n");
+					}
+				}
+			}
+			record.append('\n');
+		}
+		
+		// Append the secrets found within the findings.
+		if (result.getSecrets() != null && !result.getSecrets().isEmpty()) {
+			for (SecretMatch secret : result.getSecrets()) {
+				record.append("\t\u001B[33m").append(secret).append("\u001B[0m\n");
+			}
+			record.append('\n');
+		}
+	}
+	
+	/**
+	 * This method appends a result as a single JSON object followed by a line feed.
+	 * 
+	 * @param record record being built.
+	 * @param result outcome of the HTTP request.
+	 */
+	private void appendJson(StringBuilder record, ScanResult result) {
+		record.append("{\"uri\":");
+		appendJsonString(record, result.getUri().toString());
+		
+		// A failed request only holds its error.
+		if (!result.isSuccessful()) {
+			record.append(",\"error\":");
+			appendJsonString(record, String.valueOf(result.getException()));
+			record.append("}\n");
+			return;
+		}
+		
+		record.append(",\"status\":").append(result.getStatusCode());
+		if (result.getDuplicateOf() != null) {
+			record.append(",\"duplicateOf\":");
+			appendJsonString(record, result.getDuplicateOf().toString());
+		}
+		
+		// Append an array for each type of finding.
+		for (FindingType type : FindingType.values()) {
+			if (this.types.contains(type)) {
+				record.append(",\"").append(type.getKey()).append("\":");
+				appendJsonArray(record, findingsOf(result, type));
+			}
+		}
+		
+		// Append an object holding an array for each type of finding removed since the baseline.
+		if (result.getRemoved() != null) {
+			record.append(",\"removed\":{");
+			String separator = "";
+			for (FindingType type : FindingType.values()) {
+				if (this.types.contains(type)) {
+					record.append(separator).append('"').append(type.getKey()).append("\":");
+					appendJsonArray(record, result.getRemoved().get(type));
+					separator = ",";
+				}
+			}
+			record.append('}');
+		}
+		
+		// Append an object for each secret found within the findings.
+		if (result.getSecrets() != null) {
+			record.append(",\"secrets\":[");
+			for (int i = 0; i < result.getSecrets().size(); i++) {
+				SecretMatch secret = result.getSecrets().get(i);
+				record.append(i > 0 ? ",{\"rule\":" : "{\"rule\":");
+				appendJsonString(record, secret.getRule());
+				record.append(",\"type\":");
+				appendJsonString(record, secret.getType().getKey());
+				record.append(",\"value\":");
+				appendJsonString(record, secret.getValue());
+				record.append('}');
+			}
+			record.append(']');
+		}
+		
+		record.append("}\n");
+	}
+	
+	/**
+	 * This method appends a row for each finding of a result, or a single row if it has none.
+	 * 
+	 * @param record record being built.
+	 * @param result outcome of the HTTP request.
+	 */
+	private void appendCsv(StringBuilder record, ScanResult result) {
+		String uri = result.getUri().toString();
+		
+		// A failed request only holds its error.
+		if (!result.isSuccessful()) {
+			appendCsvRow(record, uri, "", "error", String.valueOf(result.getException()));
+			return;
+		}
+		
+		String status = Integer.toString(result.getStatusCode());
+		if (result.getDuplicateOf() != null) {
+			appendCsvRow(record, uri, status, "duplicateOf", result.getDuplicateOf().toString());
+			return;
+		}
+		
+		// Append a row for each finding.
+		int length = record.length();
+		for (FindingType type : FindingType.values()) {
+			if (this.types.contains(type)) {
+				for (String finding : findingsOf(result, type)) {
+					appendCsvRow(record, uri, status, type.getKey(), finding);
+				}
+				if (result.getRemoved() != null) {
+					for (String finding : result.getRemoved().get(type)) {
+						appendCsvRow(record, uri, status, "removed:" + type.getKey(), finding);
+					}
+				}
+			}
+		}
+		if (result.getSecrets() != null) {
+			for (SecretMatch secret : result.getSecrets()) {
+				appendCsvRow(record, uri, status, "secret", secret.getRule() + ": " + secret.getValue());
+			}
+		}
+		
+		// Check to see if the page had any findings.
+		if (record.length() == length) {
+			appendCsvRow(record, uri, status, "", "");
+		}
+	}
+	
+	/**
+	 * This method returns the findings of a single type of a result.
+	 * 
+	 * @param result outcome of a successful HTTP request.
+	 * @param type type of findings.
+	 * @return the findings, empty if nothing was extracted.
+	 */
+	private static List<String> findingsOf(ScanResult result, FindingType type) {
+		return result.getFindings() != null ? result.getFindings().get(type) : List.of();
+	}
+	
+	/**
+	 * This method appends strings as a JSON array of string literals.
+	 * 
+	 * @param record record being built.
+	 * @param values strings to append.
+	 */
+	private static void appendJsonArray(StringBuilder record, List<String> values) {
+		record.append('[');
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				record.append(',');
+			}
+			appendJsonString(record, values.get(i));
+		}
+		record.append(']');
+	}
+	
+	/**
+	 * This method appends a string as a JSON string literal.
+	 * 
+	 * @param record record being built.
+	 * @param value string to append.
+	 */
+	static void appendJsonString(StringBuilder record, String value) {
+		record.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					record.append("\\\"");
+					break;
+				case '\\':
+					record.append("\\\\");
+					break;
+				case '\n':
+					record.append("\\n");
+					break;
+				case '\r':
+					record.append("\\r");
+					break;
+				case '\t':
+					record.append("\\t");
+					break;
+				default:
+					// Escape the remaining control characters.
+					if (c < 0x20) {
+						record.append(String.format("\\u%04x", (int) c));
+					} else {
+						record.append(c);
+					}
+					break;
+			}
+		}
+		record.append('"');
+	}
+	
+	/**
+	 * This method appends a single CSV row, quoting any field which holds a comma, quote, or line break.
+	 * 
+	 * @param record record being built.
+	 * @param fields fields of the row.
+	 */
+	static void appendCsvRow(StringBuilder record, String... fields) {
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				record.append(',');
+			}
+			
+			String field = fields[i];
+			if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+				record.append('"').append(field.replace("\"", "\"\"")).append('"');
+			} else {
+				record.append(field);
+			}
+		}
+		record.append('\n');
+	}
+	
+	/**
+	 * This method is run by the writer thread, writing batches of records until the end of
+	 * the output has been queued.
+	 */
+	private void write() {
+		List<String> batch = new ArrayList<>(BATCH_SIZE);
+		boolean ended = false;
+		
+		while (!ended) {
+			try {
+				// Wait for a record, then take any others waiting.
+				batch.add(this.queue.take());
+				this.queue.drainTo(batch, BATCH_SIZE - 1);
+			} catch (InterruptedException e) {
+				// The writer is only stopped by the end of the output.
+				continue;
+			}
+			
+			for (String record : batch) {
+				if (record == END) {
+					ended = true;
+				} else if (this.failure == null) {
+					try {
+						this.out.write(record);
+					} catch (IOException e) {
+						// Discard the remaining records, so that threads finishing requests never wait.
+						this.failure = e;
+					}
+				}
+			}
+			batch.clear();
+			
+			// Flush the output once the writer has caught up.
+			if (this.queue.isEmpty() && this.failure == null) {
+				try {
+					this.out.flush();
+				} catch (IOException e) {
+					this.failure = e;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Waits for every queued record to be written, then closes the output.
+	 */
+	@Override
+	public void close() {
+		try {
+			// Queue the end of the output, waiting for space if needed.
+			boolean interrupted = false;
+			while (true) {
+				try {
+					this.queue.put(END);
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			
+			// Wait for the writer thread to write every record.
+			while (this.thread.isAlive()) {
+				try {
+					this.thread.join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			
+			this.out.close();
+		} catch (IOException e) {
+			if (this.failure == null) {
+				this.failure = e;
+			}
+		}
+		
+		// Notify of any records which could not be written.
+		if (this.failure != null) {
+			System.out.println("ERROR:\n" + this.failure.getMessage() + " returned!" + "\nEXCEPTION:\n" + this.failure.toString());
+		}
+	}
+}
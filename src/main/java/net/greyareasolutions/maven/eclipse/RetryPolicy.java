@@ -0,0 +1,219 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The class RetryPolicy is used to decide whether a failed request sent by {@link HtmlScannerEngine}
+ * should be sent again, and how long to wait beforehand. Only transient failures are retried,
+ * those being I/O errors such as timeouts or reset connections, and the status codes
+ * <b>408</b>, <b>429</b>, <b>502</b>, <b>503</b>, and <b>504</b>.
+ * 
+ * The wait before each retry grows exponentially with "full jitter", meaning a random delay
+ * between zero and the exponential bound is chosen. Requests which failed together are
+ * therefore spread out, rather than all being retried at the same moment. If the response
+ * holds a <b>Retry-After</b> header, the delay it asks for is used instead, and the request
+ * is not retried at all if the delay is longer than the maximum delay.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * HtmlScannerEngine engine = new HtmlScannerEngine(httpOptions);
+ * engine.setRetryPolicy(new RetryPolicy(5));
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class RetryPolicy {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of attempts, including the first.
+	 */
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	
+	/**
+	 * Constant which stores the default delay in milliseconds that the exponential backoff starts at.
+	 */
+	public static final long DEFAULT_BASE_DELAY = 200;
+	
+	/**
+	 * Constant which stores the default longest delay in milliseconds before a retry.
+	 */
+	public static final long DEFAULT_MAX_DELAY = 10_000;
+	
+	/**
+	 * Constant which stores a policy that never retries.
+	 */
+	public static final RetryPolicy NONE = new RetryPolicy(1);
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the amount of attempts, including the first.
+	 */
+	private final int maxAttempts;
+	
+	/**
+	 * Field which stores the delay in milliseconds that the exponential backoff starts at.
+	 */
+	private final long baseDelay;
+	
+	/**
+	 * Field which stores the longest delay in milliseconds before a retry.
+	 */
+	private final long maxDelay;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param maxAttempts amount of attempts, including the first, 1 disables retries.
+	 * @param baseDelay delay in milliseconds that the exponential backoff starts at.
+	 * @param maxDelay longest delay in milliseconds before a retry.
+	 */
+	public RetryPolicy(int maxAttempts, long baseDelay, long maxDelay) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.baseDelay = Math.max(1, baseDelay);
+		this.maxDelay = Math.max(this.baseDelay, maxDelay);
+	}
+	
+	/**
+	 * Constructor which sets a default base and maximum delay. This constructor passes the
+	 * remaining parameters to the top-level constructor.
+	 * 
+	 * @param maxAttempts amount of attempts, including the first, 1 disables retries.
+	 */
+	public RetryPolicy(int maxAttempts) {
+		// Call the top-level constructor, setting default delays.
+		this(maxAttempts, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+	}
+	
+	/**
+	 * Constructor which sets a default amount of attempts, base delay, and maximum delay.
+	 */
+	public RetryPolicy() {
+		// Call the top-level constructor, setting default values.
+		this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns whether a result should be retried.
+	 * 
+	 * @param result result of the latest attempt.
+	 * @param attempt amount of attempts made so far, starting at 1.
+	 * @return true if attempts remain, the failure is transient, and any Retry-After delay is short enough.
+	 */
+	public boolean shouldRetry(ScanResult result, int attempt) {
+		// Check to see if any attempts remain.
+		if (attempt >= this.maxAttempts) {
+			return false;
+		}
+		
+		// Requests which could not be sent or read are retried, unless they were interrupted or cancelled.
+		if (!result.isSuccessful()) {
+			return result.getException() instanceof IOException;
+		}
+		
+		// Only retry status codes which signal that the host is temporarily unable to respond.
+		switch (result.getStatusCode()) {
+			case 408:
+			case 429:
+			case 502:
+			case 503:
+			case 504:
+				// A host asking for a longer wait than allowed is given up on.
+				return retryAfterOf(result.getResponse().headers(), System.currentTimeMillis()) <= this.maxDelay;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Returns how long to wait before retrying a result.
+	 * 
+	 * @param result result of the latest attempt.
+	 * @param attempt amount of attempts made so far, starting at 1.
+	 * @return the delay in milliseconds.
+	 */
+	public long delayOf(ScanResult result, int attempt) {
+		// Honour the delay asked for by the host.
+		if (result.isSuccessful()) {
+			long retryAfter = retryAfterOf(result.getResponse().headers(), System.currentTimeMillis());
+			if (retryAfter >= 0) {
+				return Math.min(retryAfter, this.maxDelay);
+			}
+		}
+		
+		// Otherwise, choose a random delay up to the exponential bound, the shift is limited so that it cannot overflow.
+		long bound = Math.min(this.maxDelay, this.baseDelay << Math.min(attempt - 1, 30));
+		return ThreadLocalRandom.current().nextLong(bound + 1);
+	}
+	
+	/**
+	 * Returns the delay asked for by the <b>Retry-After</b> header, which is either an amount
+	 * of seconds or an HTTP date.
+	 * 
+	 * @param headers headers of the response.
+	 * @param now current time in milliseconds since the epoch.
+	 * @return the delay in milliseconds, 0 if the date has passed, or -1 if the header is absent or invalid.
+	 */
+	static long retryAfterOf(HttpHeaders headers, long now) {
+		String retryAfter = headers.firstValue("Retry-After").orElse(null);
+		
+		// Check to see if the header is present.
+		if (retryAfter == null || retryAfter.isBlank()) {
+			return -1;
+		}
+		retryAfter = retryAfter.strip();
+		
+		// Check to see if the header holds an amount of seconds.
+		if (retryAfter.chars().allMatch(Character::isDigit)) {
+			try {
+				return Math.multiplyExact(Long.parseLong(retryAfter), 1000L);
+			} catch (ArithmeticException | NumberFormatException e) {
+				return Long.MAX_VALUE;
+			}
+		}
+		
+		// Otherwise, the header holds the date to retry after.
+		try {
+			long date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+			return Math.max(0, date - now);
+		} catch (DateTimeParseException e) {
+			return -1;
+		}
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the amount of attempts, including the first.
+	 * 
+	 * @return the class's maxAttempts field.
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+	
+	/**
+	 * Returns the delay that the exponential backoff starts at.
+	 * 
+	 * @return the class's baseDelay field, in milliseconds.
+	 */
+	public long getBaseDelay() {
+		return this.baseDelay;
+	}
+	
+	/**
+	 * Returns the longest delay before a retry.
+	 * 
+	 * @return the class's maxDelay field, in milliseconds.
+	 */
+	public long getMaxDelay() {
+		return this.maxDelay;
+	}
+}
@@ -0,0 +1,360 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The class ScanBaseline is used to compare each page of a scan against the same page of a
+ * previous scan, so that only what has changed is written, namely the findings which have
+ * been added and those which have been removed. A page whose findings have not changed is
+ * not written at all.
+ * 
+ * The baseline file holds, for each URI scanned, the {@link Fingerprint} of the URI, the
+ * fingerprint of its body, and its findings, compressed with gzip. If a body has the same
+ * fingerprint as in the baseline, {@link HtmlScannerEngine} reuses the findings of the
+ * baseline without parsing the page again. Once closed, the file is replaced by the findings
+ * of this scan, along with those of any URIs of the baseline which were not scanned again.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (ScanBaseline baseline = new ScanBaseline(Path.of("site.baseline"), uri, types)) {
+ *     engine.setBaseline(baseline);
+ *     multiHtmlScanner.generateResponses(result -> {
+ *         ScanResult changed = baseline.diff(result);
+ *         if (changed != null) {
+ *             writer.onResult(changed);
+ *         }
+ *     });
+ * }
+ * </pre>
+ * 
+ * A baseline is only compared against the scan it was written for, meaning the same root URI
+ * and types of findings. The class is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ScanBaseline implements AutoCloseable {
+	/*---- Constant ----*/
+	/**
+	 * Constant which stores the version of the baseline format, baselines of any other version are not compared.
+	 */
+	private static final int VERSION = 1;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the path of the baseline file.
+	 */
+	private final Path path;
+	
+	/**
+	 * Field which stores the key of the scan the baseline was written for.
+	 */
+	private final String scan;
+	
+	/**
+	 * Field which stores the entry of each URI, keyed by the fingerprint of the URI.
+	 */
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	
+	/**
+	 * Field which stores the amount of URIs read from the previous baseline.
+	 */
+	private final int previous;
+	
+	/**
+	 * Field which stores the amount of pages whose findings had not changed.
+	 */
+	private final AtomicLong unchanged = new AtomicLong();
+	
+	/**
+	 * Field which stores the amount of pages whose findings had changed.
+	 */
+	private final AtomicLong changed = new AtomicLong();
+	
+	/**
+	 * Field which stores the amount of pages missing from the previous baseline.
+	 */
+	private final AtomicLong added = new AtomicLong();
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class, reading the
+	 * previous baseline if the file exists.
+	 * 
+	 * @param path path of the baseline file, which does not need to exist.
+	 * @param root root URI of the scan.
+	 * @param types types of findings extracted by the scan.
+	 * @throws IOException if the baseline could not be read, or was written for a different scan.
+	 */
+	public ScanBaseline(Path path, URI root, Set<FindingType> types) throws IOException {
+		this.path = path;
+		this.scan = FindingsCodec.keyOf(root, types);
+		if (Files.exists(path)) {
+			this.read();
+		}
+		this.previous = this.entries.size();
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns the entry of a URI.
+	 * 
+	 * @param uri URI which was scanned.
+	 * @return the entry of the URI in this scan if it has been compared, otherwise in the previous baseline, or null if the URI has not been scanned.
+	 */
+	public Entry get(URI uri) {
+		return this.entries.get(Fingerprint.of(uri.toString()));
+	}
+	
+	/**
+	 * This method compares a result with the same URI of the baseline, and stores its findings
+	 * in place of those of the baseline. Failed requests are not compared, and are returned as
+	 * they are, so that they are still reported.
+	 * 
+	 * @param result outcome of the request.
+	 * @return a copy of the result holding the findings added and removed, the same result if it failed or nothing was extracted, or null if its findings have not changed.
+	 */
+	public ScanResult diff(ScanResult result) {
+		Findings findings = result.getFindings();
+		if (!result.isSuccessful() || findings == null) {
+			return result;
+		}
+		
+		// Pages whose bodies are not fingerprinted, such as unmodified pages of the cache, keep the previous fingerprint.
+		Entry entry = this.get(result.getUri());
+		long fingerprint = result.getFingerprint() != null ? result.getFingerprint() : entry != null ? entry.getFingerprint() : 0;
+		this.entries.put(Fingerprint.of(result.getUri().toString()), new Entry(fingerprint, findings));
+		
+		// A page missing from the baseline is written in full.
+		if (entry == null) {
+			this.added.incrementAndGet();
+			return result.asDiff(findings, new Findings());
+		}
+		
+		// A page whose body has not changed has the same findings.
+		if (entry.getFindings() == findings || entry.getFingerprint() == fingerprint && result.getFingerprint() != null) {
+			this.unchanged.incrementAndGet();
+			return null;
+		}
+		
+		// Find the findings of each type which have been added or removed.
+		Findings additions = new Findings();
+		Findings removals = new Findings();
+		for (FindingType type : FindingType.values()) {
+			difference(findings.get(type), entry.getFindings().get(type), type, additions);
+			difference(entry.getFindings().get(type), findings.get(type), type, removals);
+		}
+		if (additions.isEmpty() && removals.isEmpty()) {
+			this.unchanged.incrementAndGet();
+			return null;
+		}
+		this.changed.incrementAndGet();
+		return result.asDiff(additions, removals);
+	}
+	
+	/**
+	 * This method adds each finding of one list which is not in another list.
+	 * 
+	 * @param findings findings which are checked.
+	 * @param others findings which are excluded.
+	 * @param type type of the findings.
+	 * @param difference findings the difference is added to.
+	 */
+	private static void difference(List<String> findings, List<String> others, FindingType type, Findings difference) {
+		if (findings.isEmpty()) {
+			return;
+		}
+		Set<String> excluded = new HashSet<>(others);
+		for (String finding : findings) {
+			// Each finding is only added once, however often it is repeated.
+			if (excluded.add(finding)) {
+				difference.add(type, finding);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the entry of every URI to the baseline file, replacing the previous baseline.
+	 * 
+	 * @throws IOException if the baseline could not be written.
+	 */
+	public synchronized void write() throws IOException {
+		// Write to a temporary file first, so that the previous baseline is kept if writing fails.
+		Path temporary = Files.createTempFile(this.path.toAbsolutePath().getParent(), "baseline", ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+				out.writeInt(VERSION);
+				FindingsCodec.writeString(out, this.scan);
+				out.writeInt(this.entries.size());
+				
+				// Write the fingerprints and findings of each URI.
+				for (Map.Entry<Long, Entry> entry : this.entries.entrySet()) {
+					out.writeLong(entry.getKey());
+					out.writeLong(entry.getValue().getFingerprint());
+					FindingsCodec.writeFindings(out, entry.getValue().getFindings());
+				}
+			}
+			Files.move(temporary, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+	
+	/**
+	 * Writes the baseline file.
+	 */
+	@Override
+	public void close() {
+		try {
+			this.write();
+		} catch (IOException e) {
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/**
+	 * Reads the entry of each URI from the baseline file.
+	 * 
+	 * @throws IOException if the baseline could not be read, or was written for a different scan.
+	 */
+	private void read() throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(this.path))))) {
+			// Only compare against the same scan.
+			if (in.readInt() != VERSION || !this.scan.equals(FindingsCodec.readString(in))) {
+				throw new IOException("Baseline " + this.path + " was written for a different scan");
+			}
+			
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				long uri = in.readLong();
+				long fingerprint = in.readLong();
+				Findings findings = FindingsCodec.readFindings(in);
+				this.entries.put(uri, new Entry(fingerprint, findings));
+			}
+		}
+	}
+	
+	/**
+	 * Returns a summary of the comparison, for example <i>3 changed, 120 unchanged, 2 new</i>.
+	 * 
+	 * @return the summary of the comparison.
+	 */
+	public String summary() {
+		return this.changed.get() + " changed, " + this.unchanged.get() + " unchanged, " + this.added.get() + " new compared with " + this.previous + " pages of " + this.path;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the path of the baseline file.
+	 * 
+	 * @return the class's path field.
+	 */
+	public Path getPath() {
+		return this.path;
+	}
+	
+	/**
+	 * Returns the amount of URIs read from the previous baseline.
+	 * 
+	 * @return the class's previous field.
+	 */
+	public int getPrevious() {
+		return this.previous;
+	}
+	
+	/**
+	 * Returns the amount of pages whose findings had not changed.
+	 * 
+	 * @return the value of the class's unchanged field.
+	 */
+	public long getUnchanged() {
+		return this.unchanged.get();
+	}
+	
+	/**
+	 * Returns the amount of pages whose findings had changed.
+	 * 
+	 * @return the value of the class's changed field.
+	 */
+	public long getChanged() {
+		return this.changed.get();
+	}
+	
+	/**
+	 * Returns the amount of pages missing from the previous baseline.
+	 * 
+	 * @return the value of the class's added field.
+	 */
+	public long getAdded() {
+		return this.added.get();
+	}
+	
+	/*---- Public Class ----*/
+	/**
+	 * The class Entry is used to store the fingerprint of the body of a URI, and its findings.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	public static class Entry {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the fingerprint of the body.
+		 */
+		private final long fingerprint;
+		
+		/**
+		 * Field which stores the findings extracted from the body.
+		 */
+		private final Findings findings;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param fingerprint fingerprint of the body.
+		 * @param findings findings extracted from the body.
+		 */
+		public Entry(long fingerprint, Findings findings) {
+			this.fingerprint = fingerprint;
+			this.findings = findings;
+		}
+		
+		/*---- Getters ----*/
+		/**
+		 * Returns the fingerprint of the body.
+		 * 
+		 * @return the class's fingerprint field.
+		 */
+		public long getFingerprint() {
+			return this.fingerprint;
+		}
+		
+		/**
+		 * Returns the findings extracted from the body.
+		 * 
+		 * @return the class's findings field.
+		 */
+		public Findings getFindings() {
+			return this.findings;
+		}
+	}
+}
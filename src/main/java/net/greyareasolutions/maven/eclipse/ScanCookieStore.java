@@ -0,0 +1,235 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.CookieStore;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class ScanCookieStore is used to hold the cookies of a single scan, namely those supplied
+ * via the <b>-cookie</b> flag along with any set by the target through <b>Set-Cookie</b> while
+ * the scan is running. Each {@link HtmlScannerEngine} owns its own store, which is given to its
+ * client through a <a href="https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/net/CookieManager.html" title="class or interface in java.net" class="external-link">CookieManager</a>,
+ * meaning that scans running in the same JVM never share, or replace, each other's cookies.
+ * 
+ * Cookies are held in a concurrent map keyed by their name, domain, and path, so that requests
+ * running at the same time can read and add cookies without waiting on a lock. A cookie without
+ * a domain only applies to the host of the URI it was added for.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public final class ScanCookieStore implements CookieStore {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores each cookie, keyed by its name, domain, and path.
+	 */
+	private final Map<String, Stored> cookies;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise an empty store.
+	 */
+	public ScanCookieStore() {
+		this.cookies = new ConcurrentHashMap<>();
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method adds a cookie, replacing any cookie with the same name, domain, and path. A
+	 * cookie which has already expired, such as one with a max age of 0, removes the cookie it
+	 * would have replaced.
+	 * 
+	 * @param uri URI the cookie was received from, used as the host of a cookie without a domain.
+	 * @param cookie cookie to add.
+	 */
+	@Override
+	public void add(URI uri, HttpCookie cookie) {
+		if (cookie == null) {
+			throw new NullPointerException("cookie is null");
+		}
+		
+		// A cookie without a domain only applies to the host it was received from.
+		String domain = cookie.getDomain() != null ? cookie.getDomain() : uri != null ? uri.getHost() : null;
+		Stored stored = new Stored(uri, domain == null ? null : domain.toLowerCase(Locale.ROOT), cookie.getDomain() == null, cookie);
+		
+		// Check to see if the cookie removes a previous cookie.
+		if (cookie.hasExpired()) {
+			this.cookies.remove(stored.key());
+		} else {
+			this.cookies.put(stored.key(), stored);
+		}
+	}
+	
+	/**
+	 * This method returns the cookies which apply to the host of a URI, dropping any which have
+	 * expired. The path, secure, and port of each cookie are checked by the cookie manager.
+	 * 
+	 * @param uri URI a request is being sent to.
+	 * @return the cookies of the URI's host.
+	 */
+	@Override
+	public List<HttpCookie> get(URI uri) {
+		if (uri == null) {
+			throw new NullPointerException("uri is null");
+		}
+		
+		List<HttpCookie> matching = new ArrayList<>();
+		String host = uri.getHost();
+		for (Map.Entry<String, Stored> entry : this.cookies.entrySet()) {
+			Stored stored = entry.getValue();
+			if (stored.cookie.hasExpired()) {
+				this.cookies.remove(entry.getKey(), stored);
+			} else if (stored.matches(host)) {
+				matching.add(stored.cookie);
+			}
+		}
+		return matching;
+	}
+	
+	/**
+	 * This method returns every cookie which has not expired.
+	 * 
+	 * @return the cookies, which can be modified without affecting the store.
+	 */
+	@Override
+	public List<HttpCookie> getCookies() {
+		List<HttpCookie> all = new ArrayList<>();
+		for (Map.Entry<String, Stored> entry : this.cookies.entrySet()) {
+			if (entry.getValue().cookie.hasExpired()) {
+				this.cookies.remove(entry.getKey(), entry.getValue());
+			} else {
+				all.add(entry.getValue().cookie);
+			}
+		}
+		return all;
+	}
+	
+	/**
+	 * This method returns each URI that a cookie was added for.
+	 * 
+	 * @return the URIs, without duplicates.
+	 */
+	@Override
+	public List<URI> getURIs() {
+		Set<URI> uris = new LinkedHashSet<>();
+		for (Stored stored : this.cookies.values()) {
+			if (stored.uri != null) {
+				uris.add(stored.uri);
+			}
+		}
+		return new ArrayList<>(uris);
+	}
+	
+	/**
+	 * This method removes a cookie.
+	 * 
+	 * @param uri URI the cookie was added for, used as the domain of a cookie without a domain.
+	 * @param cookie cookie to remove.
+	 * @return whether the cookie was present.
+	 */
+	@Override
+	public boolean remove(URI uri, HttpCookie cookie) {
+		if (cookie == null) {
+			throw new NullPointerException("cookie is null");
+		}
+		String domain = cookie.getDomain() != null ? cookie.getDomain() : uri != null ? uri.getHost() : null;
+		return this.cookies.remove(new Stored(uri, domain == null ? null : domain.toLowerCase(Locale.ROOT), false, cookie).key()) != null;
+	}
+	
+	/**
+	 * This method removes every cookie.
+	 * 
+	 * @return whether any cookie was present.
+	 */
+	@Override
+	public boolean removeAll() {
+		boolean present = !this.cookies.isEmpty();
+		this.cookies.clear();
+		return present;
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * The class Stored is used to hold a cookie alongside the domain it applies to.
+	 */
+	private static final class Stored {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the URI the cookie was added for.
+		 */
+		private final URI uri;
+		
+		/**
+		 * Field which stores the lower case domain the cookie applies to, without a leading dot.
+		 */
+		private final String domain;
+		
+		/**
+		 * Field which stores whether the cookie only applies to its exact host.
+		 */
+		private final boolean hostOnly;
+		
+		/**
+		 * Field which stores the cookie.
+		 */
+		private final HttpCookie cookie;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise a stored cookie.
+		 * 
+		 * @param uri URI the cookie was added for.
+		 * @param domain lower case domain the cookie applies to.
+		 * @param hostOnly whether the cookie only applies to its exact host.
+		 * @param cookie the cookie.
+		 */
+		private Stored(URI uri, String domain, boolean hostOnly, HttpCookie cookie) {
+			this.uri = uri;
+			this.domain = domain != null && domain.startsWith(".") ? domain.substring(1) : domain;
+			this.hostOnly = hostOnly;
+			this.cookie = cookie;
+		}
+		
+		/*---- Methods ----*/
+		/**
+		 * This method returns the key of the cookie, made of its name, domain, and path.
+		 * 
+		 * @return the key.
+		 */
+		private String key() {
+			return this.cookie.getName() + ';' + this.domain + ';' + this.cookie.getPath();
+		}
+		
+		/**
+		 * This method checks whether the cookie applies to a host, either the host itself or,
+		 * unless the cookie is host only, any of its sub-domains.
+		 * 
+		 * @param host host of the request.
+		 * @return whether the cookie applies.
+		 */
+		private boolean matches(String host) {
+			if (host == null || this.domain == null) {
+				return false;
+			}
+			if (host.equalsIgnoreCase(this.domain)) {
+				return true;
+			}
+			
+			// The cookie manager gives cookies set by hosts without a dot, such as localhost, a domain ending in ".local".
+			if (host.indexOf('.') < 0 && this.domain.length() == host.length() + 6 && this.domain.endsWith(".local") && this.domain.regionMatches(true, 0, host, 0, host.length())) {
+				return true;
+			}
+			return !this.hostOnly && host.length() > this.domain.length()
+					&& host.charAt(host.length() - this.domain.length() - 1) == '.'
+					&& host.regionMatches(true, host.length() - this.domain.length(), this.domain, 0, this.domain.length());
+		}
+	}
+}
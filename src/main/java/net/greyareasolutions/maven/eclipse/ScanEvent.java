@@ -0,0 +1,43 @@
+package net.greyareasolutions.maven.eclipse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class ScanEvent is a Java Flight Recorder event recording every sub URI of a
+ * {@link MultiHtmlScanner} being scanned, so that the requests of a scan can be told apart
+ * from those of another scan in the same recording.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@Name("net.greyareasolutions.maven.eclipse.Scan")
+@Label("Scan")
+@Category("HtmlScanner")
+@Description("The sub URIs of a root URI being scanned")
+@StackTrace(false)
+final class ScanEvent extends Event {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the root URI of the scan.
+	 */
+	@Label("URI")
+	String uri;
+	
+	/**
+	 * Field which stores the mode used to send the requests.
+	 */
+	@Label("Mode")
+	String mode;
+	
+	/**
+	 * Field which stores the limit of requests in flight at once.
+	 */
+	@Label("Concurrency")
+	int concurrency;
+}
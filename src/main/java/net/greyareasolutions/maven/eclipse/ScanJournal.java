@@ -0,0 +1,472 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * The class ScanJournal is used to record the progress of a long scan, so that a scan which
+ * is interrupted or killed can be resumed without scanning the completed URIs again. Each
+ * URI whose request succeeded is appended to the journal file along with its status and
+ * findings, as soon as its result has been handed over. When resuming, the results of the
+ * completed URIs are handed over again through {@link #replay(ScanResultListener)}, meaning
+ * the output of the resumed scan still holds the findings of every previous run.
+ * 
+ * Records are written in batches, the journal being forced to disk once the batch size has
+ * been reached or the sync interval has passed. At most a single batch is therefore scanned
+ * again after a crash. Each record holds a checksum, meaning a record which was only partly
+ * written when the scan died is detected and discarded when resuming.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (ScanJournal journal = new ScanJournal(Path.of("scan.journal"), uri, types, true)) {
+ *     multiHtmlScanner.setJournal(journal);
+ *     multiHtmlScanner.generateResponses(listener);
+ * }
+ * </pre>
+ * 
+ * A journal only resumes the scan it was written for, meaning the same root URI and types of
+ * findings. The class is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ScanJournal implements AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of records written before the journal is forced to disk.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64;
+	
+	/**
+	 * Constant which stores the default longest time, in milliseconds, a record waits before the journal is forced to disk.
+	 */
+	public static final long DEFAULT_SYNC_INTERVAL = 1000;
+	
+	/**
+	 * Constant which stores the version of the journal format, journals of any other version are not resumed.
+	 */
+	private static final int VERSION = 2;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the path of the journal file.
+	 */
+	private final Path path;
+	
+	/**
+	 * Field which stores the channel of the journal file, used to force records to disk.
+	 */
+	private final FileChannel channel;
+	
+	/**
+	 * Field which stores the stream which records are appended to.
+	 */
+	private final DataOutputStream out;
+	
+	/**
+	 * Field which stores the URIs already completed, including those of the journal being resumed.
+	 */
+	private final VisitedSet completed;
+	
+	/**
+	 * Field which stores the amount of URIs completed by previous runs.
+	 */
+	private final long resumed;
+	
+	/**
+	 * Field which stores the position after the last record of previous runs, 0 if the journal was started again.
+	 */
+	private final long resumedEnd;
+	
+	/**
+	 * Field which stores the amount of records written before the journal is forced to disk.
+	 */
+	private final int batchSize;
+	
+	/**
+	 * Field which stores the longest time, in milliseconds, a record waits before the journal is forced to disk.
+	 */
+	private final long syncInterval;
+	
+	/**
+	 * Field which stores the amount of records written since the journal was last forced to disk.
+	 */
+	private int unsynced;
+	
+	/**
+	 * Field which stores when, in milliseconds, the journal was last forced to disk.
+	 */
+	private long lastSync;
+	
+	/**
+	 * Field which stores whether the journal has been closed.
+	 */
+	private boolean closed;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class. The journal
+	 * file is created if it does not already exist.
+	 * 
+	 * @param path path of the journal file.
+	 * @param root root URI of the scan.
+	 * @param types types of findings extracted by the scan.
+	 * @param resume true if the URIs completed by the journal should be skipped, otherwise the journal is started again.
+	 * @param batchSize amount of records written before the journal is forced to disk.
+	 * @param syncInterval longest time, in milliseconds, a record waits before the journal is forced to disk.
+	 * @throws IOException if the journal could not be opened, or was written for a different scan.
+	 */
+	public ScanJournal(Path path, URI root, Set<FindingType> types, boolean resume, int batchSize, long syncInterval) throws IOException {
+		this.path = path;
+		this.batchSize = batchSize;
+		this.syncInterval = syncInterval;
+		this.completed = new VisitedSet();
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			// Read the URIs already completed, discarding any partly written record at the end.
+			String scan = FindingsCodec.keyOf(root, types);
+			long end = resume && this.channel.size() > 0 ? this.read(scan) : -1;
+			this.resumed = this.completed.size();
+			this.resumedEnd = Math.max(0, end);
+			
+			// Append after the last complete record, or start the journal again.
+			this.channel.truncate(Math.max(0, end));
+			this.channel.position(Math.max(0, end));
+			this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(this.channel)));
+			if (end < 0) {
+				this.out.writeInt(VERSION);
+				FindingsCodec.writeString(this.out, scan);
+				this.sync();
+			}
+			this.lastSync = System.currentTimeMillis();
+		} catch (IOException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Constructor which sets a default batch size and sync interval. This constructor passes
+	 * the remaining parameters to the top-level constructor.
+	 * 
+	 * @param path path of the journal file.
+	 * @param root root URI of the scan.
+	 * @param types types of findings extracted by the scan.
+	 * @param resume true if the URIs completed by the journal should be skipped, otherwise the journal is started again.
+	 * @throws IOException if the journal could not be opened, or was written for a different scan.
+	 */
+	public ScanJournal(Path path, URI root, Set<FindingType> types, boolean resume) throws IOException {
+		// Call the top-level constructor, setting a default batch size and sync interval.
+		this(path, root, types, resume, DEFAULT_BATCH_SIZE, DEFAULT_SYNC_INTERVAL);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Records a result as completed, failed requests are not recorded so that they are sent
+	 * again when resuming.
+	 * 
+	 * @param result outcome of the request.
+	 */
+	public void record(ScanResult result) {
+		if (result.isSuccessful()) {
+			this.record(result.getUri(), result.getStatusCode(), result.getFindings());
+		}
+	}
+	
+	/**
+	 * Records a URI as completed along with its findings.
+	 * 
+	 * @param uri URI which was scanned.
+	 * @param status status code of the response.
+	 * @param findings findings extracted from the response, or null if nothing was extracted.
+	 */
+	public synchronized void record(URI uri, int status, Findings findings) {
+		// Nothing more is written once closed, the URI is scanned again when resuming.
+		if (this.closed) {
+			return;
+		}
+		
+		try {
+			// Write the record to memory first, so that its checksum can be written before it.
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream record = new DataOutputStream(bytes);
+			FindingsCodec.writeString(record, uri.toString());
+			record.writeInt(status);
+			record.writeBoolean(findings != null);
+			if (findings != null) {
+				FindingsCodec.writeFindings(record, findings);
+			}
+			
+			// Append the length, checksum, and record.
+			CRC32 crc = new CRC32();
+			crc.update(bytes.toByteArray());
+			this.out.writeInt(bytes.size());
+			this.out.writeInt((int) crc.getValue());
+			bytes.writeTo(this.out);
+			this.completed.add(uri.toString());
+			
+			// Force the batch to disk once it is full or has waited long enough.
+			if (++this.unsynced >= this.batchSize || System.currentTimeMillis() - this.lastSync >= this.syncInterval) {
+				this.sync();
+			}
+		} catch (IOException e) {
+			// Notify of the failure, the URI is scanned again when resuming.
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/**
+	 * Hands the result of each URI completed by previous runs to a listener, holding the status
+	 * and findings which were recorded. The body of each replayed result is not available.
+	 * 
+	 * @param listener listener which receives each recorded result.
+	 * @throws IOException if the journal could not be read.
+	 */
+	public void replay(ScanResultListener listener) throws IOException {
+		if (this.resumed == 0) {
+			return;
+		}
+		
+		try (InputStream file = Files.newInputStream(this.path)) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(file));
+			
+			// Skip the version and key of the scan.
+			in.readInt();
+			long position = Integer.BYTES * 2 + FindingsCodec.readString(in).getBytes(StandardCharsets.UTF_8).length;
+			
+			// Only the records of previous runs are replayed, each of which was checked when the journal was opened.
+			while (position < this.resumedEnd) {
+				int length = in.readInt();
+				in.readInt();
+				byte[] record = in.readNBytes(length);
+				listener.onResult(parse(record));
+				position += Integer.BYTES * 2 + length;
+			}
+		}
+	}
+	
+	/**
+	 * Returns whether a URI has been completed, either by this run or a previous run.
+	 * 
+	 * @param uri URI to check.
+	 * @return true if the URI has been recorded.
+	 */
+	public boolean isCompleted(URI uri) {
+		return this.completed.contains(uri.toString());
+	}
+	
+	/**
+	 * Writes every record to the journal file and forces it to disk.
+	 * 
+	 * @throws IOException if the journal could not be written.
+	 */
+	public synchronized void sync() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		this.out.flush();
+		this.channel.force(false);
+		this.unsynced = 0;
+		this.lastSync = System.currentTimeMillis();
+	}
+	
+	/**
+	 * Forces every record to disk and closes the journal file.
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			this.sync();
+			this.closed = true;
+			this.channel.close();
+		} catch (IOException e) {
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/**
+	 * Reads the URIs completed by the journal, stopping at the first record which was not
+	 * completely written.
+	 * 
+	 * @param scan key of the scan being resumed.
+	 * @return the position after the last complete record.
+	 * @throws IOException if the journal could not be read, or was written for a different scan.
+	 */
+	private long read(String scan) throws IOException {
+		// The stream is not closed, as that would close the channel.
+		this.channel.position(0);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(this.channel)));
+		
+		// Only resume the same scan.
+		if (in.readInt() != VERSION || !scan.equals(FindingsCodec.readString(in))) {
+			throw new IOException("Journal " + this.path + " was written for a different scan");
+		}
+		long end = Integer.BYTES * 2 + scan.getBytes(StandardCharsets.UTF_8).length;
+		
+		// Read each record, checking that it was completely written.
+		try {
+			while (true) {
+				int length = in.readInt();
+				int checksum = in.readInt();
+				
+				// A torn length cannot be trusted, so it is checked before anything is read.
+				if (length < 0 || length > this.channel.size() - end - Integer.BYTES * 2) {
+					break;
+				}
+				byte[] record = in.readNBytes(length);
+				CRC32 crc = new CRC32();
+				crc.update(record);
+				if (record.length != length || (int) crc.getValue() != checksum) {
+					break;
+				}
+				this.completed.add(FindingsCodec.readString(new DataInputStream(new ByteArrayInputStream(record))));
+				end += Integer.BYTES * 2 + length;
+			}
+		} catch (EOFException e) {
+			// The end of the journal, or a partly written length or checksum, has been reached.
+		}
+		return end;
+	}
+	
+	/**
+	 * Creates the result of a record, holding its status and findings.
+	 * 
+	 * @param record record without its length and checksum.
+	 * @return the result.
+	 * @throws IOException if the record could not be read.
+	 */
+	private static ScanResult parse(byte[] record) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		URI uri = URI.create(FindingsCodec.readString(in));
+		int status = in.readInt();
+		
+		// Read the findings of each type, if any were extracted.
+		Findings findings = in.readBoolean() ? FindingsCodec.readFindings(in) : null;
+		return new ScanResult(uri, new JournaledResponse(uri, status), null, findings, null);
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * The class JournaledResponse is used to stand in for the response of a replayed result,
+	 * holding only the status code and URI which were recorded.
+	 */
+	private static class JournaledResponse implements HttpResponse<String> {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the URI the request was sent to.
+		 */
+		private final URI uri;
+		
+		/**
+		 * Field which stores the status code of the response.
+		 */
+		private final int status;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param uri URI the request was sent to.
+		 * @param status status code of the response.
+		 */
+		private JournaledResponse(URI uri, int status) {
+			this.uri = uri;
+			this.status = status;
+		}
+		
+		/*---- Overridden Methods ----*/
+		@Override
+		public int statusCode() {
+			return this.status;
+		}
+		
+		@Override
+		public HttpRequest request() {
+			return HttpRequest.newBuilder(this.uri).build();
+		}
+		
+		@Override
+		public Optional<HttpResponse<String>> previousResponse() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public HttpHeaders headers() {
+			return HttpHeaders.of(Map.of(), (name, value) -> true);
+		}
+		
+		@Override
+		public String body() {
+			return null;
+		}
+		
+		@Override
+		public Optional<SSLSession> sslSession() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public URI uri() {
+			return this.uri;
+		}
+		
+		@Override
+		public HttpClient.Version version() {
+			return HttpClient.Version.HTTP_1_1;
+		}
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the path of the journal file.
+	 * 
+	 * @return the class's path field.
+	 */
+	public Path getPath() {
+		return this.path;
+	}
+	
+	/**
+	 * Returns the amount of URIs completed by previous runs, which are skipped by this run.
+	 * 
+	 * @return the class's resumed field.
+	 */
+	public long getResumed() {
+		return this.resumed;
+	}
+	
+	/**
+	 * Returns the amount of URIs completed, including those of previous runs.
+	 * 
+	 * @return the size of the class's completed field.
+	 */
+	public long getCompleted() {
+		return this.completed.size();
+	}
+}
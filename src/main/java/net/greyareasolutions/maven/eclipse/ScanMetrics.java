@@ -0,0 +1,396 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The class ScanMetrics is used to measure a scan whilst it is running. The time taken by
+ * each {@link ScanPhase} of every request is recorded by its own {@link Histogram}, along
+ * with counters of the requests, bytes received, statuses, and errors.
+ * 
+ * The metrics are recorded by {@link HtmlScannerEngine} and {@link MultiHtmlScanner} once
+ * set via {@link HtmlScannerEngine#setMetrics(ScanMetrics)}, are printed whilst the scan is
+ * running by {@link ProgressReporter}, and are summarised by {@link #summary()} once it has
+ * finished. They can also be registered as JMX MBeans under the
+ * <i>net.greyareasolutions.maven.eclipse</i> domain, so that a running scan can be watched in
+ * JConsole or VisualVM.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (ScanMetrics metrics = new ScanMetrics()) {
+ *     metrics.register();
+ *     engine.setMetrics(metrics);
+ *     new MultiHtmlScanner(engine, subUris).generateResponses(listener);
+ *     System.err.println(metrics.summary());
+ * }
+ * </pre>
+ * 
+ * The class is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ScanMetrics implements ScanMetricsMBean, AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the JMX domain the metrics are registered under.
+	 */
+	public static final String DOMAIN = "net.greyareasolutions.maven.eclipse";
+	
+	/**
+	 * Constant which stores the amount of statuses counted, any status from 0 to 599.
+	 */
+	private static final int STATUSES = 600;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the histogram of each phase, indexed by the phase's ordinal.
+	 */
+	private final Histogram[] phases;
+	
+	/**
+	 * Field which stores the amount of requests which have finished.
+	 */
+	private final LongAdder requests = new LongAdder();
+	
+	/**
+	 * Field which stores the amount of requests which failed without a response.
+	 */
+	private final LongAdder errors = new LongAdder();
+	
+	/**
+	 * Field which stores the amount of bytes received.
+	 */
+	private final LongAdder bytes = new LongAdder();
+	
+	/**
+	 * Field which stores the amount of sub URIs skipped.
+	 */
+	private final LongAdder skipped = new LongAdder();
+	
+	/**
+	 * Field which stores the amount of responses received with each status.
+	 */
+	private final AtomicLongArray statusCodes = new AtomicLongArray(STATUSES);
+	
+	/**
+	 * Field which stores when the metrics were created, in nanoseconds.
+	 */
+	private final long start;
+	
+	/**
+	 * Field which stores the names the metrics are registered under.
+	 */
+	private final List<ObjectName> registered = new ArrayList<>();
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class. The elapsed
+	 * time of the scan is measured from the metrics being created.
+	 */
+	public ScanMetrics() {
+		this.phases = new Histogram[ScanPhase.values().length];
+		for (int i = 0; i < this.phases.length; i++) {
+			this.phases[i] = new Histogram();
+		}
+		this.start = System.nanoTime();
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Records the time taken by a phase of a request.
+	 * 
+	 * @param phase phase of the request.
+	 * @param nanos time taken by the phase, in nanoseconds.
+	 */
+	public void record(ScanPhase phase, long nanos) {
+		this.phases[phase.ordinal()].record(nanos);
+	}
+	
+	/**
+	 * Records a request which has finished, counting its status or its failure.
+	 * 
+	 * @param result result of the last attempt of the request.
+	 * @param nanos time taken by the request including any retries, in nanoseconds.
+	 */
+	public void recordResult(ScanResult result, long nanos) {
+		this.requests.increment();
+		this.record(ScanPhase.TOTAL, nanos);
+		
+		// A failed request has no status.
+		if (!result.isSuccessful()) {
+			this.errors.increment();
+		} else if (result.getStatusCode() >= 0 && result.getStatusCode() < STATUSES) {
+			this.statusCodes.incrementAndGet(result.getStatusCode());
+		}
+	}
+	
+	/**
+	 * Records a sub URI which was skipped, as a previous scan had already completed it.
+	 */
+	public void recordSkipped() {
+		this.skipped.increment();
+	}
+	
+	/**
+	 * Returns a handler which records the time until the headers of the response arrive and
+	 * the time taken to read its body, along with the amount of bytes received, before handing
+	 * the body to the specified handler. The time is measured from this method being called,
+	 * it should therefore be called just before the request is sent.
+	 * 
+	 * @param <T> type of the body.
+	 * @param handler handler of the body.
+	 * @return a handler which records the response before handing it to the specified handler.
+	 */
+	public <T> BodyHandler<T> meter(BodyHandler<T> handler) {
+		long sent = System.nanoTime();
+		return responseInfo -> {
+			long received = System.nanoTime();
+			this.record(ScanPhase.FIRST_BYTE, received - sent);
+			return new MeteredSubscriber<>(handler.apply(responseInfo), received);
+		};
+	}
+	
+	/**
+	 * This method registers the metrics, and the histogram of each phase, with the platform
+	 * MBean server. Metrics already registered under the same names are replaced.
+	 * 
+	 * @throws JMException if the metrics could not be registered.
+	 */
+	public synchronized void register() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		this.register(server, new ObjectName(DOMAIN + ":type=ScanMetrics"), this);
+		for (ScanPhase phase : ScanPhase.values()) {
+			this.register(server, new ObjectName(DOMAIN + ":type=ScanMetrics,phase=" + phase.name().toLowerCase(Locale.ROOT)), this.getHistogram(phase));
+		}
+	}
+	
+	/**
+	 * This method registers a single MBean, replacing any already registered under its name.
+	 * 
+	 * @param server server the MBean is registered with.
+	 * @param name name of the MBean.
+	 * @param mbean the MBean.
+	 * @throws JMException if the MBean could not be registered.
+	 */
+	private void register(MBeanServer server, ObjectName name, Object mbean) throws JMException {
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+		server.registerMBean(mbean, name);
+		this.registered.add(name);
+	}
+	
+	/**
+	 * This method creates a summary of the scan, holding every counter along with the
+	 * percentiles of each phase which was recorded.
+	 * 
+	 * @return the summary, over multiple lines.
+	 */
+	public String summary() {
+		StringBuilder summary = new StringBuilder("Scan summary:\n");
+		summary.append(String.format(Locale.ROOT, "\tRequests: %d in %.1f seconds, %.1f per second%n", this.getRequests(), this.getElapsedSeconds(), this.getRequestsPerSecond()));
+		summary.append(String.format(Locale.ROOT, "\tErrors: %d failed, %d with a status of 400 or above%n", this.getErrors(), this.getErrorStatuses()));
+		if (this.getSkipped() > 0) {
+			summary.append("\tSkipped: ").append(this.getSkipped()).append(System.lineSeparator());
+		}
+		summary.append("\tReceived: ").append(formatBytes(this.getBytes())).append(System.lineSeparator());
+		summary.append("\tStatus codes: ").append(this.getStatusCodes().isEmpty() ? "none" : this.getStatusCodes()).append(System.lineSeparator());
+		
+		// Only print the phases which were recorded, as streamed responses are not parsed separately.
+		summary.append(String.format(Locale.ROOT, "\t%-12s %9s %9s %9s %9s %9s %9s %9s", "phase (ms)", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+		for (ScanPhase phase : ScanPhase.values()) {
+			Histogram histogram = this.getHistogram(phase);
+			if (histogram.getCount() > 0) {
+				summary.append(String.format(Locale.ROOT, "%n\t%-12s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f", phase.getLabel(), histogram.getCount(), histogram.getMeanMillis(),
+						histogram.getP50Millis(), histogram.getP90Millis(), histogram.getP99Millis(), histogram.getP999Millis(), histogram.getMaxMillis()));
+			}
+		}
+		return summary.toString();
+	}
+	
+	/**
+	 * This method formats an amount of bytes using the largest fitting unit.
+	 * 
+	 * @param bytes amount of bytes.
+	 * @return the amount, for example <i>12.4 MB</i>.
+	 */
+	static String formatBytes(long bytes) {
+		if (bytes < 1024) {
+			return bytes + " B";
+		}
+		
+		// Divide until the amount is below 1024 of the unit.
+		double amount = bytes;
+		String[] units = {"KB", "MB", "GB", "TB"};
+		int unit = -1;
+		while (amount >= 1024 && unit < units.length - 1) {
+			amount /= 1024;
+			unit++;
+		}
+		return String.format(Locale.ROOT, "%.1f %s", amount, units[unit]);
+	}
+	
+	/**
+	 * Unregisters the metrics from the platform MBean server, if they were registered.
+	 */
+	@Override
+	public synchronized void close() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		for (ObjectName name : this.registered) {
+			try {
+				server.unregisterMBean(name);
+			} catch (JMException e) {
+				// Another scan may have replaced the MBean, nothing else needs to be done.
+			}
+		}
+		this.registered.clear();
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the histogram of a phase.
+	 * 
+	 * @param phase phase of a request.
+	 * @return the histogram holding the time taken by every request in the phase, in nanoseconds.
+	 */
+	public Histogram getHistogram(ScanPhase phase) {
+		return this.phases[phase.ordinal()];
+	}
+	
+	/*---- Overridden Methods ----*/
+	@Override
+	public long getRequests() {
+		return this.requests.sum();
+	}
+	
+	@Override
+	public long getErrors() {
+		return this.errors.sum();
+	}
+	
+	@Override
+	public long getErrorStatuses() {
+		long errorStatuses = 0;
+		for (int status = 400; status < STATUSES; status++) {
+			errorStatuses += this.statusCodes.get(status);
+		}
+		return errorStatuses;
+	}
+	
+	@Override
+	public long getBytes() {
+		return this.bytes.sum();
+	}
+	
+	@Override
+	public long getSkipped() {
+		return this.skipped.sum();
+	}
+	
+	@Override
+	public String getStatusCodes() {
+		StringJoiner statusCodes = new StringJoiner(", ");
+		for (int status = 0; status < STATUSES; status++) {
+			long count = this.statusCodes.get(status);
+			if (count > 0) {
+				statusCodes.add(status + "=" + count);
+			}
+		}
+		return statusCodes.toString();
+	}
+	
+	@Override
+	public double getElapsedSeconds() {
+		return (System.nanoTime() - this.start) / 1e9;
+	}
+	
+	@Override
+	public double getRequestsPerSecond() {
+		double elapsed = this.getElapsedSeconds();
+		return elapsed > 0 ? this.getRequests() / elapsed : 0;
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * This class is used to count the bytes of a body as they are received, and to record
+	 * the time taken to receive the whole body, before handing each part to another subscriber.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 * @param <T> type of the body.
+	 */
+	private class MeteredSubscriber<T> implements BodySubscriber<T> {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores the subscriber each part of the body is handed to.
+		 */
+		private final BodySubscriber<T> subscriber;
+		
+		/**
+		 * Field which stores when the headers of the response arrived, in nanoseconds.
+		 */
+		private final long received;
+		
+		/*---- Constructor ----*/
+		/**
+		 * Core constructor that aims to initialise all declared fields of the class.
+		 * 
+		 * @param subscriber subscriber each part of the body is handed to.
+		 * @param received when the headers of the response arrived, in nanoseconds.
+		 */
+		MeteredSubscriber(BodySubscriber<T> subscriber, long received) {
+			this.subscriber = subscriber;
+			this.received = received;
+		}
+		
+		/*---- Overridden Methods ----*/
+		@Override
+		public CompletionStage<T> getBody() {
+			return this.subscriber.getBody();
+		}
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscriber.onSubscribe(subscription);
+		}
+		
+		@Override
+		public void onNext(List<ByteBuffer> item) {
+			// Count the bytes before they are consumed by the subscriber.
+			long received = 0;
+			for (ByteBuffer buffer : item) {
+				received += buffer.remaining();
+			}
+			ScanMetrics.this.bytes.add(received);
+			this.subscriber.onNext(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable) {
+			this.subscriber.onError(throwable);
+		}
+		
+		@Override
+		public void onComplete() {
+			ScanMetrics.this.record(ScanPhase.BODY, System.nanoTime() - this.received);
+			this.subscriber.onComplete();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The interface ScanMetricsMBean is used to expose the counters of {@link ScanMetrics} via
+ * JMX, for example in JConsole or VisualVM, whilst a scan is running. The latencies of each
+ * {@link ScanPhase} are exposed separately by their {@link Histogram}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public interface ScanMetricsMBean {
+	/*---- Methods ----*/
+	/**
+	 * Returns the amount of requests which have finished, including failed requests.
+	 * 
+	 * @return the amount of requests which have finished.
+	 */
+	long getRequests();
+	
+	/**
+	 * Returns the amount of requests which failed without a response.
+	 * 
+	 * @return the amount of failed requests.
+	 */
+	long getErrors();
+	
+	/**
+	 * Returns the amount of responses with a status of 400 or above.
+	 * 
+	 * @return the amount of error responses.
+	 */
+	long getErrorStatuses();
+	
+	/**
+	 * Returns the amount of bytes received, before any decompression.
+	 * 
+	 * @return the amount of bytes received.
+	 */
+	long getBytes();
+	
+	/**
+	 * Returns the amount of sub URIs skipped as a previous scan had already completed them.
+	 * 
+	 * @return the amount of sub URIs skipped.
+	 */
+	long getSkipped();
+	
+	/**
+	 * Returns the amount of responses received with each status.
+	 * 
+	 * @return each status followed by its amount, for example <i>200=12, 404=3</i>.
+	 */
+	String getStatusCodes();
+	
+	/**
+	 * Returns the time elapsed since the metrics were created.
+	 * 
+	 * @return the time elapsed in seconds.
+	 */
+	double getElapsedSeconds();
+	
+	/**
+	 * Returns the mean rate at which requests have finished.
+	 * 
+	 * @return the amount of requests finished per second.
+	 */
+	double getRequestsPerSecond();
+}
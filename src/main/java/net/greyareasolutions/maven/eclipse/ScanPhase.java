@@ -0,0 +1,70 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The class ScanPhase is an enumeration which stores the phases of a request timed by
+ * {@link ScanMetrics}, each phase having its own {@link Histogram}.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public enum ScanPhase {
+	/*---- Enums ----*/
+	/**
+	 * From the request being sent until its headers have arrived, including any time spent
+	 * connecting, as the client does not report the connection separately.
+	 */
+	FIRST_BYTE("first byte"),
+	
+	/**
+	 * From the headers having arrived until the whole body has been read.
+	 */
+	BODY("body"),
+	
+	/**
+	 * Parsing the body into a document. When the body is parsed whilst being read, this also
+	 * includes extracting the findings, and overlaps with reading the body.
+	 */
+	PARSE("parse"),
+	
+	/**
+	 * Extracting the findings and links of a parsed document.
+	 */
+	EXTRACT("extract"),
+	
+	/**
+	 * Handing a result to the listener, for example waiting for it to be written.
+	 */
+	OUTPUT("output"),
+	
+	/**
+	 * From a request being made until its result is returned, including any retries.
+	 */
+	TOTAL("total");
+	
+	/*---- Field ----*/
+	/**
+	 * Field which stores the name of the phase as printed.
+	 */
+	private final String label;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the enum.
+	 * 
+	 * @param label name of the phase as printed.
+	 */
+	ScanPhase(String label) {
+		this.label = label;
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the name of the phase as printed.
+	 * 
+	 * @return the enum's label field.
+	 */
+	public String getLabel() {
+		return this.label;
+	}
+}
@@ -0,0 +1,309 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * The class ScanResult is used to store the outcome of a single request sent by
+ * {@link HtmlScannerEngine}. A result either holds the response of the request, or
+ * the exception that prevented the response from being obtained.
+ * 
+ * If the engine was given a {@link FindingsExtractor}, the result also holds the findings
+ * extracted from the response. When the response was parsed whilst being read, the body is
+ * not kept and only the findings are available.
+ * 
+ * Each body whose findings were extracted is also given a {@link Fingerprint}. If the same body
+ * was already returned by an earlier URI, the result is marked as a duplicate of that URI and
+ * holds its findings instead.
+ * 
+ * If the engine was given a {@link LinkExtractor}, the result also holds the links found in
+ * the body, which are used by {@link HtmlCrawler} to discover further pages.
+ * 
+ * If the findings were searched by a {@link SecretScanner}, the result also holds the secrets
+ * and keywords found within them.
+ * 
+ * If the result was compared against a {@link ScanBaseline}, its findings only hold those
+ * added since the baseline, and the result also holds the findings which have been removed.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class ScanResult {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the URI that the request was sent to.
+	 */
+	private final URI uri;
+	
+	/**
+	 * Field which stores the response of the request, null if the request failed.
+	 */
+	private final HttpResponse<?> response;
+	
+	/**
+	 * Field which stores the body of the response, null if the request failed or the body was streamed.
+	 */
+	private final String body;
+	
+	/**
+	 * Field which stores the findings extracted from the response, null if nothing was extracted.
+	 */
+	private final Findings findings;
+	
+	/**
+	 * Field which stores the exception raised whilst sending the request, null if the request succeeded.
+	 */
+	private final Exception exception;
+	
+	/**
+	 * Field which stores the fingerprint of the body, null if the body was not fingerprinted.
+	 */
+	private final Long fingerprint;
+	
+	/**
+	 * Field which stores the earlier URI which returned the same body, null if the body had not been seen before.
+	 */
+	private final URI duplicateOf;
+	
+	/**
+	 * Field which stores the links found in the body, null if links were not extracted.
+	 */
+	private final List<URI> links;
+	
+	/**
+	 * Field which stores the secrets found within the findings, null if the findings were not searched.
+	 */
+	private final List<SecretMatch> secrets;
+	
+	/**
+	 * Field which stores the findings removed since the baseline, null if the result was not compared against a baseline.
+	 */
+	private final Findings removed;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param uri URI that the request was sent to.
+	 * @param response response of the request, or null if the request failed.
+	 * @param body body of the response, or null if the request failed or the body was streamed.
+	 * @param findings findings extracted from the response, or null if nothing was extracted.
+	 * @param exception exception raised whilst sending the request, or null if the request succeeded.
+	 */
+	public ScanResult(URI uri, HttpResponse<?> response, String body, Findings findings, Exception exception) {
+		this(uri, response, body, findings, exception, null, null, null, null, null);
+	}
+	
+	/**
+	 * Constructor which also stores the fingerprint of the body, and whether it duplicates an earlier body.
+	 * 
+	 * @param uri URI that the request was sent to.
+	 * @param response response of the request, or null if the request failed.
+	 * @param body body of the response, or null if the request failed or the body was streamed.
+	 * @param findings findings extracted from the response, or null if nothing was extracted.
+	 * @param exception exception raised whilst sending the request, or null if the request succeeded.
+	 * @param fingerprint fingerprint of the body, or null if the body was not fingerprinted.
+	 * @param duplicateOf earlier URI which returned the same body, or null if the body had not been seen before.
+	 * @param links links found in the body, or null if links were not extracted.
+	 * @param secrets secrets found within the findings, or null if the findings were not searched.
+	 * @param removed findings removed since the baseline, or null if the result was not compared against a baseline.
+	 */
+	private ScanResult(URI uri, HttpResponse<?> response, String body, Findings findings, Exception exception, Long fingerprint, URI duplicateOf, List<URI> links, List<SecretMatch> secrets, Findings removed) {
+		this.uri = uri;
+		this.response = response;
+		this.body = body;
+		this.findings = findings;
+		this.exception = exception;
+		this.fingerprint = fingerprint;
+		this.duplicateOf = duplicateOf;
+		this.links = links;
+		this.secrets = secrets;
+		this.removed = removed;
+	}
+	
+	/**
+	 * Constructor which stores a response whose body was read as a string, without any findings.
+	 * 
+	 * @param uri URI that the request was sent to.
+	 * @param response response of the request, or null if the request failed.
+	 * @param exception exception raised whilst sending the request, or null if the request succeeded.
+	 */
+	public ScanResult(URI uri, HttpResponse<String> response, Exception exception) {
+		this(uri, response, response != null ? response.body() : null, null, exception);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns whether a response was obtained for the request.
+	 * 
+	 * @return true if a response is present, otherwise false.
+	 */
+	public boolean isSuccessful() {
+		return this.response != null;
+	}
+	
+	/**
+	 * Returns a copy of this result holding the specified findings.
+	 * 
+	 * @param findings findings extracted from the response.
+	 * @return a new result with the same URI, response, body, and exception.
+	 */
+	public ScanResult withFindings(Findings findings) {
+		return new ScanResult(this.uri, this.response, this.body, findings, this.exception, this.fingerprint, this.duplicateOf, this.links, this.secrets, this.removed);
+	}
+	
+	/**
+	 * Returns a copy of this result holding the fingerprint of its body.
+	 * 
+	 * @param fingerprint fingerprint of the body.
+	 * @return a new result with the same URI, response, body, findings, and exception.
+	 */
+	public ScanResult withFingerprint(long fingerprint) {
+		return new ScanResult(this.uri, this.response, this.body, this.findings, this.exception, fingerprint, this.duplicateOf, this.links, this.secrets, this.removed);
+	}
+	
+	/**
+	 * Returns a copy of this result marked as a duplicate of an earlier result with the same body.
+	 * 
+	 * @param fingerprint fingerprint of the body.
+	 * @param duplicateOf earlier URI which returned the same body.
+	 * @param findings findings extracted from the earlier body.
+	 * @return a new result with the same URI, response, body, and exception.
+	 */
+	public ScanResult asDuplicateOf(long fingerprint, URI duplicateOf, Findings findings) {
+		return new ScanResult(this.uri, this.response, this.body, findings, this.exception, fingerprint, duplicateOf, this.links, this.secrets, this.removed);
+	}
+	
+	/**
+	 * Returns a copy of this result holding the links found in its body.
+	 * 
+	 * @param links links found in the body.
+	 * @return a new result with the same URI, response, body, findings, and exception.
+	 */
+	public ScanResult withLinks(List<URI> links) {
+		return new ScanResult(this.uri, this.response, this.body, this.findings, this.exception, this.fingerprint, this.duplicateOf, links, this.secrets, this.removed);
+	}
+	
+	/**
+	 * Returns a copy of this result holding the secrets found within its findings.
+	 * 
+	 * @param secrets secrets found within the findings.
+	 * @return a new result with the same URI, response, body, findings, and exception.
+	 */
+	public ScanResult withSecrets(List<SecretMatch> secrets) {
+		return new ScanResult(this.uri, this.response, this.body, this.findings, this.exception, this.fingerprint, this.duplicateOf, this.links, secrets, this.removed);
+	}
+	
+	/**
+	 * Returns a copy of this result holding only the findings added and removed since a baseline.
+	 * 
+	 * @param added findings added since the baseline.
+	 * @param removed findings removed since the baseline.
+	 * @return a new result with the same URI, response, body, and exception.
+	 */
+	public ScanResult asDiff(Findings added, Findings removed) {
+		return new ScanResult(this.uri, this.response, this.body, added, this.exception, this.fingerprint, this.duplicateOf, this.links, this.secrets, removed);
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the URI that the request was sent to.
+	 * 
+	 * @return the class's uri field.
+	 */
+	public URI getUri() {
+		return this.uri;
+	}
+	
+	/**
+	 * Returns the response of the request. The body of a streamed response has already been consumed.
+	 * 
+	 * @return the class's response field, null if the request failed.
+	 */
+	public HttpResponse<?> getResponse() {
+		return this.response;
+	}
+	
+	/**
+	 * Returns the status code of the response.
+	 * 
+	 * @return the status code of the response, -1 if the request failed.
+	 */
+	public int getStatusCode() {
+		return this.response != null ? this.response.statusCode() : -1;
+	}
+	
+	/**
+	 * Returns the body of the response.
+	 * 
+	 * @return the class's body field, null if the request failed or the body was streamed.
+	 */
+	public String getBody() {
+		return this.body;
+	}
+	
+	/**
+	 * Returns the findings extracted from the response.
+	 * 
+	 * @return the class's findings field, null if nothing was extracted.
+	 */
+	public Findings getFindings() {
+		return this.findings;
+	}
+	
+	/**
+	 * Returns the exception raised whilst sending the request.
+	 * 
+	 * @return the class's exception field, null if the request succeeded.
+	 */
+	public Exception getException() {
+		return this.exception;
+	}
+	
+	/**
+	 * Returns the fingerprint of the body.
+	 * 
+	 * @return the class's fingerprint field, null if the body was not fingerprinted.
+	 */
+	public Long getFingerprint() {
+		return this.fingerprint;
+	}
+	
+	/**
+	 * Returns the earlier URI which returned the same body.
+	 * 
+	 * @return the class's duplicateOf field, null if the body had not been seen before.
+	 */
+	public URI getDuplicateOf() {
+		return this.duplicateOf;
+	}
+	
+	/**
+	 * Returns the links found in the body.
+	 * 
+	 * @return the class's links field, null if links were not extracted.
+	 */
+	public List<URI> getLinks() {
+		return this.links;
+	}
+	
+	/**
+	 * Returns the secrets found within the findings.
+	 * 
+	 * @return the class's secrets field, null if the findings were not searched.
+	 */
+	public List<SecretMatch> getSecrets() {
+		return this.secrets;
+	}
+	
+	/**
+	 * Returns the findings removed since the baseline.
+	 * 
+	 * @return the class's removed field, null if the result was not compared against a baseline.
+	 */
+	public Findings getRemoved() {
+		return this.removed;
+	}
+}
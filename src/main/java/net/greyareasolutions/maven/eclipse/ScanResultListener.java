@@ -0,0 +1,23 @@
+package net.greyareasolutions.maven.eclipse;
+
+/**
+ * The interface ScanResultListener is used to receive each {@link ScanResult} as soon as its
+ * request has finished, rather than waiting for every request to finish. The listener is
+ * typically passed to {@link MultiHtmlScanner#generateResponses(ScanResultListener)}.
+ * 
+ * As requests finish on separate threads, implementations must be thread-safe.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+@FunctionalInterface
+public interface ScanResultListener {
+	/*---- Method ----*/
+	/**
+	 * Called once for each request when it has finished, including requests that failed.
+	 * 
+	 * @param result outcome of the request.
+	 */
+	void onResult(ScanResult result);
+}
@@ -0,0 +1,108 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.Objects;
+
+/**
+ * The class SecretMatch is used to store a single match of a {@link SecretRule}, found by
+ * {@link SecretScanner} within a finding.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class SecretMatch {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the name of the rule which matched.
+	 */
+	private final String rule;
+	
+	/**
+	 * Field which stores the type of the finding the match was found in.
+	 */
+	private final FindingType type;
+	
+	/**
+	 * Field which stores the text which matched.
+	 */
+	private final String value;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param rule name of the rule which matched.
+	 * @param type type of the finding the match was found in.
+	 * @param value text which matched.
+	 */
+	public SecretMatch(String rule, FindingType type, String value) {
+		this.rule = rule;
+		this.type = type;
+		this.value = value;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the name of the rule which matched.
+	 * 
+	 * @return the class's rule field.
+	 */
+	public String getRule() {
+		return this.rule;
+	}
+	
+	/**
+	 * Returns the type of the finding the match was found in.
+	 * 
+	 * @return the class's type field.
+	 */
+	public FindingType getType() {
+		return this.type;
+	}
+	
+	/**
+	 * Returns the text which matched.
+	 * 
+	 * @return the class's value field.
+	 */
+	public String getValue() {
+		return this.value;
+	}
+	
+	/*---- Overridden Methods ----*/
+	/**
+	 * Returns whether another object is a match of the same rule, type, and text.
+	 * 
+	 * @param object object to compare.
+	 * @return true if the object is an equal match, otherwise false.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (!(object instanceof SecretMatch)) {
+			return false;
+		}
+		
+		SecretMatch other = (SecretMatch) object;
+		return this.rule.equals(other.rule) && this.type == other.type && this.value.equals(other.value);
+	}
+	
+	/**
+	 * Returns a hash code of the rule, type, and text.
+	 * 
+	 * @return the hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.rule, this.type, this.value);
+	}
+	
+	/**
+	 * Returns a readable form of the match, for example <i>AWS access key in comments: AKIA...</i>.
+	 * 
+	 * @return the readable form of the match.
+	 */
+	@Override
+	public String toString() {
+		return this.rule + " in " + this.type.getKey() + ": " + this.value;
+	}
+}
@@ -0,0 +1,256 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The class SecretRule is used to describe something which should be reported when found in
+ * a comment, hidden input, or meta element, such as an API key or the word <i>password</i>.
+ * A rule is either a set of keywords, found anywhere regardless of case, or a regular
+ * expression.
+ * 
+ * Every regular expression has a set of literals, at least one of which occurs in any text
+ * it matches. {@link SecretScanner} finds the literals of every rule in a single pass, and
+ * only runs the expressions whose literals were found. The literals are either supplied, or
+ * derived from the expression, and an expression without any literals is run on every text.
+ * 
+ * Rules can be loaded from a file via {@link #load(Path)}, with one rule per line:
+ * <pre>
+ * # A keyword, named after itself.
+ * TODO
+ * # A keyword with a name.
+ * internal host=corp.example.internal
+ * # A regular expression with a name.
+ * bearer token=/Bearer [A-Za-z0-9._-]{20,}/
+ * </pre>
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class SecretRule {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the shortest literal derived from an expression, shorter literals occur too often to filter anything.
+	 */
+	private static final int MIN_LITERAL = 3;
+	
+	/**
+	 * Constant which stores the characters with a special meaning in an expression.
+	 */
+	private static final String META_CHARACTERS = "\\.^$|?*+()[]{}";
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the name of the rule as reported.
+	 */
+	private final String name;
+	
+	/**
+	 * Field which stores the keywords of the rule, or the literals of its expression.
+	 */
+	private final List<String> literals;
+	
+	/**
+	 * Field which stores the expression of the rule, null if the rule only has keywords.
+	 */
+	private final Pattern pattern;
+	
+	/*---- Constructor ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param name name of the rule as reported.
+	 * @param literals keywords of the rule, or the literals of its expression.
+	 * @param pattern expression of the rule, or null if the rule only has keywords.
+	 */
+	private SecretRule(String name, List<String> literals, Pattern pattern) {
+		this.name = name;
+		this.literals = List.copyOf(literals);
+		this.pattern = pattern;
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Creates a rule which reports any of the keywords, regardless of case.
+	 * 
+	 * @param name name of the rule as reported.
+	 * @param keywords keywords of the rule.
+	 * @return the rule.
+	 */
+	public static SecretRule keywords(String name, String... keywords) {
+		return new SecretRule(name, List.of(keywords), null);
+	}
+	
+	/**
+	 * Creates a rule which reports each match of an expression.
+	 * 
+	 * @param name name of the rule as reported.
+	 * @param regex the expression.
+	 * @param literals literals at least one of which occurs in every match, or none to derive them from the expression.
+	 * @return the rule.
+	 * @throws PatternSyntaxException if the expression is not valid.
+	 */
+	public static SecretRule regex(String name, String regex, String... literals) {
+		return new SecretRule(name, literals.length > 0 ? List.of(literals) : literalsOf(regex), Pattern.compile(regex));
+	}
+	
+	/**
+	 * Returns the built-in rules, covering common API keys and tokens, private keys, and
+	 * keywords which often mark sensitive comments.
+	 * 
+	 * @return the built-in rules.
+	 */
+	public static List<SecretRule> defaults() {
+		return List.of(
+				regex("AWS access key", "\\b(?:AKIA|ASIA)[0-9A-Z]{16}\\b", "AKIA", "ASIA"),
+				regex("GitHub token", "\\bgh[pousr]_[A-Za-z0-9]{36,}", "ghp_", "gho_", "ghu_", "ghs_", "ghr_"),
+				regex("Slack token", "\\bxox[abprs]-[A-Za-z0-9-]{10,}", "xoxa-", "xoxb-", "xoxp-", "xoxr-", "xoxs-"),
+				regex("Google API key", "\\bAIza[0-9A-Za-z_-]{35}", "AIza"),
+				regex("Stripe key", "\\b(?:sk|pk|rk)_live_[0-9A-Za-z]{16,}", "_live_"),
+				regex("Private key", "-----BEGIN (?:[A-Z]+ )?PRIVATE KEY-----", "PRIVATE KEY-----"),
+				regex("JSON web token", "\\beyJ[A-Za-z0-9_-]{10,}\\.eyJ[A-Za-z0-9_-]{10,}\\.[A-Za-z0-9_-]*", "eyJ"),
+				regex("Credentials in URI", "\\b[a-z][a-z0-9+.-]*://[^\\s:/@]+:[^\\s:/@]+@", "://"),
+				keywords("Password", "password", "passwd", "pwd"),
+				keywords("Secret", "secret", "api_key", "apikey", "api-key", "access_token", "auth_token", "credentials"),
+				keywords("Task marker", "todo", "fixme", "hack", "xxx"),
+				keywords("Debug", "debug", "staging", "internal"));
+	}
+	
+	/**
+	 * Loads the rules of a file, one rule per line. A line is either a keyword, a keyword
+	 * preceded by a name and <i>=</i>, or an expression between slashes preceded by a name and
+	 * <i>=</i>. Empty lines and lines starting with <i>#</i> are skipped.
+	 * 
+	 * @param path path of the file.
+	 * @return the rules of the file.
+	 * @throws IOException if the file could not be read.
+	 * @throws PatternSyntaxException if an expression is not valid.
+	 */
+	public static List<SecretRule> load(Path path) throws IOException {
+		List<SecretRule> rules = new ArrayList<>();
+		for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+			String rule = line.strip();
+			if (rule.isEmpty() || rule.charAt(0) == '#') {
+				continue;
+			}
+			
+			// A line without a name is a keyword named after itself.
+			int separator = rule.indexOf('=');
+			String name = separator > 0 ? rule.substring(0, separator).strip() : rule;
+			String value = separator > 0 ? rule.substring(separator + 1).strip() : rule;
+			if (value.length() > 2 && value.startsWith("/") && value.endsWith("/")) {
+				rules.add(regex(name, value.substring(1, value.length() - 1)));
+			} else if (!value.isEmpty()) {
+				rules.add(keywords(name, value));
+			}
+		}
+		return rules;
+	}
+	
+	/**
+	 * This method derives a literal which occurs in every match of an expression, namely the
+	 * longest run of plain characters outside of any group, class, or optional character. An
+	 * expression holding an alternative at its top level may match without any single literal.
+	 * 
+	 * @param regex the expression.
+	 * @return the literal, or an empty list if no literal of at least three characters is certain.
+	 */
+	static List<String> literalsOf(String regex) {
+		String longest = "";
+		StringBuilder run = new StringBuilder();
+		int depth = 0;
+		boolean inClass = false;
+		
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			int length = run.length();
+			boolean literal = false;
+			
+			if (c == '\\' && i + 1 < regex.length()) {
+				// An escaped meta character is literal, other escapes such as \d are classes.
+				char escaped = regex.charAt(++i);
+				if (META_CHARACTERS.indexOf(escaped) >= 0 || escaped == '/' || escaped == '-') {
+					literal = !inClass && depth == 0;
+					c = escaped;
+				}
+			} else if (inClass) {
+				inClass = c != ']';
+			} else if (c == '[') {
+				inClass = true;
+			} else if (c == '{' && regex.indexOf('}', i) > 0) {
+				// Skip the bounds of a quantifier.
+				i = regex.indexOf('}', i);
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth = Math.max(0, depth - 1);
+			} else if (c == '|' && depth == 0) {
+				// Either side of the alternative may match, so no literal is certain.
+				return List.of();
+			} else if (depth == 0 && META_CHARACTERS.indexOf(c) < 0) {
+				literal = true;
+			}
+			
+			if (literal) {
+				run.append(c);
+				
+				// A character followed by a quantifier allowing none is not certain.
+				if (i + 1 < regex.length() && "?*{".indexOf(regex.charAt(i + 1)) >= 0) {
+					run.setLength(length);
+					literal = false;
+				} else if (i + 1 < regex.length() && regex.charAt(i + 1) == '+') {
+					literal = false;
+				}
+			}
+			
+			// Keep the longest run once it has ended.
+			if (!literal) {
+				if (run.length() > longest.length()) {
+					longest = run.toString();
+				}
+				run.setLength(0);
+			}
+		}
+		if (run.length() > longest.length()) {
+			longest = run.toString();
+		}
+		
+		return longest.length() >= MIN_LITERAL ? List.of(longest.toLowerCase(Locale.ROOT)) : List.of();
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the name of the rule as reported.
+	 * 
+	 * @return the class's name field.
+	 */
+	public String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Returns the keywords of the rule, or the literals of its expression.
+	 * 
+	 * @return the class's literals field, empty if the expression is run on every text.
+	 */
+	public List<String> getLiterals() {
+		return this.literals;
+	}
+	
+	/**
+	 * Returns the expression of the rule.
+	 * 
+	 * @return the class's pattern field, null if the rule only has keywords.
+	 */
+	public Pattern getPattern() {
+		return this.pattern;
+	}
+}
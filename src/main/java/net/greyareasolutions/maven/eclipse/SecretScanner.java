@@ -0,0 +1,173 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+/**
+ * The class SecretScanner is used to find secrets and keywords within the findings of a
+ * {@link ScanResult}, such as an API key left in a comment or a password in a hidden input,
+ * according to a list of {@link SecretRule}.
+ * 
+ * Each text is searched once, however many rules there are. The keywords of every rule, and
+ * the literals of every regular expression, are compiled into a single
+ * {@link KeywordAutomaton}. A keyword found by the automaton is a match of its rule, whilst a
+ * literal found marks its expression as a candidate, and only the candidates are then run
+ * against the text. The cost of a text without any secrets is therefore linear in its length,
+ * except for expressions without any literals, which are run on every text.
+ * 
+ * A scanner is immutable once built, and is safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class SecretScanner {
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the rules of the scanner.
+	 */
+	private final List<SecretRule> rules;
+	
+	/**
+	 * Field which stores the automaton holding the keywords and literals of every rule.
+	 */
+	private final KeywordAutomaton automaton;
+	
+	/**
+	 * Field which stores the rules of each keyword of the automaton, indexed by keyword.
+	 */
+	private final int[][] rulesOf;
+	
+	/**
+	 * Field which stores the expressions without any literals, run on every text.
+	 */
+	private final int[] unfiltered;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to compile the rules into a single automaton.
+	 * 
+	 * @param rules rules to find.
+	 */
+	public SecretScanner(List<SecretRule> rules) {
+		this.rules = List.copyOf(rules);
+		
+		// Share a keyword of the automaton between all rules using the same literal.
+		Map<String, List<Integer>> literals = new HashMap<>();
+		List<String> keywords = new ArrayList<>();
+		List<Integer> unfiltered = new ArrayList<>();
+		for (int i = 0; i < this.rules.size(); i++) {
+			SecretRule rule = this.rules.get(i);
+			if (rule.getLiterals().isEmpty() && rule.getPattern() != null) {
+				unfiltered.add(i);
+			}
+			
+			for (String literal : rule.getLiterals()) {
+				String key = literal.toLowerCase(Locale.ROOT);
+				List<Integer> owners = literals.get(key);
+				if (owners == null) {
+					owners = new ArrayList<>();
+					literals.put(key, owners);
+					keywords.add(key);
+				}
+				if (!owners.contains(i)) {
+					owners.add(i);
+				}
+			}
+		}
+		
+		this.automaton = new KeywordAutomaton(keywords);
+		this.rulesOf = new int[keywords.size()][];
+		for (int i = 0; i < keywords.size(); i++) {
+			this.rulesOf[i] = literals.get(keywords.get(i)).stream().mapToInt(Integer::intValue).toArray();
+		}
+		this.unfiltered = unfiltered.stream().mapToInt(Integer::intValue).toArray();
+	}
+	
+	/**
+	 * Constructor which uses the built-in rules. This constructor passes the built-in rules to
+	 * the top-level constructor.
+	 */
+	public SecretScanner() {
+		// Call the top-level constructor, setting the built-in rules.
+		this(SecretRule.defaults());
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * This method finds the matches of every rule within a text. Keywords are reported as they
+	 * appear in the text, and each distinct match is only reported once.
+	 * 
+	 * @param type type of the finding the text belongs to.
+	 * @param text text to search.
+	 * @return the matches in the order they were found, empty if there are none.
+	 */
+	public List<SecretMatch> scan(FindingType type, String text) {
+		Set<SecretMatch> matches = new LinkedHashSet<>();
+		boolean[] candidates = new boolean[this.rules.size()];
+		
+		// Report keywords straight away, and mark the expressions whose literals were found.
+		this.automaton.search(text, (keyword, start, end) -> {
+			for (int rule : this.rulesOf[keyword]) {
+				SecretRule secretRule = this.rules.get(rule);
+				if (secretRule.getPattern() == null) {
+					matches.add(new SecretMatch(secretRule.getName(), type, text.substring(start, end)));
+				} else {
+					candidates[rule] = true;
+				}
+			}
+		});
+		for (int rule : this.unfiltered) {
+			candidates[rule] = true;
+		}
+		
+		// Run only the candidate expressions.
+		for (int i = 0; i < candidates.length; i++) {
+			if (candidates[i]) {
+				Matcher matcher = this.rules.get(i).getPattern().matcher(text);
+				while (matcher.find()) {
+					matches.add(new SecretMatch(this.rules.get(i).getName(), type, matcher.group()));
+				}
+			}
+		}
+		
+		return matches.isEmpty() ? List.of() : new ArrayList<>(matches);
+	}
+	
+	/**
+	 * This method finds the matches of every rule within the findings of a result.
+	 * 
+	 * @param result result whose findings are searched.
+	 * @return a copy of the result holding the matches, or the result itself if it has no findings.
+	 */
+	public ScanResult scan(ScanResult result) {
+		Findings findings = result.getFindings();
+		if (findings == null) {
+			return result;
+		}
+		
+		Set<SecretMatch> secrets = new LinkedHashSet<>();
+		for (FindingType type : FindingType.values()) {
+			for (String finding : findings.get(type)) {
+				secrets.addAll(this.scan(type, finding));
+			}
+		}
+		return result.withSecrets(new ArrayList<>(secrets));
+	}
+	
+	/*---- Getter ----*/
+	/**
+	 * Returns the rules of the scanner.
+	 * 
+	 * @return the class's rules field.
+	 */
+	public List<SecretRule> getRules() {
+		return this.rules;
+	}
+}
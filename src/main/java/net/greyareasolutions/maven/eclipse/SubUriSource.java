@@ -0,0 +1,297 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The class SubUriSource is used to read the sub URIs of a wordlist lazily, rather than
+ * reading the whole file into a list before any request is sent. The file is memory-mapped
+ * in windows of {@link #DEFAULT_WINDOW_SIZE} bytes, meaning the heap used stays the same no
+ * matter the size of the file, and the first sub URI is available as soon as the file has
+ * been opened.
+ * 
+ * Each line is normalised whilst being read. Surrounding whitespace and any leading slashes
+ * are removed, as the sub URIs are appended to a root URI which ends with a slash. Empty
+ * lines and lines starting with <i>#</i> are skipped, as are lines which have already been
+ * read. Lines already read are remembered by a {@link VisitedSet}, which stores only a hash
+ * of each line outside of the heap.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * try (SubUriSource subUris = new SubUriSource(Path.of("wordlist.txt"))) {
+ *     new MultiHtmlScanner(engine, subUris).generateResponses(listener);
+ * }
+ * </pre>
+ * 
+ * Sub URIs are only read when the next one is requested, meaning a scanner which waits for
+ * a request to finish before taking the next sub URI never reads further than it sends.
+ * Each call to {@link #iterator()} reads the file again from its start. An iterator is not
+ * safe to use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class SubUriSource implements Iterable<String>, AutoCloseable {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of bytes mapped at once.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the channel of the wordlist file.
+	 */
+	private final FileChannel channel;
+	
+	/**
+	 * Field which stores the size of the wordlist file, in bytes.
+	 */
+	private final long size;
+	
+	/**
+	 * Field which stores the amount of bytes mapped at once, also the longest line which can be read.
+	 */
+	private final int windowSize;
+	
+	/**
+	 * Field which stores the position in the file reached by the iterator which read most recently.
+	 */
+	private volatile long position;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param path path of the wordlist file, one sub URI per line.
+	 * @param windowSize amount of bytes mapped at once, must be greater than 0.
+	 * @throws IOException if the file could not be opened.
+	 */
+	public SubUriSource(Path path, int windowSize) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.size = this.channel.size();
+		this.windowSize = windowSize;
+	}
+	
+	/**
+	 * Constructor which maps {@link #DEFAULT_WINDOW_SIZE} bytes at once.
+	 * 
+	 * @param path path of the wordlist file, one sub URI per line.
+	 * @throws IOException if the file could not be opened.
+	 */
+	public SubUriSource(Path path) throws IOException {
+		// Call the top-level constructor, setting default values.
+		this(path, DEFAULT_WINDOW_SIZE);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Returns an iterator over the normalised, distinct sub URIs of the file, reading the
+	 * file from its start.
+	 * 
+	 * @return an iterator which reads the next sub URI only once it is requested.
+	 * @throws UncheckedIOException from the iterator's methods if the file could not be mapped.
+	 */
+	@Override
+	public Iterator<String> iterator() {
+		return new SubUriIterator();
+	}
+	
+	/**
+	 * This method normalises a single line of the file.
+	 * 
+	 * @param line line of the file, without its line terminator.
+	 * @return the sub URI, or null if the line should be skipped.
+	 */
+	static String normalize(String line) {
+		// Remove surrounding whitespace, including the carriage return of Windows line endings.
+		String subUri = line.strip();
+		
+		// Skip empty lines and comments.
+		if (subUri.isEmpty() || subUri.charAt(0) == '#') {
+			return null;
+		}
+		
+		// Remove any leading slashes, as the root URI already ends with one.
+		int start = 0;
+		while (start < subUri.length() && subUri.charAt(start) == '/') {
+			start++;
+		}
+		
+		// Skip lines which only hold slashes.
+		return start == subUri.length() ? null : subUri.substring(start);
+	}
+	
+	/**
+	 * Returns the share of the file which has been read, by the iterator which read most
+	 * recently. As sub URIs are only read once they are sent, this is also roughly the share
+	 * of the scan which has been sent.
+	 * 
+	 * @return the share of the file read, between 0 and 1.
+	 */
+	public double getProgress() {
+		return this.size == 0 ? 1 : (double) this.position / this.size;
+	}
+	
+	/**
+	 * Closes the wordlist file. Any iterator in use can no longer map further windows.
+	 */
+	@Override
+	public void close() {
+		try {
+			this.channel.close();
+		} catch (IOException e) {
+			System.out.println("ERROR:\n" + e.getMessage() + " returned!" + "\nEXCEPTION:\n" + e.toString());
+		}
+	}
+	
+	/*---- Private Class ----*/
+	/**
+	 * This class is used to read the lines of the file one window at a time. A line which
+	 * crosses the end of a window is read again from a window starting at the line.
+	 * 
+	 * @author Max Harris - mjh@greyareasolutions.net
+	 * @version v0.0.1
+	 * @since 16-10-2026
+	 */
+	private class SubUriIterator implements Iterator<String> {
+		/*---- Fields ----*/
+		/**
+		 * Field which stores every sub URI returned so far.
+		 */
+		private final VisitedSet seen = new VisitedSet();
+		
+		/**
+		 * Field which stores the window currently mapped, null if none has been mapped yet.
+		 */
+		private MappedByteBuffer window;
+		
+		/**
+		 * Field which stores the position in the file of the start of the window.
+		 */
+		private long windowStart;
+		
+		/**
+		 * Field which stores the position in the file of the next line.
+		 */
+		private long position;
+		
+		/**
+		 * Field which stores the next sub URI, null if it has not been read yet.
+		 */
+		private String next;
+		
+		/*---- Overridden Methods ----*/
+		/**
+		 * Returns whether the file holds another sub URI, reading it if needed.
+		 * 
+		 * @return true if another sub URI is available.
+		 */
+		@Override
+		public boolean hasNext() {
+			// Read lines until a new sub URI is found or the file has ended.
+			while (this.next == null && this.position < SubUriSource.this.size) {
+				String subUri = normalize(this.readLine());
+				if (subUri != null && this.seen.add(subUri)) {
+					this.next = subUri;
+				}
+			}
+			
+			return this.next != null;
+		}
+		
+		/**
+		 * Returns the next sub URI.
+		 * 
+		 * @return the next normalised, distinct sub URI.
+		 * @throws NoSuchElementException if the file holds no further sub URIs.
+		 */
+		@Override
+		public String next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			String subUri = this.next;
+			this.next = null;
+			return subUri;
+		}
+		
+		/*---- Methods ----*/
+		/**
+		 * This method reads the line starting at the current position, moving the position past it.
+		 * 
+		 * @return the line, without its line terminator.
+		 */
+		private String readLine() {
+			// Map a window starting at the line if the current window does not hold it.
+			if (this.window == null || this.position >= this.windowStart + this.window.limit()) {
+				this.map(this.position);
+			}
+			
+			int start = (int) (this.position - this.windowStart);
+			int end = this.indexOfNewLine(start);
+			
+			// The line crosses the end of the window, map a window starting at the line.
+			if (end < 0 && this.windowStart + this.window.limit() < SubUriSource.this.size) {
+				if (start == 0) {
+					throw new UncheckedIOException(new IOException("A line of the sub-URI file is longer than " + SubUriSource.this.windowSize + " bytes!"));
+				}
+				
+				this.map(this.position);
+				start = 0;
+				end = this.indexOfNewLine(start);
+			}
+			
+			// The last line of the file may have no line terminator.
+			int length = (end < 0 ? this.window.limit() : end) - start;
+			
+			// Copy the line out of the window.
+			byte[] bytes = new byte[length];
+			this.window.get(start, bytes);
+			this.position += length + (end < 0 ? 0 : 1);
+			SubUriSource.this.position = this.position;
+			
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		
+		/**
+		 * This method finds the next line feed of the window.
+		 * 
+		 * @param from index within the window to start from.
+		 * @return the index of the line feed, or -1 if the rest of the window has none.
+		 */
+		private int indexOfNewLine(int from) {
+			for (int i = from; i < this.window.limit(); i++) {
+				if (this.window.get(i) == '\n') {
+					return i;
+				}
+			}
+			
+			return -1;
+		}
+		
+		/**
+		 * This method maps a window of the file.
+		 * 
+		 * @param start position in the file of the start of the window.
+		 */
+		private void map(long start) {
+			try {
+				long length = Math.min(SubUriSource.this.windowSize, SubUriSource.this.size - start);
+				this.window = SubUriSource.this.channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+				this.windowStart = start;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
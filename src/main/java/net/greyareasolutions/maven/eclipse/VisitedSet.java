@@ -0,0 +1,279 @@
+package net.greyareasolutions.maven.eclipse;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * The class VisitedSet is used to remember which URIs have already been seen, using around
+ * 11 to 21 bytes per URI rather than the hundreds of bytes taken by a {@code HashSet<String>}.
+ * Only a 64-bit hash of each URI is stored, within an open addressing table held outside of
+ * the heap, meaning millions of URIs neither grow the heap nor slow down garbage collection.
+ * 
+ * As only hashes are stored, two different URIs sharing a hash are treated as the same URI.
+ * With 64-bit hashes the chance of a new URI being wrongly reported as seen is roughly the
+ * amount of URIs divided by 2<sup>64</sup>, around one in 300 billion after 50 million URIs.
+ * 
+ * A {@link BloomFilter} may optionally be placed in front of the table. A URI which the filter
+ * reports as definitely new is inserted without searching the table for it first.
+ * 
+ * An example of the class's usage can be seen below:
+ * <pre>
+ * VisitedSet visited = new VisitedSet(50_000_000, false);
+ * if (visited.add(uri.toString())) {
+ *     // The URI has not been seen before.
+ * }
+ * </pre>
+ * 
+ * The table grows as needed, although sizing it for the expected amount of URIs avoids
+ * copying it. The memory is freed once the set is garbage collected. The class is safe to
+ * use from multiple threads at once.
+ * 
+ * @author Max Harris - mjh@greyareasolutions.net
+ * @version v0.0.1
+ * @since 16-10-2026
+ */
+public class VisitedSet {
+	/*---- Constants ----*/
+	/**
+	 * Constant which stores the default amount of URIs the set is sized for.
+	 */
+	public static final long DEFAULT_EXPECTED = 1 << 16;
+	
+	/**
+	 * Constant which stores the false positive rate of the optional Bloom filter.
+	 */
+	public static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+	
+	/**
+	 * Constant which stores the highest share of slots which are used before the table grows.
+	 */
+	private static final double MAX_LOAD = 0.75;
+	
+	/**
+	 * Constant which stores the base 2 logarithm of the amount of slots within each segment, as a single buffer is limited to 2GB.
+	 */
+	private static final int SEGMENT_SHIFT = 26;
+	
+	/**
+	 * Constant which stores the value of an empty slot, a hash of 0 is stored as {@link #ZERO_HASH} instead.
+	 */
+	private static final long EMPTY = 0;
+	
+	/**
+	 * Constant which stores the value stored in place of a hash of 0.
+	 */
+	private static final long ZERO_HASH = 0x9e3779b97f4a7c15L;
+	
+	/*---- Fields ----*/
+	/**
+	 * Field which stores the Bloom filter placed in front of the table, null if there is none.
+	 */
+	private final BloomFilter bloom;
+	
+	/**
+	 * Field which stores the segments of the table.
+	 */
+	private LongBuffer[] segments;
+	
+	/**
+	 * Field which stores the amount of slots of the table, always a power of 2.
+	 */
+	private long capacity;
+	
+	/**
+	 * Field which stores the amount of hashes stored.
+	 */
+	private long size;
+	
+	/*---- Constructors ----*/
+	/**
+	 * Core constructor that aims to initialise all declared fields of the class.
+	 * 
+	 * @param expected amount of URIs the set is sized for.
+	 * @param bloom true if a Bloom filter sized for the expected amount of URIs should be placed in front of the table.
+	 */
+	public VisitedSet(long expected, boolean bloom) {
+		this.bloom = bloom ? new BloomFilter(expected, BLOOM_FALSE_POSITIVE_RATE) : null;
+		this.capacity = capacityFor(expected);
+		this.segments = allocate(this.capacity);
+	}
+	
+	/**
+	 * Constructor which sets a default expected amount of URIs, without a Bloom filter.
+	 */
+	public VisitedSet() {
+		// Call the top-level constructor, setting default values.
+		this(DEFAULT_EXPECTED, false);
+	}
+	
+	/*---- Methods ----*/
+	/**
+	 * Adds a URI to the set.
+	 * 
+	 * @param uri normalised URI, see {@link LinkExtractor#normalize(java.net.URI)}.
+	 * @return true if the URI had not been seen before, otherwise false.
+	 */
+	public boolean add(CharSequence uri) {
+		return this.add(hashOf(uri));
+	}
+	
+	/**
+	 * Returns whether a URI has been added to the set.
+	 * 
+	 * @param uri normalised URI, see {@link LinkExtractor#normalize(java.net.URI)}.
+	 * @return true if the URI, or another URI with the same hash, has been added.
+	 */
+	public boolean contains(CharSequence uri) {
+		return this.contains(hashOf(uri));
+	}
+	
+	/**
+	 * Adds the hash of a URI to the set.
+	 * 
+	 * @param hash hash of the URI, see {@link #hashOf(CharSequence)}.
+	 * @return true if the hash had not been added before, otherwise false.
+	 */
+	public synchronized boolean add(long hash) {
+		// A hash the filter has never seen is definitely new, so only an empty slot needs to be found.
+		boolean known = this.bloom == null || !this.bloom.put(hash);
+		
+		// Find the slot holding the hash, or the first empty slot.
+		long slot = hash & (this.capacity - 1);
+		while (true) {
+			LongBuffer segment = this.segments[(int) (slot >>> SEGMENT_SHIFT)];
+			int index = (int) (slot & ((1 << SEGMENT_SHIFT) - 1));
+			long stored = segment.get(index);
+			if (stored == EMPTY) {
+				segment.put(index, hash);
+				break;
+			}
+			if (known && stored == hash) {
+				return false;
+			}
+			slot = (slot + 1) & (this.capacity - 1);
+		}
+		
+		// Grow the table once too many slots are used, as searches get longer.
+		if (++this.size > this.capacity * MAX_LOAD) {
+			this.grow();
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns whether the hash of a URI has been added to the set.
+	 * 
+	 * @param hash hash of the URI, see {@link #hashOf(CharSequence)}.
+	 * @return true if the hash has been added.
+	 */
+	public synchronized boolean contains(long hash) {
+		// Check to see if the filter rules the hash out.
+		if (this.bloom != null && !this.bloom.mightContain(hash)) {
+			return false;
+		}
+		
+		// Search the slots from the hash's slot until the hash or an empty slot is found.
+		long slot = hash & (this.capacity - 1);
+		while (true) {
+			long stored = this.segments[(int) (slot >>> SEGMENT_SHIFT)].get((int) (slot & ((1 << SEGMENT_SHIFT) - 1)));
+			if (stored == EMPTY) {
+				return false;
+			}
+			if (stored == hash) {
+				return true;
+			}
+			slot = (slot + 1) & (this.capacity - 1);
+		}
+	}
+	
+	/**
+	 * Doubles the amount of slots, moving every hash into the new table.
+	 */
+	private void grow() {
+		LongBuffer[] previous = this.segments;
+		this.capacity <<= 1;
+		this.segments = allocate(this.capacity);
+		
+		// Re-insert each hash, every hash is known to be unique.
+		for (LongBuffer segment : previous) {
+			for (int i = 0; i < segment.capacity(); i++) {
+				long hash = segment.get(i);
+				if (hash == EMPTY) {
+					continue;
+				}
+				long slot = hash & (this.capacity - 1);
+				while (this.segments[(int) (slot >>> SEGMENT_SHIFT)].get((int) (slot & ((1 << SEGMENT_SHIFT) - 1))) != EMPTY) {
+					slot = (slot + 1) & (this.capacity - 1);
+				}
+				this.segments[(int) (slot >>> SEGMENT_SHIFT)].put((int) (slot & ((1 << SEGMENT_SHIFT) - 1)), hash);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the hash of a URI, as stored by the set.
+	 * 
+	 * @param uri normalised URI.
+	 * @return the mixed 64-bit hash of the URI, never 0.
+	 */
+	public static long hashOf(CharSequence uri) {
+		long hash = Fingerprint.mix(Fingerprint.of(uri));
+		return hash == EMPTY ? ZERO_HASH : hash;
+	}
+	
+	/**
+	 * Returns the amount of slots needed to hold the expected amount of URIs.
+	 * 
+	 * @param expected amount of URIs.
+	 * @return a power of 2, at least 16.
+	 */
+	private static long capacityFor(long expected) {
+		long needed = (long) Math.ceil(Math.max(1, expected) / MAX_LOAD);
+		return Math.max(16, Long.highestOneBit(needed - 1) << 1);
+	}
+	
+	/**
+	 * Allocates the segments of a table outside of the heap.
+	 * 
+	 * @param capacity amount of slots, a power of 2.
+	 * @return the segments, each holding up to 2<sup>26</sup> slots.
+	 */
+	private static LongBuffer[] allocate(long capacity) {
+		int segmentSlots = (int) Math.min(capacity, 1L << SEGMENT_SHIFT);
+		LongBuffer[] segments = new LongBuffer[(int) (capacity / segmentSlots)];
+		for (int i = 0; i < segments.length; i++) {
+			// Direct buffers are zeroed, meaning every slot starts empty.
+			segments[i] = ByteBuffer.allocateDirect(segmentSlots * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+		}
+		return segments;
+	}
+	
+	/*---- Getters ----*/
+	/**
+	 * Returns the amount of URIs added.
+	 * 
+	 * @return the class's size field.
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+	
+	/**
+	 * Returns the amount of memory used by the table and the Bloom filter.
+	 * 
+	 * @return the size of the table, held outside of the heap, and the filter in bytes.
+	 */
+	public synchronized long getSizeInBytes() {
+		return this.capacity * Long.BYTES + (this.bloom != null ? this.bloom.getSizeInBytes() : 0);
+	}
+	
+	/**
+	 * Returns whether a Bloom filter is placed in front of the table.
+	 * 
+	 * @return true if the class's bloom field is set.
+	 */
+	public boolean hasBloomFilter() {
+		return this.bloom != null;
+	}
+}
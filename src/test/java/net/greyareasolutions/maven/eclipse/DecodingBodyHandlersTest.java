@@ -0,0 +1,82 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DecodingBodyHandlers}.
+ */
+public class DecodingBodyHandlersTest {
+	/**
+	 * Body which is compressed by each test.
+	 */
+	private static final String BODY = "<html><head><meta charset=\"utf-8\"></head><body>café</body></html>".repeat(50);
+	
+	/**
+	 * Gzip bodies are decompressed.
+	 */
+	@Test
+	public void decodesGzip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(BODY.getBytes(StandardCharsets.UTF_8));
+		}
+		assertEquals(BODY, decode(bytes.toByteArray(), "gzip"));
+	}
+	
+	/**
+	 * Deflate bodies are decompressed, whether sent in the zlib format or as raw deflate data.
+	 */
+	@Test
+	public void decodesDeflate() throws IOException {
+		for (boolean raw : new boolean[] { false, true }) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (OutputStream out = new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+				out.write(BODY.getBytes(StandardCharsets.UTF_8));
+			}
+			assertEquals(BODY, decode(bytes.toByteArray(), "Deflate"));
+		}
+	}
+	
+	/**
+	 * Bodies without a supported encoding are returned as they were received.
+	 */
+	@Test
+	public void passesThroughIdentity() throws IOException {
+		assertEquals(BODY, decode(BODY.getBytes(StandardCharsets.UTF_8), null));
+		assertEquals(BODY, decode(BODY.getBytes(StandardCharsets.UTF_8), "identity"));
+	}
+	
+	/**
+	 * Empty bodies, such as those of a 204 or 304 which still state an encoding, are not decompressed.
+	 */
+	@Test
+	public void passesThroughEmptyBody() throws IOException {
+		assertEquals("", decode(new byte[0], "gzip"));
+		assertEquals("", decode(new byte[0], "deflate"));
+	}
+	
+	/**
+	 * Decodes the bytes with the specified Content-Encoding header.
+	 */
+	private static String decode(byte[] bytes, String encoding) throws IOException {
+		HttpHeaders headers = HttpHeaders.of(encoding == null ? Map.of() : Map.of("Content-Encoding", List.of(encoding)), (name, value) -> true);
+		try (InputStream body = DecodingBodyHandlers.decode(new ByteArrayInputStream(bytes), headers)) {
+			return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link FindingsCache}.
+ */
+public class FindingsCacheTest {
+	/**
+	 * Types of findings used by each test.
+	 */
+	private static final Set<FindingType> TYPES = EnumSet.of(FindingType.COMMENT, FindingType.META);
+	
+	/**
+	 * Directory of the cache, removed after each test.
+	 */
+	@TempDir
+	Path directory;
+	
+	/**
+	 * Stored findings and validators are read back, including by a new cache over the same directory.
+	 */
+	@Test
+	public void storesEntries() throws IOException {
+		URI uri = URI.create("http://localhost/a");
+		Findings findings = new Findings();
+		findings.add(FindingType.COMMENT, "comment");
+		findings.add(FindingType.META, "<meta charset=\"utf-8\">");
+		
+		new FindingsCache(this.directory).put(uri, TYPES, "\"v1\"", null, findings);
+		FindingsCache.Entry entry = new FindingsCache(this.directory).get(uri, TYPES);
+		
+		assertNotNull(entry);
+		assertEquals("\"v1\"", entry.getETag());
+		assertNull(entry.getLastModified());
+		assertEquals(List.of("comment"), entry.getFindings().get(FindingType.COMMENT));
+		assertEquals(List.of("<meta charset=\"utf-8\">"), entry.getFindings().get(FindingType.META));
+	}
+	
+	/**
+	 * Entries are only reused for the same types, and are not stored without validators.
+	 */
+	@Test
+	public void missesOtherTypesAndUnvalidated() throws IOException {
+		FindingsCache cache = new FindingsCache(this.directory);
+		URI uri = URI.create("http://localhost/a");
+		
+		cache.put(uri, TYPES, null, "Fri, 16 Oct 2026 00:00:00 GMT", new Findings());
+		cache.put(URI.create("http://localhost/b"), TYPES, null, null, new Findings());
+		
+		assertNotNull(cache.get(uri, TYPES));
+		assertNull(cache.get(uri, EnumSet.of(FindingType.COMMENT)));
+		assertNull(cache.get(URI.create("http://localhost/b"), TYPES));
+	}
+	
+	/**
+	 * The least recently used entries are removed once the cache is too large.
+	 */
+	@Test
+	public void evictsLeastRecentlyUsed() throws IOException, InterruptedException {
+		Findings findings = new Findings();
+		findings.add(FindingType.COMMENT, "x".repeat(400));
+		FindingsCache cache = new FindingsCache(this.directory, 1000);
+		
+		cache.put(URI.create("http://localhost/a"), TYPES, "a", null, findings);
+		Thread.sleep(20);
+		cache.put(URI.create("http://localhost/b"), TYPES, "b", null, findings);
+		Thread.sleep(20);
+		cache.get(URI.create("http://localhost/a"), TYPES);
+		cache.put(URI.create("http://localhost/c"), TYPES, "c", null, findings);
+		
+		assertTrue(cache.getSize() <= 1000);
+		assertNotNull(cache.get(URI.create("http://localhost/a"), TYPES));
+		assertNull(cache.get(URI.create("http://localhost/b"), TYPES));
+		assertNotNull(cache.get(URI.create("http://localhost/c"), TYPES));
+	}
+}
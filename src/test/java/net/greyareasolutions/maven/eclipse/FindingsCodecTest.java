@@ -0,0 +1,54 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FindingsCodec}.
+ */
+public class FindingsCodecTest {
+	/**
+	 * Strings, including null, and the findings of each type are read back as they were written.
+	 */
+	@Test
+	public void readsWhatWasWritten() throws IOException {
+		Findings findings = new Findings();
+		findings.add(FindingType.COMMENT, "café");
+		findings.add(FindingType.META, "<meta name=\"a\">");
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			FindingsCodec.writeString(out, null);
+			FindingsCodec.writeString(out, "");
+			FindingsCodec.writeFindings(out, findings);
+		}
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertNull(FindingsCodec.readString(in));
+		assertEquals("", FindingsCodec.readString(in));
+		Findings read = FindingsCodec.readFindings(in);
+		assertEquals(List.of("café"), read.get(FindingType.COMMENT));
+		assertEquals(List.of(), read.get(FindingType.HIDDEN_INPUT));
+		assertEquals(List.of("<meta name=\"a\">"), read.get(FindingType.META));
+	}
+	
+	/**
+	 * A torn length, whether negative or longer than what follows, ends the stream.
+	 */
+	@Test
+	public void rejectsTornLength() {
+		assertThrows(EOFException.class, () -> FindingsCodec.readString(new DataInputStream(new ByteArrayInputStream(new byte[] { -1, -1, -1, -5 }))));
+		assertThrows(EOFException.class, () -> FindingsCodec.readString(new DataInputStream(new ByteArrayInputStream(new byte[] { 0, 0, 0, 9, 'a' }))));
+	}
+}
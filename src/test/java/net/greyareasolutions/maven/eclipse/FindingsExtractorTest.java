@@ -0,0 +1,112 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FindingsExtractor}.
+ */
+public class FindingsExtractorTest {
+	/**
+	 * HTML containing each type of finding, including comments outside of the html element.
+	 */
+	private static final String HTML = "<!-- top --><html><head><meta charset=\"utf-8\"><!-- head --></head>"
+			+ "<body><div><!-- nested --><input type=\"HIDDEN\" name=\"token\" value=\"1\"></div>"
+			+ "<input type=\"text\" name=\"visible\"><span type=\"hidden\">x</span></body></html><!-- end -->";
+	
+	/**
+	 * All requested types are collected in document order by a single pass.
+	 */
+	@Test
+	public void extractsEveryRequestedType() {
+		Document html = Jsoup.parse(HTML);
+		Findings findings = new FindingsExtractor(EnumSet.allOf(FindingType.class)).extract(html);
+		
+		assertEquals(List.of("top", "head", "nested", "end"), findings.get(FindingType.COMMENT));
+		assertEquals(List.of("<input type=\"HIDDEN\" name=\"token\" value=\"1\">", "<span type=\"hidden\">x</span>"), findings.get(FindingType.HIDDEN_INPUT));
+		assertEquals(List.of("<meta charset=\"utf-8\">"), findings.get(FindingType.META));
+	}
+	
+	/**
+	 * The visitor finds the same elements as the selectors it replaces.
+	 */
+	@Test
+	public void matchesSelectors() {
+		Document html = Jsoup.parse(HTML);
+		Findings findings = new FindingsExtractor(EnumSet.of(FindingType.HIDDEN_INPUT, FindingType.META)).extract(html);
+		
+		assertEquals(html.select("[type=hidden]").size(), findings.get(FindingType.HIDDEN_INPUT).size());
+		assertEquals(html.select("meta").size(), findings.get(FindingType.META).size());
+	}
+	
+	/**
+	 * Types which were not requested are left empty.
+	 */
+	@Test
+	public void ignoresUnrequestedTypes() {
+		Findings findings = new FindingsExtractor(EnumSet.of(FindingType.META)).extract(Jsoup.parse(HTML));
+		
+		assertTrue(findings.get(FindingType.COMMENT).isEmpty());
+		assertTrue(findings.get(FindingType.HIDDEN_INPUT).isEmpty());
+		assertEquals(1, findings.get(FindingType.META).size());
+	}
+	
+	/**
+	 * A streaming parse finds the same findings, in the same order, as a parse of the entire document.
+	 */
+	@Test
+	public void streamingMatchesDocument() throws IOException {
+		FindingsExtractor extractor = new FindingsExtractor(EnumSet.allOf(FindingType.class));
+		Findings expected = extractor.extract(Jsoup.parse(HTML));
+		Findings actual = extractor.extract(new StringReader(HTML), "");
+		
+		for (FindingType type : FindingType.values()) {
+			assertEquals(expected.get(type), actual.get(type));
+		}
+	}
+	
+	/**
+	 * A meta only streaming parse stops reading once the head has been completed.
+	 */
+	@Test
+	public void stopsAfterHead() throws IOException {
+		String html = "<html><head><meta name=\"a\"><title>t</title></head><body>"
+				+ "<p>text</p><!-- comment -->".repeat(100_000) + "<meta name=\"b\"></body></html>";
+		
+		// Count every character read by the parser.
+		int[] read = new int[1];
+		FilterReader reader = new FilterReader(new StringReader(html)) {
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				int count = super.read(buffer, offset, length);
+				read[0] += Math.max(count, 0);
+				return count;
+			}
+		};
+		
+		FindingsExtractor extractor = new FindingsExtractor(EnumSet.of(FindingType.META));
+		Findings findings = extractor.extract(reader, "");
+		
+		assertEquals(DocumentRegion.HEAD, extractor.getRegion());
+		assertEquals(List.of("<meta name=\"a\">"), findings.get(FindingType.META));
+		assertTrue(read[0] < html.length() / 10);
+	}
+	
+	/**
+	 * Requesting any type found outside of the head requires the entire document.
+	 */
+	@Test
+	public void widensRegion() {
+		assertEquals(DocumentRegion.DOCUMENT, new FindingsExtractor(EnumSet.of(FindingType.META, FindingType.COMMENT)).getRegion());
+	}
+}
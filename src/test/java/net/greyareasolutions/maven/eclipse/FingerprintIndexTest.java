@@ -0,0 +1,34 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FingerprintIndex}.
+ */
+public class FingerprintIndexTest {
+	/**
+	 * The first URI of each body is kept, and the least recently seen body is forgotten once the index is full.
+	 */
+	@Test
+	public void forgetsLeastRecentlySeen() {
+		FingerprintIndex index = new FingerprintIndex(2);
+		assertNull(index.putIfAbsent(1, URI.create("http://localhost/a"), new Findings()));
+		assertNull(index.putIfAbsent(2, URI.create("http://localhost/b"), new Findings()));
+		assertEquals(URI.create("http://localhost/a"), index.putIfAbsent(1, URI.create("http://localhost/c"), new Findings()).getUri());
+		
+		// The second body is now the least recently seen.
+		assertNull(index.putIfAbsent(3, URI.create("http://localhost/d"), new Findings()));
+		assertEquals(2, index.size());
+		assertNotNull(index.get(1));
+		assertNull(index.get(2));
+		assertNotNull(index.get(3));
+		assertThrows(IllegalArgumentException.class, () -> new FingerprintIndex(0));
+	}
+}
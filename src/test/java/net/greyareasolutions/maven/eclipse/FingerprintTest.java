@@ -0,0 +1,44 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Fingerprint}.
+ */
+public class FingerprintTest {
+	/**
+	 * Body which is fingerprinted by each test.
+	 */
+	private static final String BODY = "<html><body><!-- 404 -->Not Found</body></html>".repeat(1000);
+	
+	/**
+	 * A streamed body receives the same fingerprint as the same body read as a string.
+	 */
+	@Test
+	public void streamingMatchesString() throws IOException {
+		try (Fingerprint.HashingReader reader = new Fingerprint.HashingReader(new StringReader(BODY))) {
+			char[] buffer = new char[777];
+			while (reader.read(buffer, 0, buffer.length) >= 0) {
+				// Read the entire body.
+			}
+			
+			assertTrue(reader.isFinished());
+			assertEquals(Fingerprint.of(BODY), reader.getFingerprint());
+		}
+	}
+	
+	/**
+	 * Bodies which differ by a single character receive different fingerprints.
+	 */
+	@Test
+	public void distinguishesBodies() {
+		assertNotEquals(Fingerprint.of(BODY), Fingerprint.of(BODY.replaceFirst("404", "403")));
+	}
+}
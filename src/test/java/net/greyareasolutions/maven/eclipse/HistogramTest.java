@@ -0,0 +1,72 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Histogram}.
+ */
+public class HistogramTest {
+	/**
+	 * Every value falls within the bucket it is recorded in, and the buckets follow each other.
+	 */
+	@Test
+	public void bucketsCoverEveryValue() {
+		for (long value : new long[] {0, 1, 63, 64, 65, 127, 128, 1_000, 1_000_000, 123_456_789_000L, Long.MAX_VALUE}) {
+			int index = Histogram.indexOf(value);
+			assertTrue(Histogram.highestValueOf(index) >= value);
+			assertTrue(index == 0 || Histogram.highestValueOf(index - 1) < value);
+		}
+		
+		for (int index = 1; index < Histogram.indexOf(Long.MAX_VALUE); index++) {
+			assertEquals(index, Histogram.indexOf(Histogram.highestValueOf(index - 1) + 1));
+		}
+	}
+	
+	/**
+	 * Percentiles are within the precision of the buckets.
+	 */
+	@Test
+	public void percentilesAreWithinPrecision() {
+		Histogram histogram = new Histogram();
+		for (long value = 1; value <= 100_000; value++) {
+			histogram.record(value * 1_000);
+		}
+		
+		assertEquals(100_000, histogram.getCount());
+		assertEquals(100_000_000, histogram.getMax());
+		assertEquals(50_000_500, histogram.getMean(), 1);
+		assertEquals(50_000_000, histogram.getValueAtPercentile(0.50), 50_000_000 * 0.032);
+		assertEquals(99_000_000, histogram.getValueAtPercentile(0.99), 99_000_000 * 0.032);
+		assertEquals(100_000_000, histogram.getValueAtPercentile(1));
+	}
+	
+	/**
+	 * Values recorded from multiple threads are all counted.
+	 */
+	@Test
+	public void recordsFromMultipleThreads() throws InterruptedException {
+		Histogram histogram = new Histogram();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			long seed = i;
+			threads[i] = new Thread(() -> {
+				SplittableRandom random = new SplittableRandom(seed);
+				for (int j = 0; j < 10_000; j++) {
+					histogram.record(random.nextLong(1_000_000_000L));
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertEquals(40_000, histogram.getCount());
+		assertEquals(0, new Histogram().getValueAtPercentile(0.99));
+	}
+}
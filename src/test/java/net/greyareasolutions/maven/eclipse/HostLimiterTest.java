@@ -0,0 +1,99 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HostLimiter}.
+ */
+public class HostLimiterTest {
+	/**
+	 * Executor used by each limiter to wait for tokens.
+	 */
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	
+	/**
+	 * Stops the executor after each test.
+	 */
+	@AfterEach
+	public void shutdown() {
+		this.scheduler.shutdownNow();
+	}
+	
+	/**
+	 * No more permits than the limit are granted until one is released.
+	 */
+	@Test
+	public void limitsRequestsInFlight() throws Exception {
+		HostLimiter limiter = new HostLimiter(1000, 1000, 1, 1, this.scheduler);
+		
+		CompletableFuture<Void> first = limiter.acquire();
+		CompletableFuture<Void> second = limiter.acquire();
+		first.get(1, TimeUnit.SECONDS);
+		Thread.sleep(50);
+		assertFalse(second.isDone());
+		
+		limiter.release(1_000_000, 200);
+		second.get(1, TimeUnit.SECONDS);
+		assertEquals(1, limiter.getInFlight());
+	}
+	
+	/**
+	 * Permits are paced by the rate once the bucket is empty.
+	 */
+	@Test
+	public void pacesRequests() throws Exception {
+		HostLimiter limiter = new HostLimiter(20, 20, 10, 10, this.scheduler);
+		long start = System.nanoTime();
+		
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire().get(1, TimeUnit.SECONDS);
+		}
+		
+		// The first token is available immediately, the remaining four take 50ms each.
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+	}
+	
+	/**
+	 * Throttling responses halve both limits.
+	 */
+	@Test
+	public void decreasesOnThrottling() throws Exception {
+		HostLimiter limiter = new HostLimiter(10, 100, 4, 16, this.scheduler);
+		
+		limiter.acquire().get(1, TimeUnit.SECONDS);
+		limiter.release(1_000_000, 429);
+		
+		assertEquals(2, limiter.getLimit());
+		assertEquals(5, limiter.getRate(), 0.001);
+	}
+	
+	/**
+	 * Healthy responses raise the limits whilst requests are being held back.
+	 */
+	@Test
+	public void increasesWhilstHealthy() throws Exception {
+		HostLimiter limiter = new HostLimiter(1000, 2000, 1, 16, this.scheduler);
+		
+		CompletableFuture<Void> permit = limiter.acquire();
+		for (int i = 0; i < 4; i++) {
+			permit.get(1, TimeUnit.SECONDS);
+			permit = limiter.acquire();
+			CompletableFuture<Void> waiting = limiter.acquire();
+			limiter.release(1_000_000, 200);
+			limiter.cancel(waiting);
+		}
+		
+		assertTrue(limiter.getLimit() > 1);
+		assertTrue(limiter.getRate() > 1000);
+	}
+}
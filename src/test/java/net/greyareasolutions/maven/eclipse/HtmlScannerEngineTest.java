@@ -0,0 +1,187 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Unit tests for {@link HtmlScannerEngine}, along with {@link HtmlScanner} and {@link MultiHtmlScanner} which wrap it.
+ */
+public class HtmlScannerEngineTest {
+	/**
+	 * Server answering each path with a page holding a comment of the path, other than paths under /same/ which share one page.
+	 */
+	private HttpServer server;
+	
+	/**
+	 * Root URI of the server.
+	 */
+	private URI root;
+	
+	/**
+	 * Amount of requests received by the server.
+	 */
+	private final AtomicInteger requests = new AtomicInteger();
+	
+	/**
+	 * Starts the server on a free port of the loopback address.
+	 */
+	@BeforeEach
+	public void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.server.createContext("/", exchange -> {
+			this.requests.incrementAndGet();
+			String path = exchange.getRequestURI().getPath();
+			byte[] page = ("<html><!--" + (path.startsWith("/same/") ? "/same/" : path) + "--></html>").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+			exchange.sendResponseHeaders(200, page.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(page);
+			}
+		});
+		this.server.start();
+		this.root = URI.create("http://" + this.server.getAddress().getHostString() + ":" + this.server.getAddress().getPort() + "/");
+	}
+	
+	/**
+	 * Stops the server.
+	 */
+	@AfterEach
+	public void stopServer() {
+		this.server.stop(0);
+	}
+	
+	/**
+	 * The engine returns the findings of each page, whether sent synchronously or asynchronously.
+	 */
+	@Test
+	public void scansPages() throws Exception {
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(this.root))) {
+			engine.setExtractor(new FindingsExtractor(EnumSet.of(FindingType.COMMENT)));
+			
+			ScanResult result = engine.scan(this.root.resolve("a"));
+			assertEquals(200, result.getStatusCode());
+			assertEquals(List.of("/a"), result.getFindings().get(FindingType.COMMENT));
+			
+			ScanResult async = engine.scanAsync(this.root.resolve("b")).get();
+			assertEquals(200, async.getStatusCode());
+			assertEquals(List.of("/b"), async.getFindings().get(FindingType.COMMENT));
+		}
+	}
+	
+	/**
+	 * The wrappers send every request through a shared engine, which is left open for further requests.
+	 */
+	@Test
+	public void wrappersShareEngine() throws Exception {
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(this.root))) {
+			try (HtmlScanner scanner = new HtmlScanner(engine, this.root.resolve("single"))) {
+				assertSame(engine.getClient(), scanner.getClient());
+				assertEquals("<html><!--/single--></html>", scanner.getResponse().body());
+			}
+			
+			Map<URI, Integer> received = new ConcurrentHashMap<>();
+			new MultiHtmlScanner(engine, List.of("a", "b", "c")).generateResponses(result -> received.merge(result.getUri(), result.getStatusCode(), Integer::sum));
+			assertEquals(Map.of(this.root.resolve("a"), 200, this.root.resolve("b"), 200, this.root.resolve("c"), 200), received);
+			
+			// Neither wrapper closed the shared engine.
+			assertTrue(engine.scan(this.root.resolve("d")).isSuccessful());
+			assertEquals(5, this.requests.get());
+		}
+	}
+	
+	/**
+	 * Once deduplication is enabled, a second URI returning the same body reuses the findings of the first without being parsed.
+	 */
+	@Test
+	public void reportsDuplicateBodies() throws Exception {
+		AtomicInteger parsed = new AtomicInteger();
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(this.root))) {
+			engine.setExtractor(new FindingsExtractor(EnumSet.of(FindingType.COMMENT)) {
+				@Override
+				public Findings extract(Document html) {
+					parsed.incrementAndGet();
+					return super.extract(html);
+				}
+			});
+			
+			// Bodies are not deduplicated by default.
+			assertNull(engine.scan(this.root.resolve("same/a")).getDuplicateOf());
+			assertNull(engine.scan(this.root.resolve("same/b")).getDuplicateOf());
+			assertEquals(2, parsed.get());
+			
+			engine.setFingerprints(new FingerprintIndex());
+			ScanResult first = engine.scan(this.root.resolve("same/a"));
+			ScanResult second = engine.scan(this.root.resolve("same/b"));
+			assertNull(first.getDuplicateOf());
+			assertEquals(this.root.resolve("same/a"), second.getDuplicateOf());
+			assertEquals(List.of("/same/"), second.getFindings().get(FindingType.COMMENT));
+			assertEquals(3, parsed.get());
+		}
+	}
+	
+	/**
+	 * A request which throws whilst being processed still returns its permit, and asynchronous requests report it as a failure.
+	 */
+	@Test
+	public void releasesPermitOnException() throws Exception {
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(this.root)) ; AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(4)) {
+			engine.setLimiter(limiter);
+			engine.setRetryPolicy(new RetryPolicy(1));
+			engine.setExtractor(new FindingsExtractor(EnumSet.of(FindingType.COMMENT)) {
+				@Override
+				public Findings extract(Document html) {
+					throw new IllegalStateException("extractor failed");
+				}
+			});
+			
+			assertThrows(IllegalStateException.class, () -> engine.scan(this.root.resolve("a")));
+			ScanResult result = engine.scanAsync(this.root.resolve("b")).get(5, TimeUnit.SECONDS);
+			assertEquals(IllegalStateException.class, result.getException().getClass());
+			assertEquals(0, limiter.forHost(this.root).getInFlight());
+		}
+	}
+	
+	/**
+	 * Asynchronous requests hand each sub-URI to the listener exactly once, even if the listener throws.
+	 */
+	@Test
+	public void sendsAsyncRequests() throws Exception {
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(this.root))) {
+			MultiHtmlScanner scanner = new MultiHtmlScanner(engine, List.of("a", "b", "c", "d"));
+			scanner.setExecutionMode(ExecutionMode.ASYNC);
+			scanner.setConcurrency(2);
+			
+			Map<URI, Integer> received = new ConcurrentHashMap<>();
+			scanner.generateResponses(result -> {
+				received.merge(result.getUri(), 1, Integer::sum);
+				if (result.getUri().getPath().equals("/b")) {
+					throw new IllegalStateException("listener failed");
+				}
+			});
+			assertEquals(Map.of(this.root.resolve("a"), 1, this.root.resolve("b"), 1, this.root.resolve("c"), 1, this.root.resolve("d"), 1), received);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeywordAutomaton}.
+ */
+public class KeywordAutomatonTest {
+	/**
+	 * Overlapping keywords, and keywords within other keywords, are all found.
+	 */
+	@Test
+	public void findsOverlappingKeywords() {
+		KeywordAutomaton automaton = new KeywordAutomaton(List.of("he", "she", "his", "hers"));
+		
+		assertEquals(List.of("she@1", "he@2", "hers@2"), search(automaton, List.of("he", "she", "his", "hers"), "ushers"));
+		assertEquals(List.of("his@0", "she@2", "he@3"), search(automaton, List.of("he", "she", "his", "hers"), "hishe"));
+	}
+	
+	/**
+	 * Case is ignored, including outside of ASCII.
+	 */
+	@Test
+	public void ignoresCase() {
+		List<String> keywords = List.of("Password", "ÜBER");
+		KeywordAutomaton automaton = new KeywordAutomaton(keywords);
+		
+		assertEquals(List.of("Password@4", "ÜBER@17"), search(automaton, keywords, "the PASSWORD is: über"));
+		assertEquals(List.of(), search(automaton, keywords, "passwor"));
+	}
+	
+	/**
+	 * Many keywords find the same occurrences as searching for each keyword in turn.
+	 */
+	@Test
+	public void matchesNaiveSearch() {
+		SplittableRandom random = new SplittableRandom(42);
+		List<String> keywords = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			keywords.add(randomText(random, 1 + random.nextInt(5)));
+		}
+		String text = randomText(random, 20_000);
+		
+		List<String> expected = new ArrayList<>();
+		for (int end = 1; end <= text.length(); end++) {
+			for (int i = 0; i < keywords.size(); i++) {
+				String keyword = keywords.get(i);
+				if (keyword.length() <= end && text.startsWith(keyword, end - keyword.length()) && keywords.indexOf(keyword) == i) {
+					expected.add(keyword + "@" + (end - keyword.length()));
+				}
+			}
+		}
+		
+		List<String> found = search(new KeywordAutomaton(keywords), keywords, text);
+		found.sort(null);
+		expected.sort(null);
+		assertEquals(expected, found);
+	}
+	
+	/**
+	 * This method searches a text, describing each occurrence as the keyword and its start.
+	 * 
+	 * @param automaton automaton to search with.
+	 * @param keywords keywords of the automaton.
+	 * @param text text to search.
+	 * @return the occurrences in the order they were reported.
+	 */
+	private static List<String> search(KeywordAutomaton automaton, List<String> keywords, String text) {
+		List<String> found = new ArrayList<>();
+		automaton.search(text, (keyword, start, end) -> found.add(keywords.get(keyword) + "@" + start));
+		return found;
+	}
+	
+	/**
+	 * This method creates a random text from a small alphabet, so that keywords often occur.
+	 * 
+	 * @param random source of randomness.
+	 * @param length length of the text.
+	 * @return the text.
+	 */
+	private static String randomText(SplittableRandom random, int length) {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append("abcd".charAt(random.nextInt(4)));
+		}
+		return text.toString();
+	}
+}
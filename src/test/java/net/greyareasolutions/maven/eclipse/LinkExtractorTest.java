@@ -0,0 +1,64 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LinkExtractor}.
+ */
+public class LinkExtractorTest {
+	/**
+	 * HTML holding links of every kind, of the same and other origins.
+	 */
+	private static final String HTML = "<html><head><link rel=\"stylesheet\" href=\"style.css\"><script src=\"/app.js\"></script></head>"
+			+ "<body><a href=\"docs/\">a</a><a href=\"docs/#top\">b</a><a href=\"HTTP://Example.com:80/docs/./\">c</a>"
+			+ "<a href=\"https://example.com/\">d</a><a href=\"mailto:a@b.c\">e</a><a href=\"../login?next=%2Fadmin\">f</a>"
+			+ "<form></form><form action=\"/submit\"></form></body></html>";
+	
+	/**
+	 * Same-origin links are found and normalised, in the order they appear.
+	 */
+	@Test
+	public void extractsSameOriginLinks() {
+		LinkExtractor extractor = new LinkExtractor(URI.create("http://example.com"));
+		List<URI> links = extractor.extract(Jsoup.parse(HTML, "http://example.com/site/"));
+		
+		assertEquals(List.of(URI.create("http://example.com/site/style.css"), URI.create("http://example.com/app.js"),
+				URI.create("http://example.com/site/docs/"), URI.create("http://example.com/docs/"),
+				URI.create("http://example.com/login?next=%2Fadmin"), URI.create("http://example.com/site/"),
+				URI.create("http://example.com/submit")), links);
+	}
+	
+	/**
+	 * Links found whilst streaming match those of the parsed document, even though only meta elements are requested.
+	 */
+	@Test
+	public void extractsLinksWhilstStreaming() throws Exception {
+		LinkExtractor extractor = new LinkExtractor(URI.create("http://example.com/"));
+		Set<URI> links = new LinkedHashSet<>();
+		new FindingsExtractor(EnumSet.of(FindingType.META)).extract(new StringReader(HTML), "http://example.com/site/", element -> extractor.extract(element, links));
+		
+		assertEquals(extractor.extract(Jsoup.parse(HTML, "http://example.com/site/")), List.copyOf(links));
+	}
+	
+	/**
+	 * Normalisation removes default ports, fragments, and dot segments, and rejects other schemes.
+	 */
+	@Test
+	public void normalizesUris() {
+		assertEquals(URI.create("https://example.com/"), LinkExtractor.normalize(URI.create("HTTPS://EXAMPLE.com:443")));
+		assertEquals(URI.create("http://example.com:8080/a/c?x=%20"), LinkExtractor.normalize(URI.create("http://example.com:8080/a/b/../c?x=%20#frag")));
+		assertNull(LinkExtractor.normalize(URI.create("mailto:a@b.c")));
+		assertNull(LinkExtractor.normalize(URI.create("ftp://example.com/")));
+	}
+}
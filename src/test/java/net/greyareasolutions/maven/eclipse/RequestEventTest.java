@@ -0,0 +1,99 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Flow;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for {@link RequestEvent}, along with the other events of a request.
+ */
+public class RequestEventTest {
+	/**
+	 * Directory the recording is written to.
+	 */
+	@TempDir
+	Path directory;
+	
+	/**
+	 * A recorded request holds the status, version, and bytes of its response, and its body and extraction are recorded.
+	 */
+	@Test
+	public void recordsRequest() throws IOException {
+		Path file = this.directory.resolve("scan.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(RequestEvent.class);
+			recording.enable(BodyReadEvent.class);
+			recording.enable(ExtractEvent.class);
+			recording.start();
+			
+			URI uri = URI.create("http://localhost/login/");
+			RequestEvent event = RequestEvent.start(uri, false);
+			BodySubscriber<String> subscriber = BodyReadEvent.record(HttpResponse.BodyHandlers.ofString(), event).apply(new HttpResponse.ResponseInfo() {
+				@Override
+				public int statusCode() {
+					return 200;
+				}
+				
+				@Override
+				public HttpHeaders headers() {
+					return HttpHeaders.of(Map.of(), (name, value) -> true);
+				}
+				
+				@Override
+				public HttpClient.Version version() {
+					return HttpClient.Version.HTTP_2;
+				}
+			});
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+				
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onNext(List.of(ByteBuffer.wrap("<p><!-- a --></p>".getBytes(StandardCharsets.UTF_8))));
+			subscriber.onComplete();
+			event.end(new ScanResult(uri, null, null, null, null));
+			RequestEvent.start(uri, false).end(new ScanResult(uri, null, null, null, new IOException("reset")));
+			
+			new FindingsExtractor(Set.of(FindingType.COMMENT)).extract(Jsoup.parse(subscriber.getBody().toCompletableFuture().join(), uri.toString()));
+			recording.stop();
+			recording.dump(file);
+		}
+		
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		List<RecordedEvent> requests = events.stream().filter(recorded -> recorded.getEventType().getName().endsWith(".Request")).toList();
+		assertEquals(2, requests.size());
+		assertEquals("http://localhost/login/", requests.get(0).getString("uri"));
+		assertEquals(200, requests.get(0).getInt("status"));
+		assertEquals("HTTP_2", requests.get(0).getString("version"));
+		assertEquals(17, requests.get(0).getLong("bytes"));
+		assertTrue(requests.get(1).getString("error").contains("reset"));
+		
+		assertTrue(events.stream().anyMatch(recorded -> recorded.getEventType().getName().endsWith(".BodyRead") && recorded.getLong("bytes") == 17));
+		assertTrue(events.stream().anyMatch(recorded -> recorded.getEventType().getName().endsWith(".Extract") && recorded.getInt("found") == 1));
+	}
+}
@@ -0,0 +1,110 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RequestTemplate}.
+ */
+public class RequestTemplateTest {
+	/**
+	 * Each request holds the headers and timeout, and restricted headers are dropped once.
+	 */
+	@Test
+	public void appliesHeaders() {
+		HttpOptions options = new HttpOptions(URI.create("http://localhost/"));
+		options.addHeader("X-First", "1");
+		options.addHeader("Host", "example.com");
+		options.addHeader("X-Second", "2");
+		options.setTimeout(Duration.ofSeconds(3));
+		RequestTemplate template = new RequestTemplate(options, true);
+		
+		assertEquals(Set.of("X-First", "X-Second"), template.getHeaders().keySet());
+		
+		HttpRequest first = template.request(URI.create("http://localhost/a"));
+		HttpRequest second = template.request(URI.create("http://localhost/b"));
+		assertEquals(URI.create("http://localhost/a"), first.uri());
+		assertEquals(URI.create("http://localhost/b"), second.uri());
+		assertEquals(Optional.of("2"), second.headers().firstValue("X-Second"));
+		assertEquals(Optional.of(DecodingBodyHandlers.ACCEPT_ENCODING), first.headers().firstValue("Accept-Encoding"));
+		assertEquals(Optional.empty(), first.headers().firstValue("Host"));
+		assertEquals(Optional.of(Duration.ofSeconds(3)), first.timeout());
+		assertEquals("GET", first.method());
+		
+		// Headers added to a builder are not shared with later requests.
+		template.builder(URI.create("http://localhost/a")).setHeader("If-None-Match", "\"1\"").build();
+		assertEquals(Optional.empty(), template.request(URI.create("http://localhost/a")).headers().firstValue("If-None-Match"));
+		assertNotSame(first, template.request(URI.create("http://localhost/a")));
+	}
+	
+	/**
+	 * A supplied encoding is kept, and no encoding is requested if compression is disabled.
+	 */
+	@Test
+	public void keepsSuppliedEncoding() {
+		HttpOptions options = new HttpOptions(URI.create("http://localhost/"));
+		assertTrue(new RequestTemplate(options, false).request(URI.create("http://localhost/")).headers().firstValue("Accept-Encoding").isEmpty());
+		
+		options.addHeader("accept-encoding", "identity");
+		assertEquals(List.of("identity"), new RequestTemplate(options, true).request(URI.create("http://localhost/")).headers().allValues("Accept-Encoding"));
+	}
+	
+	/**
+	 * Toggling compression keeps the validated headers and timeout, and returns the same template if nothing changes.
+	 */
+	@Test
+	public void derivesCompressedTemplate() {
+		HttpOptions options = new HttpOptions(URI.create("http://localhost/"));
+		options.addHeader("X-First", "1");
+		options.setTimeout(Duration.ofSeconds(3));
+		RequestTemplate template = new RequestTemplate(options, true);
+		
+		assertSame(template, template.withCompressed(true));
+		HttpRequest request = template.withCompressed(false).request(URI.create("http://localhost/a"));
+		assertEquals(Optional.empty(), request.headers().firstValue("Accept-Encoding"));
+		assertEquals(Optional.of("1"), request.headers().firstValue("X-First"));
+		assertEquals(Optional.of(Duration.ofSeconds(3)), request.timeout());
+		assertEquals(Optional.of(DecodingBodyHandlers.ACCEPT_ENCODING), template.withCompressed(false).withCompressed(true).request(URI.create("http://localhost/a")).headers().firstValue("Accept-Encoding"));
+	}
+	
+	/**
+	 * Cookies are split on their first "=", and parts without a name are skipped.
+	 */
+	@Test
+	public void parsesCookies() {
+		List<HttpCookie> cookies = RequestTemplate.parseCookies("a=1; b=x=y;;=skipped;c");
+		
+		assertEquals(2, cookies.size());
+		assertEquals("a", cookies.get(0).getName());
+		assertEquals("1", cookies.get(0).getValue());
+		assertEquals("b", cookies.get(1).getName());
+		assertEquals("x=y", cookies.get(1).getValue());
+		assertEquals("/", cookies.get(1).getPath());
+		assertEquals(List.of(), RequestTemplate.parseCookies(null));
+		assertEquals("none", HtmlScannerEngine.generateCookie("").getName());
+	}
+	
+	/**
+	 * Sub URIs are appended to the root URI as they are.
+	 */
+	@Test
+	public void resolvesSubUris() throws URISyntaxException {
+		RequestTemplate template = new RequestTemplate(new HttpOptions(URI.create("http://localhost/app/")), true);
+		
+		assertEquals(URI.create("http://localhost/app/login/"), template.resolve("login/"));
+		assertEquals(URI.create("http://localhost/app/?q=1"), template.resolve("?q=1"));
+	}
+}
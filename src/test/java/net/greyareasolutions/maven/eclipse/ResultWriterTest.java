@@ -0,0 +1,173 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResultWriter}.
+ */
+public class ResultWriterTest {
+	/**
+	 * Types of findings used by each test.
+	 */
+	private static final Set<FindingType> TYPES = EnumSet.of(FindingType.COMMENT, FindingType.HIDDEN_INPUT);
+	
+	/**
+	 * Each result is written as a JSON object on its own line, escaping its strings.
+	 */
+	@Test
+	public void writesNdjson() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ResultWriter writer = new ResultWriter(out, OutputFormat.NDJSON, TYPES, false)) {
+			writer.onResult(success("http://localhost/a", "say \"hi\"\n"));
+			writer.onResult(new ScanResult(URI.create("http://localhost/b"), null, new ConnectException("refused")));
+		}
+		
+		assertEquals("{\"uri\":\"http://localhost/a\",\"status\":200,\"comments\":[\"say \\\"hi\\\"\\n\"],\"hiddenInputs\":[]}\n"
+				+ "{\"uri\":\"http://localhost/b\",\"error\":\"java.net.ConnectException: refused\"}\n", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Each finding is written as a CSV row, quoting fields where needed, and the output may be compressed.
+	 */
+	@Test
+	public void writesCompressedCsv() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ResultWriter writer = new ResultWriter(out, OutputFormat.CSV, TYPES, true)) {
+			writer.onResult(success("http://localhost/a", "one, two"));
+			writer.onResult(success("http://localhost/b", null));
+		}
+		
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			assertEquals("uri,status,type,value\n"
+					+ "http://localhost/a,200,comments,\"one, two\"\n"
+					+ "http://localhost/b,200,,\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+	
+	/**
+	 * Every record is written in order when more records are queued than the queue holds.
+	 */
+	@Test
+	public void waitsWhenQueueIsFull() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		StringBuilder expected = new StringBuilder("uri,status,type,value\n");
+		try (ResultWriter writer = new ResultWriter(out, OutputFormat.CSV, TYPES, false, 4)) {
+			for (int i = 0; i < 1000; i++) {
+				writer.onResult(success("http://localhost/" + i, null));
+				expected.append("http://localhost/").append(i).append(",200,,\n");
+			}
+		}
+		
+		assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * The findings removed since a baseline are written after those added.
+	 */
+	@Test
+	public void writesDiff() throws IOException {
+		Findings removed = new Findings();
+		removed.add(FindingType.HIDDEN_INPUT, "<input type=\"hidden\" name=\"debug\">");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ResultWriter writer = new ResultWriter(out, OutputFormat.NDJSON, TYPES, false)) {
+			ScanResult result = success("http://localhost/a", "new");
+			writer.onResult(result.asDiff(result.getFindings(), removed));
+		}
+		
+		assertEquals("{\"uri\":\"http://localhost/a\",\"status\":200,\"comments\":[\"new\"],\"hiddenInputs\":[],\"removed\":{\"comments\":[],\"hiddenInputs\":[\"<input type=\\\"hidden\\\" name=\\\"debug\\\">\"]}}\n", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Creates the result of a successful request.
+	 * 
+	 * @param uri URI that the request was sent to.
+	 * @param comment comment found in the body, or null if none was found.
+	 * @return the result.
+	 */
+	private static ScanResult success(String uri, String comment) {
+		Findings findings = new Findings();
+		if (comment != null) {
+			findings.add(FindingType.COMMENT, comment);
+		}
+		return new ScanResult(URI.create(uri), new StubResponse(URI.create(uri)), null).withFindings(findings);
+	}
+	
+	/**
+	 * Response with a status of 200 and an empty body.
+	 */
+	static class StubResponse implements HttpResponse<String> {
+		/**
+		 * URI of the response.
+		 */
+		private final URI uri;
+		
+		/**
+		 * Creates a response.
+		 * 
+		 * @param uri URI of the response.
+		 */
+		StubResponse(URI uri) {
+			this.uri = uri;
+		}
+		
+		@Override
+		public int statusCode() {
+			return 200;
+		}
+		
+		@Override
+		public HttpRequest request() {
+			return HttpRequest.newBuilder(this.uri).build();
+		}
+		
+		@Override
+		public Optional<HttpResponse<String>> previousResponse() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public HttpHeaders headers() {
+			return HttpHeaders.of(Map.of(), (name, value) -> true);
+		}
+		
+		@Override
+		public String body() {
+			return "";
+		}
+		
+		@Override
+		public Optional<SSLSession> sslSession() {
+			return Optional.empty();
+		}
+		
+		@Override
+		public URI uri() {
+			return this.uri;
+		}
+		
+		@Override
+		public HttpClient.Version version() {
+			return HttpClient.Version.HTTP_1_1;
+		}
+	}
+}
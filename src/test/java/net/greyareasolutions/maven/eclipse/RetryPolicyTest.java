@@ -0,0 +1,83 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RetryPolicy}.
+ */
+public class RetryPolicyTest {
+	/**
+	 * Only I/O failures are retried, and only whilst attempts remain.
+	 */
+	@Test
+	public void retriesTransientFailures() {
+		RetryPolicy policy = new RetryPolicy(3);
+		
+		assertTrue(policy.shouldRetry(failure(new HttpTimeoutException("timed out")), 1));
+		assertTrue(policy.shouldRetry(failure(new IOException("reset")), 2));
+		assertFalse(policy.shouldRetry(failure(new IOException("reset")), 3));
+		assertFalse(policy.shouldRetry(failure(new InterruptedException()), 1));
+		assertFalse(RetryPolicy.NONE.shouldRetry(failure(new IOException("reset")), 1));
+	}
+	
+	/**
+	 * Each delay is within the exponential bound, which is capped by the maximum delay.
+	 */
+	@Test
+	public void backsOffWithinBounds() {
+		RetryPolicy policy = new RetryPolicy(10, 100, 1000);
+		ScanResult result = failure(new IOException("reset"));
+		
+		for (int i = 0; i < 100; i++) {
+			long first = policy.delayOf(result, 1);
+			long fourth = policy.delayOf(result, 4);
+			long tenth = policy.delayOf(result, 10);
+			assertTrue(first >= 0 && first <= 100);
+			assertTrue(fourth >= 0 && fourth <= 800);
+			assertTrue(tenth >= 0 && tenth <= 1000);
+		}
+	}
+	
+	/**
+	 * Retry-After is read as either seconds or an HTTP date.
+	 */
+	@Test
+	public void readsRetryAfter() {
+		long now = System.currentTimeMillis();
+		String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+		
+		assertEquals(5000, RetryPolicy.retryAfterOf(headers("5"), now));
+		assertTrue(Math.abs(RetryPolicy.retryAfterOf(headers(date), now) - 30_000) < 2000);
+		assertEquals(0, RetryPolicy.retryAfterOf(headers("Thu, 01 Jan 1970 00:00:00 GMT"), now));
+		assertEquals(-1, RetryPolicy.retryAfterOf(headers("soon"), now));
+		assertEquals(-1, RetryPolicy.retryAfterOf(HttpHeaders.of(Map.of(), (name, value) -> true), now));
+	}
+	
+	/**
+	 * Creates a failed result.
+	 */
+	private static ScanResult failure(Exception exception) {
+		return new ScanResult(URI.create("http://localhost/"), null, exception);
+	}
+	
+	/**
+	 * Creates headers holding a Retry-After header.
+	 */
+	private static HttpHeaders headers(String retryAfter) {
+		return HttpHeaders.of(Map.of("Retry-After", List.of(retryAfter)), (name, value) -> true);
+	}
+}
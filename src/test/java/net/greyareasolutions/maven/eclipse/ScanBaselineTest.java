@@ -0,0 +1,104 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ScanBaseline}.
+ */
+public class ScanBaselineTest {
+	/**
+	 * Root URI of each scan.
+	 */
+	private static final URI ROOT = URI.create("http://localhost/");
+	
+	/**
+	 * Types of findings used by each test.
+	 */
+	private static final Set<FindingType> TYPES = EnumSet.of(FindingType.COMMENT, FindingType.HIDDEN_INPUT);
+	
+	/**
+	 * Only the findings added and removed since the previous scan are kept, and unchanged pages are dropped.
+	 */
+	@Test
+	public void comparesAgainstPreviousScan(@TempDir Path directory) throws IOException {
+		Path path = directory.resolve("site.baseline");
+		try (ScanBaseline baseline = new ScanBaseline(path, ROOT, TYPES)) {
+			ScanResult first = baseline.diff(result("http://localhost/a", 1, "kept", "removed"));
+			assertEquals(List.of("kept", "removed"), first.getFindings().get(FindingType.COMMENT));
+			assertEquals(1, baseline.getAdded());
+		}
+		
+		try (ScanBaseline baseline = new ScanBaseline(path, ROOT, TYPES)) {
+			assertEquals(1, baseline.getPrevious());
+			assertEquals(1, baseline.get(URI.create("http://localhost/a")).getFingerprint());
+			
+			assertNull(baseline.diff(result("http://localhost/a", 1, "kept", "removed")));
+			
+			ScanResult changed = baseline.diff(result("http://localhost/a", 2, "kept", "added"));
+			assertEquals(List.of("added"), changed.getFindings().get(FindingType.COMMENT));
+			assertEquals(List.of("removed"), changed.getRemoved().get(FindingType.COMMENT));
+			assertEquals(1, baseline.getChanged());
+			assertEquals(1, baseline.getUnchanged());
+		}
+		
+		try (ScanBaseline baseline = new ScanBaseline(path, ROOT, TYPES)) {
+			ScanResult changed = baseline.diff(result("http://localhost/a", 3, "added"));
+			assertEquals(List.of(), changed.getFindings().get(FindingType.COMMENT));
+			assertEquals(List.of("kept"), changed.getRemoved().get(FindingType.COMMENT));
+			
+			// A different body with the same findings is not written.
+			assertNull(baseline.diff(result("http://localhost/a", 4, "added")));
+		}
+	}
+	
+	/**
+	 * Failed requests are not compared, so that they are still written.
+	 */
+	@Test
+	public void keepsFailures(@TempDir Path directory) throws IOException {
+		try (ScanBaseline baseline = new ScanBaseline(directory.resolve("site.baseline"), ROOT, TYPES)) {
+			ScanResult failure = new ScanResult(URI.create("http://localhost/a"), null, new IOException("refused"));
+			assertEquals(failure, baseline.diff(failure));
+			assertNull(baseline.get(URI.create("http://localhost/a")));
+		}
+	}
+	
+	/**
+	 * A baseline is not compared against a scan of other types of findings.
+	 */
+	@Test
+	public void rejectsDifferentScan(@TempDir Path directory) throws IOException {
+		Path path = directory.resolve("site.baseline");
+		new ScanBaseline(path, ROOT, TYPES).close();
+		
+		assertThrows(IOException.class, () -> new ScanBaseline(path, ROOT, EnumSet.of(FindingType.META)));
+	}
+	
+	/**
+	 * Creates the result of a successful request whose body has a fingerprint.
+	 * 
+	 * @param uri URI that the request was sent to.
+	 * @param fingerprint fingerprint of the body.
+	 * @param comments comments found in the body.
+	 * @return the result.
+	 */
+	private static ScanResult result(String uri, long fingerprint, String... comments) {
+		Findings findings = new Findings();
+		for (String comment : comments) {
+			findings.add(FindingType.COMMENT, comment);
+		}
+		return new ScanResult(URI.create(uri), new ResultWriterTest.StubResponse(URI.create(uri)), null).withFindings(findings).withFingerprint(fingerprint);
+	}
+}
@@ -0,0 +1,81 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScanCookieStore}.
+ */
+public class ScanCookieStoreTest {
+	/**
+	 * Cookies without a domain only apply to their host, and cookies with a domain also apply to its sub-domains.
+	 */
+	@Test
+	public void matchesDomains() {
+		ScanCookieStore store = new ScanCookieStore();
+		store.add(URI.create("http://example.com/"), new HttpCookie("host", "1"));
+		HttpCookie domain = new HttpCookie("domain", "2");
+		domain.setDomain(".example.com");
+		store.add(URI.create("http://example.com/"), domain);
+		
+		assertEquals(Set.of("host", "domain"), names(store.get(URI.create("http://example.com/a"))));
+		assertEquals(Set.of("domain"), names(store.get(URI.create("http://www.example.com/"))));
+		assertEquals(Set.of(), names(store.get(URI.create("http://notexample.com/"))));
+	}
+	
+	/**
+	 * Cookies are replaced by name, domain, and path, and removed once they have expired.
+	 */
+	@Test
+	public void replacesAndExpiresCookies() {
+		URI uri = URI.create("http://example.com/");
+		ScanCookieStore store = new ScanCookieStore();
+		store.add(uri, new HttpCookie("a", "1"));
+		store.add(uri, new HttpCookie("a", "2"));
+		assertEquals("2", store.get(uri).get(0).getValue());
+		
+		HttpCookie expired = new HttpCookie("a", "");
+		expired.setMaxAge(0);
+		store.add(uri, expired);
+		assertEquals(List.of(), store.getCookies());
+	}
+	
+	/**
+	 * Cookies set by the target are kept by the engine's own store, and sent alongside the supplied cookies.
+	 */
+	@Test
+	public void capturesSetCookie() throws IOException {
+		URI root = URI.create("http://localhost/");
+		HttpOptions options = new HttpOptions(root, "a=b;c=d");
+		try (HtmlScannerEngine engine = new HtmlScannerEngine(options); HtmlScannerEngine other = new HtmlScannerEngine(new HttpOptions(root))) {
+			CookieManager manager = new CookieManager(engine.getCookieStore(), CookiePolicy.ACCEPT_ORIGINAL_SERVER);
+			manager.put(URI.create("http://localhost/login"), Map.of("Set-Cookie", List.of("session=xyz; Path=/")));
+			
+			List<String> sent = manager.get(URI.create("http://localhost/admin"), Map.of()).get("Cookie");
+			assertEquals(Set.of("a=b", "c=d", "session=xyz"), Set.copyOf(sent));
+			assertTrue(other.getCookieStore().getCookies().isEmpty());
+		}
+	}
+	
+	/**
+	 * This method returns the names of cookies.
+	 * 
+	 * @param cookies cookies to name.
+	 * @return the names.
+	 */
+	private static Set<String> names(List<HttpCookie> cookies) {
+		return cookies.stream().map(HttpCookie::getName).collect(Collectors.toSet());
+	}
+}
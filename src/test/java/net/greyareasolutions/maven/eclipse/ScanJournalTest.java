@@ -0,0 +1,169 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ScanJournal}.
+ */
+public class ScanJournalTest {
+	/**
+	 * Root URI of each scan.
+	 */
+	private static final URI ROOT = URI.create("http://localhost/");
+	
+	/**
+	 * Types of findings used by each test.
+	 */
+	private static final Set<FindingType> TYPES = EnumSet.of(FindingType.COMMENT);
+	
+	/**
+	 * Directory of the journal, removed after each test.
+	 */
+	@TempDir
+	Path directory;
+	
+	/**
+	 * Completed URIs are skipped when resuming, but not when the journal is started again.
+	 */
+	@Test
+	public void resumesCompletedUris() throws IOException {
+		Path path = this.directory.resolve("scan.journal");
+		Findings findings = new Findings();
+		findings.add(FindingType.COMMENT, "comment");
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, false)) {
+			journal.record(URI.create("http://localhost/a"), 200, findings);
+			journal.record(URI.create("http://localhost/b"), 200, null);
+		}
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true)) {
+			assertEquals(2, journal.getResumed());
+			assertTrue(journal.isCompleted(URI.create("http://localhost/a")));
+			assertTrue(journal.isCompleted(URI.create("http://localhost/b")));
+			assertFalse(journal.isCompleted(URI.create("http://localhost/c")));
+			journal.record(URI.create("http://localhost/c"), 200, findings);
+		}
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true)) {
+			assertEquals(3, journal.getResumed());
+		}
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, false)) {
+			assertEquals(0, journal.getResumed());
+			assertFalse(journal.isCompleted(URI.create("http://localhost/a")));
+		}
+	}
+	
+	/**
+	 * The output of a resumed scan still holds the findings of the sub URIs completed by the previous run.
+	 */
+	@Test
+	public void replaysFindingsWhenResuming() throws IOException {
+		Path path = this.directory.resolve("scan.journal");
+		Findings findings = new Findings();
+		findings.add(FindingType.COMMENT, "comment");
+		
+		// The previous run completed both sub URIs before it was killed.
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, false)) {
+			journal.record(URI.create("http://localhost/a"), 200, findings);
+			journal.record(URI.create("http://localhost/b"), 404, new Findings());
+		}
+		
+		// Resume the scan, no request is sent as every sub URI has been completed.
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true); HtmlScannerEngine engine = new HtmlScannerEngine(new HttpOptions(ROOT)); ResultWriter writer = new ResultWriter(output, OutputFormat.NDJSON, TYPES, false)) {
+			MultiHtmlScanner scanner = new MultiHtmlScanner(engine, List.of("a", "b"));
+			scanner.setJournal(journal);
+			scanner.generateResponses(writer);
+		}
+		
+		assertEquals("{\"uri\":\"http://localhost/a\",\"status\":200,\"comments\":[\"comment\"]}\n"
+				+ "{\"uri\":\"http://localhost/b\",\"status\":404,\"comments\":[]}\n", output.toString(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * A partly written record at the end of the journal is discarded, and later records are still read.
+	 */
+	@Test
+	public void discardsPartlyWrittenRecord() throws IOException {
+		Path path = this.directory.resolve("scan.journal");
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, false)) {
+			journal.record(URI.create("http://localhost/a"), 200, null);
+			journal.record(URI.create("http://localhost/b"), 200, null);
+		}
+		
+		// Cut the last record short, as if the scan died whilst writing it.
+		long size = Files.size(path);
+		try (var channel = Files.newByteChannel(path, StandardOpenOption.WRITE)) {
+			channel.truncate(size - 3);
+		}
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true)) {
+			assertEquals(1, journal.getResumed());
+			assertFalse(journal.isCompleted(URI.create("http://localhost/b")));
+			journal.record(URI.create("http://localhost/b"), 200, null);
+		}
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true)) {
+			assertEquals(2, journal.getResumed());
+		}
+	}
+	
+	/**
+	 * A torn length at the end of the journal, whether negative or larger than the journal, is discarded.
+	 */
+	@Test
+	public void discardsTornLength() throws IOException {
+		Path path = this.directory.resolve("scan.journal");
+		
+		try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, false)) {
+			journal.record(URI.create("http://localhost/a"), 200, null);
+		}
+		long size = Files.size(path);
+		
+		for (int length : new int[] { -5, Integer.MAX_VALUE }) {
+			// Append a length and checksum, as if the scan died before the rest of the record was written.
+			try (var channel = Files.newByteChannel(path, StandardOpenOption.WRITE)) {
+				channel.truncate(size);
+				channel.position(size);
+				channel.write(ByteBuffer.allocate(Integer.BYTES * 2).putInt(length).putInt(0).flip());
+			}
+			
+			try (ScanJournal journal = new ScanJournal(path, ROOT, TYPES, true)) {
+				assertEquals(1, journal.getResumed());
+			}
+			assertEquals(size, Files.size(path));
+		}
+	}
+	
+	/**
+	 * A journal is not resumed by a scan of a different root URI or types.
+	 */
+	@Test
+	public void rejectsDifferentScan() throws IOException {
+		Path path = this.directory.resolve("scan.journal");
+		new ScanJournal(path, ROOT, TYPES, false).close();
+		
+		assertThrows(IOException.class, () -> new ScanJournal(path, ROOT, EnumSet.of(FindingType.META), true));
+		assertThrows(IOException.class, () -> new ScanJournal(path, URI.create("http://example.com/"), TYPES, true));
+	}
+}
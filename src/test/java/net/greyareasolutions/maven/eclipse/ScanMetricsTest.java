@@ -0,0 +1,102 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScanMetrics}.
+ */
+public class ScanMetricsTest {
+	/**
+	 * A metered body is handed on unchanged, whilst its bytes and phases are recorded.
+	 */
+	@Test
+	public void metersBody() {
+		ScanMetrics metrics = new ScanMetrics();
+		BodySubscriber<String> subscriber = metrics.meter(HttpResponse.BodyHandlers.ofString()).apply(new HttpResponse.ResponseInfo() {
+			@Override
+			public int statusCode() {
+				return 200;
+			}
+			
+			@Override
+			public HttpHeaders headers() {
+				return HttpHeaders.of(Map.of(), (name, value) -> true);
+			}
+			
+			@Override
+			public HttpClient.Version version() {
+				return HttpClient.Version.HTTP_1_1;
+			}
+		});
+		
+		subscriber.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(long n) {
+			}
+			
+			@Override
+			public void cancel() {
+			}
+		});
+		subscriber.onNext(List.of(ByteBuffer.wrap("<html>".getBytes(StandardCharsets.UTF_8)), ByteBuffer.wrap("</html>".getBytes(StandardCharsets.UTF_8))));
+		subscriber.onComplete();
+		
+		assertEquals("<html></html>", subscriber.getBody().toCompletableFuture().join());
+		assertEquals(13, metrics.getBytes());
+		assertEquals(1, metrics.getHistogram(ScanPhase.FIRST_BYTE).getCount());
+		assertEquals(1, metrics.getHistogram(ScanPhase.BODY).getCount());
+	}
+	
+	/**
+	 * Failed requests are counted as errors, and appear in the summary.
+	 */
+	@Test
+	public void countsResults() {
+		ScanMetrics metrics = new ScanMetrics();
+		metrics.recordResult(new ScanResult(URI.create("http://localhost/a"), null, null, null, new IOException("reset")), 2_000_000);
+		metrics.recordSkipped();
+		
+		assertEquals(1, metrics.getRequests());
+		assertEquals(1, metrics.getErrors());
+		assertEquals(0, metrics.getErrorStatuses());
+		assertEquals(1, metrics.getSkipped());
+		assertEquals(2_000_000, metrics.getHistogram(ScanPhase.TOTAL).getMax());
+		assertTrue(metrics.summary().contains("Errors: 1 failed"));
+		assertTrue(metrics.summary().contains("total"));
+		assertEquals("12.0 KB", ScanMetrics.formatBytes(12 * 1024));
+	}
+	
+	/**
+	 * The metrics are registered via JMX until closed.
+	 */
+	@Test
+	public void registersMBeans() throws JMException {
+		ObjectName name = new ObjectName(ScanMetrics.DOMAIN + ":type=ScanMetrics,phase=parse");
+		try (ScanMetrics metrics = new ScanMetrics()) {
+			metrics.register();
+			metrics.record(ScanPhase.PARSE, 5_000_000);
+			assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count"));
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+}
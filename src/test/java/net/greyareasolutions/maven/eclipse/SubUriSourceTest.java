@@ -0,0 +1,83 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link SubUriSource}.
+ */
+public class SubUriSourceTest {
+	/**
+	 * Directory of the wordlist, removed after each test.
+	 */
+	@TempDir
+	Path directory;
+	
+	/**
+	 * Lines are normalised, and empty, comment, and repeated lines are skipped.
+	 */
+	@Test
+	public void normalisesAndSkipsLines() throws IOException {
+		Path path = this.directory.resolve("wordlist.txt");
+		Files.writeString(path, "# comment\nlogin/\r\n\n  /admin \nlogin/\n//admin\n/\nlogin.php");
+		
+		try (SubUriSource subUris = new SubUriSource(path)) {
+			assertEquals(List.of("login/", "admin", "login.php"), read(subUris));
+			
+			// Each iterator reads the file again from its start.
+			assertEquals(List.of("login/", "admin", "login.php"), read(subUris));
+		}
+	}
+	
+	/**
+	 * Lines crossing the end of a window are read whole.
+	 */
+	@Test
+	public void readsLinesAcrossWindows() throws IOException {
+		Path path = this.directory.resolve("wordlist.txt");
+		List<String> expected = new ArrayList<>();
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			expected.add("page/" + i);
+			builder.append("page/").append(i).append('\n');
+		}
+		Files.writeString(path, builder);
+		
+		try (SubUriSource subUris = new SubUriSource(path, 16)) {
+			assertEquals(expected, read(subUris));
+		}
+	}
+	
+	/**
+	 * An empty file holds no sub URIs.
+	 */
+	@Test
+	public void readsEmptyFile() throws IOException {
+		Path path = Files.createFile(this.directory.resolve("wordlist.txt"));
+		
+		try (SubUriSource subUris = new SubUriSource(path)) {
+			assertFalse(subUris.iterator().hasNext());
+		}
+	}
+	
+	/**
+	 * Reads every sub URI of the source.
+	 * 
+	 * @param subUris source of the sub URIs.
+	 * @return the sub URIs in the order they were read.
+	 */
+	private static List<String> read(SubUriSource subUris) {
+		List<String> read = new ArrayList<>();
+		subUris.forEach(read::add);
+		return read;
+	}
+}
@@ -0,0 +1,52 @@
+package net.greyareasolutions.maven.eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VisitedSet} and {@link BloomFilter}.
+ */
+public class VisitedSetTest {
+	/**
+	 * Each URI is only reported as new once, including after the table has grown.
+	 */
+	@Test
+	public void addsEachUriOnce() {
+		for (boolean bloom : new boolean[] {false, true}) {
+			VisitedSet visited = new VisitedSet(16, bloom);
+			
+			for (int i = 0; i < 100_000; i++) {
+				assertTrue(visited.add("https://www.example.com/page?id=" + i));
+			}
+			for (int i = 0; i < 100_000; i++) {
+				assertFalse(visited.add("https://www.example.com/page?id=" + i));
+				assertTrue(visited.contains("https://www.example.com/page?id=" + i));
+			}
+			assertFalse(visited.contains("https://www.example.com/page?id=100000"));
+			assertEquals(100_000, visited.size());
+		}
+	}
+	
+	/**
+	 * The false positive rate of the Bloom filter stays close to the rate it was sized for.
+	 */
+	@Test
+	public void bloomFilterMeetsFalsePositiveRate() {
+		BloomFilter filter = new BloomFilter(100_000, 0.01);
+		for (int i = 0; i < 100_000; i++) {
+			filter.put(VisitedSet.hashOf("https://www.example.com/a/" + i));
+		}
+		
+		// Count how many URIs which were never added are reported as possibly present.
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain(VisitedSet.hashOf("https://www.example.com/b/" + i))) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 2000, "False positive rate of " + falsePositives / 100_000.0);
+	}
+}